@@ -0,0 +1,141 @@
+package ghost;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+/** 
+* Maps and games used by the benchmarks.
+* A map is either a txt file in the home directory, such as map.txt,
+* or a synthetic maze named maze-N, which is generated as an N by N grid.
+*/
+public class BenchmarkMaps{
+
+    /** 
+    * The prefix of the names of synthetic mazes.
+    */
+    public static final String MAZE = "maze-";
+
+    private static final Direction[] TURNS = {Direction.LEFT, Direction.UP, Direction.RIGHT, Direction.DOWN};
+
+    private static final Map<String, String> mazeFiles = new HashMap<String, String>();
+
+    /** 
+    * To get the txt file of a map, generating it first if it is a synthetic maze.
+    * A maze is only written the first time it is asked for, so every game of it reads the same file.
+    * @param name The name of the map, either a filename or maze-N.
+    * @return The path of the txt file of the map.
+    */
+    public static synchronized String getMapFile(String name){
+        if (!name.startsWith(MAZE)){
+            return name;
+        }
+
+        String path = mazeFiles.get(name);
+        if (path == null){
+            path = writeMazeFile(name);
+            mazeFiles.put(name, path);
+        }
+        return path;
+    }
+
+    // Writes a synthetic maze to a temporary file that is deleted when the benchmark exits.
+    private static String writeMazeFile(String name){
+        int size = Integer.parseInt(name.substring(MAZE.length()));
+        try{
+            File f = File.createTempFile("maze" + size + "-", ".txt");
+            f.deleteOnExit();
+            writeMaze(f, size);
+            return f.getPath();
+        } catch (IOException e){
+            throw new IllegalStateException("Could not write maze " + name, e);
+        }
+    }
+
+    /** 
+    * Creates a game of a map that is set up without a sketch, where Waka turns every second.
+    * The rest of the config is read from config.json.
+    * @param name The name of the map, either a filename or maze-N.
+    * @return The engine that steps the game.
+    */
+    public static Engine newEngine(String name){
+        Game game = new Game(new ConfigReader());
+        game.setMapFile(getMapFile(name));
+        return new Engine(game, frameCount -> getTurn(frameCount));
+    }
+
+    /** 
+    * To get the direction Waka is turned to in a frame, which changes every second.
+    * @param frameCount The current frame of the game.
+    * @return The direction Waka is turned to.
+    */
+    public static Direction getTurn(int frameCount){
+        return TURNS[(frameCount/60) % TURNS.length];
+    }
+
+    /** 
+    * To get the ghost of a type in a game.
+    * @param game The game the ghost is in.
+    * @param type The type of the ghost, as written in a map file.
+    * @return The first ghost of the type in the game.
+    */
+    public static Ghost getGhost(Game game, String type){
+        for (Ghost ghost : game.getGhosts()){
+            if ((type.equals("a") && ghost instanceof Ambusher) || (type.equals("c") && ghost instanceof Chaser)
+                    || (type.equals("i") && ghost instanceof Ignorant) || (type.equals("w") && ghost instanceof Whim)){
+                return ghost;
+            }
+        }
+        throw new IllegalArgumentException("There is no ghost of type " + type);
+    }
+
+    /** 
+    * Writes a maze of corridors full of fruits around a lattice of wall pillars.
+    * Waka starts at the top left corner and the ghosts start in the other corners and along the bottom.
+    * @param f The file the maze is written to.
+    * @param size The number of rows and columns of the maze, at least 9.
+    * @throws IOException If the file cannot be written.
+    */
+    public static void writeMaze(File f, int size) throws IOException{
+        // Odd sizes keep the corridors on odd rows and columns all the way around.
+        int last = (size % 2 == 0) ? size - 2 : size - 1;
+
+        try (PrintWriter writer = new PrintWriter(f)){
+            for (int i = 0; i < size; i++){
+                StringBuilder line = new StringBuilder(size);
+                for (int j = 0; j < size; j++){
+                    line.append(getSymbol(i, j, last));
+                }
+                writer.println(line);
+            }
+        }
+    }
+
+    // Gets the symbol of a cell of the maze.
+    private static char getSymbol(int row, int col, int last){
+        if (row == 1 && col == 1){
+            return 'p';
+        }else if (row == 1 && col == last - 1){
+            return 'a';
+        }else if (row == last - 1 && col == 1){
+            return 'c';
+        }else if (row == last - 1 && col == last - 1){
+            return 'i';
+        }else if (row == last - 1 && col == ((last/2) | 1)){
+            return 'w';
+        }
+
+        if (row == 0 || col == 0 || row >= last || col >= last){
+            return row == 0 || row >= last ? '1' : '2';
+        }
+        if (row % 2 == 0 && col % 2 == 0){
+            return '2';
+        }
+        if (row == 3 && col == 3){
+            return '8';
+        }
+        return '7';
+    }
+}
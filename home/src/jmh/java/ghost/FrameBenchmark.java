@@ -0,0 +1,58 @@
+package ghost;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** 
+* Benchmarks of a whole frame of a game without a sketch.
+*/
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameBenchmark{
+
+    @Param({"map.txt", "map1.txt", "maze-65", "maze-257"})
+    public String map;
+
+    private Engine engine;
+
+    @Setup(Level.Iteration)
+    public void setUp(){
+        engine = BenchmarkMaps.newEngine(map);
+    }
+
+    /** 
+    * Starts a new game once the one before it is over, outside of the timed frame,
+    * so that every frame that is measured is spent playing.
+    */
+    @Setup(Level.Invocation)
+    public void restart(){
+        if (engine.getGame().getStatus() != Status.PLAYING){
+            setUp();
+        }
+    }
+
+    /** 
+    * Steps the game one frame.
+    * @return The engine that stepped the game.
+    */
+    @Benchmark
+    public Engine step(){
+        engine.step();
+        return engine;
+    }
+}
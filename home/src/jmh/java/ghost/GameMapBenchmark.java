@@ -0,0 +1,67 @@
+package ghost;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/** 
+* Benchmarks of parsing maps, and of loading them once they have been compiled, from the small maps of the game up to a generated maze of 4001 by 4001 cells.
+* The garbage made by each parse can be measured with -PjmhArgs="GameMapBenchmark -prof gc".
+*/
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameMapBenchmark{
+
+    @Param({"map.txt", "map1.txt", "maze-65", "maze-257", "maze-1025", "maze-4001"})
+    public String map;
+
+    private String mapFile;
+    private String compiledFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException{
+        mapFile = BenchmarkMaps.getMapFile(map);
+        File compiled = File.createTempFile("compiled-", ".bin");
+        compiled.deleteOnExit();
+        MapCompiler.compile(mapFile, compiled);
+        compiledFile = compiled.getPath();
+    }
+
+    /** 
+    * Parses the map from its txt file.
+    * @return The parsed map.
+    */
+    @Benchmark
+    public GameMap parseMap(){
+        GameMap gameMap = new GameMap();
+        gameMap.parseMap(mapFile);
+        return gameMap;
+    }
+
+    /** 
+    * Loads the map from the file it has been compiled into.
+    * @return The loaded map.
+    */
+    @Benchmark
+    public GameMap loadCompiledMap(){
+        GameMap gameMap = new GameMap();
+        gameMap.parseMap(compiledFile);
+        return gameMap;
+    }
+}
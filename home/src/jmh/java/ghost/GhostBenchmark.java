@@ -0,0 +1,90 @@
+package ghost;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** 
+* Benchmarks of the logic of each type of ghost.
+*/
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GhostBenchmark{
+
+    @Param({"map.txt", "maze-65", "maze-257"})
+    public String map;
+
+    @Param({"a", "c", "i", "w"})
+    public String type;
+
+    private Ghost ghost;
+    private List <Tile> availableTiles;
+    private Tile[] currentTiles;
+    private int availableMoves;
+    private Tile targetTile;
+    private int frameCount;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        Engine engine = BenchmarkMaps.newEngine(map);
+        ghost = BenchmarkMaps.getGhost(engine.getGame(), type);
+        currentTiles = ghost.getCurrentTiles();
+        availableTiles = ghost.getAvailableTiles(currentTiles);
+        availableMoves = ghost.getAvailableMoves(currentTiles);
+        targetTile = ghost.getTargetTile();
+        frameCount = 0;
+    }
+
+    /** 
+    * One tick of the ghost, which picks its next Tile and moves.
+    * @return The ghost that ticked.
+    */
+    @Benchmark
+    public Ghost tick(){
+        frameCount++;
+        ghost.tick(frameCount);
+        return ghost;
+    }
+
+    /** 
+    * Picks the next Tile from the Tiles around the ghost's starting position.
+    * @return The next Tile of the ghost.
+    */
+    @Benchmark
+    public Tile getNextTile(){
+        return ghost.getNextTile(availableTiles, targetTile);
+    }
+
+    /** 
+    * Picks the next move from the moves around the ghost's starting position.
+    * @return The index of the next Tile of the ghost.
+    */
+    @Benchmark
+    public int getNextMove(){
+        return ghost.getNextMove(availableMoves, currentTiles, targetTile);
+    }
+
+    /** 
+    * Works out the target Tile of the ghost.
+    * @return The target Tile of the ghost.
+    */
+    @Benchmark
+    public Tile getTargetTile(){
+        return ghost.getTargetTile();
+    }
+}
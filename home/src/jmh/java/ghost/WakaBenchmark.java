@@ -0,0 +1,61 @@
+package ghost;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** 
+* Benchmarks of the movement of Waka.
+*/
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WakaBenchmark{
+
+    @Param({"map.txt", "map1.txt", "maze-65", "maze-257"})
+    public String map;
+
+    private Waka player;
+    private int frameCount;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        Engine engine = BenchmarkMaps.newEngine(map);
+        player = engine.getGame().getPlayer();
+        frameCount = 0;
+    }
+
+    /** 
+    * Moves Waka one step, turning every second so it keeps going around the map.
+    * @return The player that moved.
+    */
+    @Benchmark
+    public Waka moveWaka(){
+        frameCount++;
+        player.setKeyQueue(BenchmarkMaps.getTurn(frameCount));
+        player.moveWaka();
+        return player;
+    }
+
+    /** 
+    * Gets the Tile Waka is on and the Tiles around it.
+    * @return The Tile itself and the Tiles above, below, left and right.
+    */
+    @Benchmark
+    public Tile[] getCurrentTiles(){
+        return player.getCurrentTiles();
+    }
+}
@@ -25,8 +25,8 @@ public class Ambusher extends Ghost{
     */
     public Ambusher(GameMap map, Long speed, Waka player, List <Long> modeLengths, int num, Long frightenedLength){
         super(map, speed, player, modeLengths, frightenedLength);
-        this.x = map.getGhostStart("a").get(num).get(0);
-        this.y = map.getGhostStart("a").get(num).get(1);
+        List <Long> start = map.getGhostStart("a").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
@@ -43,16 +43,34 @@ public class Ambusher extends Ghost{
     */
     public Ambusher(GameMap map, Long speed, PImage sprite, Waka player, List <Long> modeLengths, int num, Long frightenedLength, PImage frightenedSprite){
         super(map, speed, sprite, player, modeLengths, frightenedLength, frightenedSprite);
-        this.x = map.getGhostStart("a").get(num).get(0);
-        this.y = map.getGhostStart("a").get(num).get(1);
+        List <Long> start = map.getGhostStart("a").get(num);
+        setLocation(start.get(0), start.get(1));
+    }
+
+    /** 
+    * Overloaded constructor of Ambusher that receives sprites and shares its mode 
+    * and frightened state with the other ghosts of a game.
+    * Used when Ambusher is part of a Game.
+    * @param map The map of the game.
+    * @param speed The speed of Ambusher when moving.
+    * @param sprite The sprite of Ambusher.
+    * @param player The player as Waka.
+    * @param coordinator The state shared by all ghosts of the game.
+    * @param num The number of the Ambusher ghost to differentiate between multiple Ambushers (if there are more than one).
+    * @param frightenedSprite The frightened sprite.
+    */
+    public Ambusher(GameMap map, Long speed, PImage sprite, Waka player, GhostCoordinator coordinator, int num, PImage frightenedSprite){
+        super(map, speed, sprite, player, coordinator, frightenedSprite);
+        List <Long> start = map.getGhostStart("a").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
     * Makes Ambusher goes back to its starting position.
     */
     public void backToStart(){
-        x  = map.getGhostStart("a").get(num).get(0);
-        y = map.getGhostStart("a").get(num).get(1);
+        List <Long> start = map.getGhostStart("a").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
@@ -63,46 +81,46 @@ public class Ambusher extends Ghost{
     public Tile getTargetTile(){
         Tile[] playerTiles = player.getCurrentTiles();
         Tile targetTile = playerTiles[0];
-        if (super.ghostMode == Mode.CHASE){
+        if (getMode() == Mode.CHASE){
         
             Direction direction = player.getMoveDirection();
-            int row = targetTile.getRow().intValue();
-            int col = targetTile.getCol().intValue();
+            int row = targetTile.getRowIndex();
+            int col = targetTile.getColIndex();
 
             if (direction.equals(Direction.UP)){
 
                 // When the target is out of upper bounds, it sets to the top most tile if the grid instead.
-                if (targetTile.getRow()-4 >0){
-                    targetTile =this.map.getGrid().get(row-4).get(col);
+                if (row-4 >0){
+                    targetTile =this.map.getTile(row-4, col);
                 }else{
-                    targetTile = this.map.getGrid().get(0).get(col);
+                    targetTile = this.map.getTile(0, col);
                 }
             } else if (direction.equals(Direction.DOWN)){
 
                 // When the target is out of lower bounds, it sets to the bottom most tile if the grid instead.
-                if (targetTile.getRow()+4 <=map.getRowNum()-1){
-                    targetTile =this.map.getGrid().get(row+4).get(col);
+                if (row+4 <=map.getRowNum()-1){
+                    targetTile =this.map.getTile(row+4, col);
                 }else{
-                    targetTile = this.map.getGrid().get(map.getRowNum()-1).get(col);
+                    targetTile = this.map.getTile(map.getRowNum()-1, col);
                 }
             } else if (direction.equals(Direction.RIGHT)){
 
                 // When the target is out of right bounds, it sets to the furthest right tile if the grid instead.
-                if (targetTile.getCol()+4 <=map.getColNum()-1){
-                    targetTile =this.map.getGrid().get(row).get(col+4);
+                if (col+4 <=map.getColNum()-1){
+                    targetTile =this.map.getTile(row, col+4);
                 }else{
-                    targetTile = this.map.getGrid().get(row).get(map.getColNum()-1);
+                    targetTile = this.map.getTile(row, map.getColNum()-1);
                 }
             } else if (direction.equals(Direction.LEFT)){
 
                 // When the target is out of left bounds, it sets to the furthest left tile if the grid instead.
-                if (targetTile.getCol()-4 >0){
-                    targetTile =this.map.getGrid().get(row).get(col-4);
+                if (col-4 >0){
+                    targetTile =this.map.getTile(row, col-4);
                 }else{
-                    targetTile = this.map.getGrid().get(row).get(0);
+                    targetTile = this.map.getTile(row, 0);
                 }
             }
-        }else if (super.ghostMode == Mode.SCATTER){
+        }else if (getMode() == Mode.SCATTER){
             targetTile = map.getTopRightCorner();
         }
 
@@ -16,22 +16,39 @@ public class App extends PApplet {
     public static final int WIDTH = 448;
     public static final int HEIGHT = 576;
 
-    private ConfigReader config;
+    private ConfigWatcher configWatcher;
+    private GameConfig config;
     private  Game wakaWaka;
+    private AssetCache assets;
     private boolean gameEnded;
-    private static final int restartCount = 600;
+    private static final int restartSeconds = 10;
     private int endCount;
+    private int level;
+    private FixedTimestep timestep;
+    private SimulationThread simulation;
+    private GamePreloader preloader;
+    private FrameRasterizer rasterizer;
+    private PImage frame;
 
 
 
     /** 
     * Sets up the game and reads the config.json file.
+    * The file is parsed once, and parsed again only when it changes, so that the games
+    * after a restart use the new config without the app being restarted.
     */
     public App() {
         //Set up your objects
-        config = new ConfigReader();
-        wakaWaka = new Game(config);
+        configWatcher = new ConfigWatcher("config.json");
+        configWatcher.start();
+        config = configWatcher.get();
+        assets = AssetCache.shared();
+        level = 0;
+        wakaWaka = new Game(config.getLevel(level));
+        wakaWaka.setAssets(assets);
         gameEnded= false;
+        timestep = new FixedTimestep(config.getTickRate());
+        preloader = new GamePreloader();
 
     }
 
@@ -40,9 +57,46 @@ public class App extends PApplet {
     */
     public void setup() {
         frameRate(60);
-        wakaWaka.loadSprites(this);
-        wakaWaka.setUp(this);
+        startGame();
+    }
 
+    /** 
+    * Starts the game, loading its sprites and setting it up first unless it has been preloaded.
+    */
+    private void startGame(){
+        if (config.isSimulationThread()){
+            startSimulation();
+        }else if (!wakaWaka.isSetUp()){
+            wakaWaka.loadSprites(this);
+            wakaWaka.setUp(this);
+        }
+    }
+
+    /** 
+    * Starts running the game on its own thread, and makes the frame its snapshots are drawn into.
+    * The game is set up by the simulation unless it has been preloaded, and is not touched by the app after this.
+    */
+    private void startSimulation(){
+        if (rasterizer == null){
+            rasterizer = new FrameRasterizer(SpriteAtlas.fromClasspath(), WIDTH, HEIGHT);
+            frame = createImage(WIDTH, HEIGHT, ARGB);
+        }
+        simulation = new SimulationThread(wakaWaka, config.getTickRate());
+        simulation.start();
+    }
+
+    /** 
+    * Draws a text in the middle of the window from the cache of the app,
+    * so that the game, which may still be owned by its own thread, is not touched.
+    * @param message The message that the text displays.
+    */
+    private void displayText(String message){
+        PImage text = assets.getText(this, "PressStart2P-Regular.ttf", 32, message);
+
+        pushStyle();
+        imageMode(CENTER);
+        image(text, width/2, height/2);
+        popStyle();
     }
 
     /** 
@@ -56,40 +110,108 @@ public class App extends PApplet {
     * Evokes Game class's method for keyReleased.
     */
     public void keyReleased(){
-        wakaWaka.keyReleased(this);
+        if (simulation != null){
+            // The keys are handed to the game's thread instead of read by the game from the app.
+            if (key == ' '){
+                simulation.toggleDebug();
+            }else if (key == CODED){
+                if (keyCode == UP){
+                    simulation.keyReleased(Direction.UP);
+                }else if (keyCode == DOWN){
+                    simulation.keyReleased(Direction.DOWN);
+                }else if (keyCode == LEFT){
+                    simulation.keyReleased(Direction.LEFT);
+                }else if (keyCode == RIGHT){
+                    simulation.keyReleased(Direction.RIGHT);
+                }
+            }
+        }else{
+            wakaWaka.keyReleased(this);
+        }
     }
 
     /** 
     * Draws the whole game.
     * This includes the map, player, ghosts, 
+    * or only the regions of them that have changed if the config asks for it,
+    * or the latest snapshot of the game if it runs on its own thread,
     * and also the "GAME OVER" and "YOU WIN" texts should a player lose or win respectively.
     */
     public void draw() { 
-        background(0, 0, 0);
+        // When the game runs on its own thread, only its latest snapshot is looked at, and never the game itself.
+        WorldSnapshot snapshot = null;
+        Status status;
+        boolean isDirtyRendering;
+        if (simulation != null){
+            snapshot = simulation.getSnapshot();
+            status = snapshot.getStatus();
+            isDirtyRendering = false;
+        }else{
+            status = wakaWaka.getStatus();
+            isDirtyRendering = wakaWaka.isDirtyRendering();
+        }
+
+        // When only the changed regions are repainted, the screen is not cleared while playing.
+        if (!isDirtyRendering || status != Status.PLAYING){
+            background(0, 0, 0);
+        }
         imageMode(CENTER);
 
+        // The game runs at a fixed number of ticks a second, however fast the frames are drawn.
+        int ticks = timestep.advance(System.nanoTime());
+
         // If the player wins or the player loses, the relevant texts will be on screen.
-        if(wakaWaka.getStatus() == Status.WIN || wakaWaka.getStatus() == Status.LOSE){
-            if (wakaWaka.getStatus() == Status.WIN ){
-                wakaWaka.displayText(this, "YOU WIN");
-            }else if (wakaWaka.getStatus() == Status.LOSE ){
-                wakaWaka.displayText(this, "GAME OVER");   
+        if(status == Status.WIN || status == Status.LOSE){
+            if (status == Status.WIN ){
+                displayText("YOU WIN");
+            }else if (status == Status.LOSE ){
+                displayText("GAME OVER");   
             }
 
-            //If the game is won or lost, it ends and restarts after 10 seconds with a new game.
+            //If the game is won or lost, it ends and restarts after 10 seconds with a new game,
+            //which is the next level if the game is won, or the first level if it is lost.
             if (!gameEnded){
                 gameEnded = true;
-                endCount= frameCount + restartCount;
+                endCount= restartSeconds*config.getTickRate();
+
+                // The new game uses the latest config, which has already been parsed,
+                // and is loaded in the background while the end screen is drawn.
+                if (status == Status.WIN && level + 1 < configWatcher.get().getLevelCount()){
+                    level++;
+                }else if (status == Status.LOSE){
+                    level = 0;
+                }
+                config = configWatcher.get();
+                preloader.preload(config.getLevel(level), assets, frameCount, !config.isSimulationThread());
             } else if (gameEnded){
-                if (frameCount == endCount){
-                    config = new ConfigReader();
-                    wakaWaka = new Game(config);
+                endCount -= ticks;
+                if (endCount <= 0){
+                    if (simulation != null){
+                        simulation.stop();
+                        simulation = null;
+                    }
+                    if (timestep.getTickRate() != config.getTickRate()){
+                        timestep = new FixedTimestep(config.getTickRate());
+                    }
+
+                    // The new game has been set up already, so it is only swapped in.
+                    wakaWaka = preloader.take();
+                    if (!config.isSimulationThread()){
+                        wakaWaka.setCamera(width, height);
+                    }
                     gameEnded= false;
-                    this.setup();
+                    startGame();
                 }
             }
+        }else if (snapshot != null){
+            // The snapshot is drawn into the frame's pixels, which is then drawn in one go.
+            frame.loadPixels();
+            rasterizer.rasterize(snapshot, frame.pixels);
+            frame.updatePixels();
+            imageMode(CORNER);
+            image(frame, 0, 0);
         }else{
-            wakaWaka.draw(this);
+            wakaWaka.draw(this, ticks, timestep.getAlpha());
         }
 
     }
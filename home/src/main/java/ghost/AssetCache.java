@@ -0,0 +1,203 @@
+package ghost;
+
+import processing.core.PApplet;
+import processing.core.PFont;
+import processing.core.PGraphics;
+import processing.core.PImage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+
+/** 
+* Cache of the fonts, texts, sprites and maps of Waka Waka, so that they are loaded, drawn and parsed only once.
+* A font is loaded the first time a size of it is asked for, and a text such as "YOU WIN" or
+* "GAME OVER" is drawn into an image the first time it is asked for, which is then drawn every frame.
+* A sprite is decoded the first time it is asked for, and a map is parsed and validated into a template
+* the first time it is asked for, which every game after that loads its map from.
+* The cache can be kept across games, since nothing in it depends on the game, and one cache is shared
+* by the whole process. It can be used by the thread that preloads the next game while the app draws.
+*/
+public class AssetCache{
+
+    private static final AssetCache shared = new AssetCache();
+
+    private HashMap <String, PFont> fonts;
+    private HashMap <String, PImage> texts;
+    private HashMap <String, PImage> sprites;
+    private HashMap <String, MapTemplate> maps;
+    private SpriteAtlas atlas;
+    private boolean isAtlasLoaded;
+
+    /** 
+    * Constructor of AssetCache, which is empty.
+    */
+    public AssetCache(){
+        this.fonts = new HashMap <String, PFont>();
+        this.texts = new HashMap <String, PImage>();
+        this.sprites = new HashMap <String, PImage>();
+        this.maps = new HashMap <String, MapTemplate>();
+        this.isAtlasLoaded = false;
+    }
+
+    /** 
+    * To get the cache shared by the whole process, which games use unless they are given their own.
+    * @return The shared cache.
+    */
+    public static AssetCache shared(){
+        return shared;
+    }
+
+    /** 
+    * To get a font in a size, loading it the first time.
+    * @param app To load the font.
+    * @param fontName The file or name of the font.
+    * @param size The size of the font.
+    * @return The font in the size.
+    */
+    public synchronized PFont getFont(PApplet app, String fontName, int size){
+        String key = fontName + "@" + size;
+        PFont font = fonts.get(key);
+        if (font == null){
+            font = app.createFont(fontName, size);
+            fonts.put(key, font);
+        }
+        return font;
+    }
+
+    /** 
+    * To get an image of a text in a font, drawing it the first time.
+    * The text is white on a transparent background, and the image is just big enough to fit it.
+    * @param app To load the font and create the image.
+    * @param fontName The file or name of the font.
+    * @param size The size of the font.
+    * @param message The text to be drawn.
+    * @return The image of the text.
+    */
+    public synchronized PImage getText(PApplet app, String fontName, int size, String message){
+        String key = fontName + "@" + size + ":" + message;
+        PImage text = texts.get(key);
+        if (text == null){
+            text = drawText(app, getFont(app, fontName, size), message);
+            texts.put(key, text);
+        }
+        return text;
+    }
+
+    /** 
+    * To get a sprite, decoding it the first time.
+    * It is cut out of the atlas packed at build time, which is decoded once from the classpath,
+    * or loaded from its own file on the classpath if the atlas does not have it.
+    * No sketch is needed, so the sprites can be loaded on any thread.
+    * The sprite is shared by every game, so it must not be changed.
+    * @param name The name of the sprite, which is the name of its png file without ".png".
+    * @return The sprite, or null if it could not be loaded.
+    */
+    public synchronized PImage getSprite(String name){
+        PImage sprite = sprites.get(name);
+        if (sprite == null){
+            if (!isAtlasLoaded){
+                atlas = SpriteAtlas.load();
+                isAtlasLoaded = true;
+            }
+            if (atlas != null){
+                sprite = atlas.get(name);
+            }
+            if (sprite == null){
+                sprite = SpriteAtlas.loadSprite(name);
+            }
+            if (sprite != null){
+                sprites.put(name, sprite);
+            }
+        }
+        return sprite;
+    }
+
+    /** 
+    * To get the template of a map, parsing and validating it the first time, and again only when its file changes.
+    * The template is the map compiled by MapCompiler, which a GameMap loads without parsing it,
+    * and whose cells are only copied by a game when it first changes one of them.
+    * @param mapFile The txt file of the map, or a compiled map file.
+    * @return A read-only view of the compiled map, from its position to its limit, which is only used by one game.
+    * @throws IllegalArgumentException If the map cannot be played, such as when a fruit cannot be reached.
+    */
+    public synchronized ByteBuffer getMapTemplate(String mapFile){
+        long modified = lastModified(mapFile);
+        MapTemplate template = maps.get(mapFile);
+        if (template == null || template.modified != modified){
+            GameMap map = new GameMap();
+            map.parseMap(mapFile);
+
+            // A broken map is rejected before the game starts, instead of breaking the game while it is played.
+            MapReport report = map.validate();
+            if (!report.isValid()){
+                maps.remove(mapFile);
+                throw new IllegalArgumentException("The map " + mapFile + " cannot be played:\n" + report);
+            }
+            template = new MapTemplate(modified, MapCompiler.compile(map).asReadOnlyBuffer());
+            maps.put(mapFile, template);
+        }
+        return template.bytes.duplicate();
+    }
+
+    // Gets the time a file was last changed, or -1 if it cannot be read.
+    private static long lastModified(String fileName){
+        try{
+            return Files.getLastModifiedTime(Paths.get(fileName)).toMillis();
+        } catch (IOException e){
+            return -1;
+        }
+    }
+
+    /** 
+    * To get the number of fonts, texts, sprites and maps in the cache.
+    * @return The number of fonts, texts, sprites and maps in the cache.
+    */
+    public synchronized int size(){
+        return fonts.size() + texts.size() + sprites.size() + maps.size();
+    }
+
+    /** 
+    * Empties the cache, so everything is loaded, drawn or parsed again the next time it is asked for.
+    */
+    public synchronized void clear(){
+        fonts.clear();
+        texts.clear();
+        sprites.clear();
+        maps.clear();
+        atlas = null;
+        isAtlasLoaded = false;
+    }
+
+    // Draws a text into an image the size of the text.
+    private PImage drawText(PApplet app, PFont font, String message){
+        app.pushStyle();
+        app.textFont(font);
+        int width = (int) Math.ceil(app.textWidth(message)) + 2;
+        int height = (int) Math.ceil(app.textAscent() + app.textDescent()) + 2;
+        app.popStyle();
+
+        PGraphics text = app.createGraphics(width, height);
+        text.beginDraw();
+        text.clear();
+        text.textFont(font);
+        text.textAlign(PApplet.CENTER, PApplet.CENTER);
+        text.fill(255);
+        text.text(message, width/2f, height/2f);
+        text.endDraw();
+        return text;
+    }
+
+    // A parsed and validated map, and the time its file was last changed when it was parsed.
+    private static class MapTemplate{
+        private final long modified;
+        private final ByteBuffer bytes;
+
+        MapTemplate(long modified, ByteBuffer bytes){
+            this.modified = modified;
+            this.bytes = bytes;
+        }
+    }
+}
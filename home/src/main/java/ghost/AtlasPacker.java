@@ -0,0 +1,169 @@
+package ghost;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/** 
+* Build step that packs the sprites of Waka Waka into one atlas image and an index of where each sprite is.
+* The sprites are placed on shelves, tallest first, with a pixel of space between them.
+* It is run by the packAtlas task of the build, and the atlas is read back by SpriteAtlas.
+*/
+public class AtlasPacker{
+
+    /** 
+    * The width of the atlas in pixels.
+    */
+    public static final int WIDTH = 256;
+
+    /** 
+    * The space between the sprites in pixels, so that they do not bleed into each other when scaled.
+    */
+    public static final int PADDING = 1;
+
+    private List <String> names;
+    private List <BufferedImage> images;
+    private List <int[]> bounds;
+
+    /** 
+    * Constructor of AtlasPacker, without any sprites.
+    */
+    public AtlasPacker(){
+        this.names = new ArrayList <String>();
+        this.images = new ArrayList <BufferedImage>();
+        this.bounds = new ArrayList <int[]>();
+    }
+
+    /** 
+    * Adds a sprite to be packed.
+    * @param name The name the sprite is looked up by.
+    * @param image The image of the sprite.
+    */
+    public void add(String name, BufferedImage image){
+        names.add(name);
+        images.add(image);
+    }
+
+    /** 
+    * Adds every png file of a directory, named after the file without ".png".
+    * @param directory The directory of the png files.
+    * @throws IOException If a png file cannot be read.
+    */
+    public void addDirectory(File directory) throws IOException{
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(".png"));
+        if (files == null){
+            throw new IOException("Cannot list the sprites in " + directory);
+        }
+
+        // The files are added in the same order every time, so the atlas is the same in every build.
+        Arrays.sort(files);
+        for (File file : files){
+            BufferedImage image = ImageIO.read(file);
+            if (image == null){
+                throw new IOException("Cannot read the sprite " + file);
+            }
+            String name = file.getName();
+            add(name.substring(0, name.length() - ".png".length()), image);
+        }
+    }
+
+    /** 
+    * Packs the sprites that have been added into one image.
+    * @return The atlas with every sprite drawn into it.
+    */
+    public BufferedImage pack(){
+        Integer[] order = new Integer[images.size()];
+        for (int i = 0; i < order.length; i++){
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> -images.get(i).getHeight()).thenComparing(i -> names.get(i)));
+
+        // Places the sprites left to right on shelves, starting a new shelf when a row is full.
+        int[][] placed = new int[images.size()][];
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (int i : order){
+            BufferedImage image = images.get(i);
+            if (image.getWidth() > WIDTH){
+                throw new IllegalArgumentException("The sprite " + names.get(i) + " is wider than the atlas");
+            }
+            if (x + image.getWidth() > WIDTH){
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            placed[i] = new int[]{x, y, image.getWidth(), image.getHeight()};
+            x += image.getWidth() + PADDING;
+            shelfHeight = Math.max(shelfHeight, image.getHeight());
+        }
+
+        BufferedImage atlas = new BufferedImage(WIDTH, Math.max(y + shelfHeight, 1), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = atlas.createGraphics();
+        for (int i = 0; i < placed.length; i++){
+            graphics.drawImage(images.get(i), placed[i][0], placed[i][1], null);
+        }
+        graphics.dispose();
+
+        bounds = Arrays.asList(placed);
+        return atlas;
+    }
+
+    /** 
+    * To get the index of the atlas, which has a line of "x y width height name" for each sprite.
+    * The sprites have to be packed first.
+    * @return The lines of the index.
+    */
+    public List <String> getIndex(){
+        List <String> index = new ArrayList <String>();
+        for (int i = 0; i < bounds.size(); i++){
+            int[] sprite = bounds.get(i);
+            index.add(sprite[0] + " " + sprite[1] + " " + sprite[2] + " " + sprite[3] + " " + names.get(i));
+        }
+        return index;
+    }
+
+    /** 
+    * Packs the sprites and writes the atlas and its index into a directory.
+    * @param directory The directory the atlas and index are written into.
+    * @throws IOException If the files cannot be written.
+    */
+    public void write(File directory) throws IOException{
+        BufferedImage atlas = pack();
+        directory.mkdirs();
+        ImageIO.write(atlas, "png", new File(directory, SpriteAtlas.IMAGE));
+        try (PrintWriter writer = new PrintWriter(new File(directory, SpriteAtlas.INDEX), "UTF-8")){
+            for (String line : getIndex()){
+                writer.println(line);
+            }
+        }
+    }
+
+    /** 
+    * Packs the png files of a directory into an atlas.
+    * @param args The directory of the sprites, and the directory the atlas is written into.
+    */
+    public static void main(String[] args){
+        if (args.length != 2){
+            System.err.println("Usage: AtlasPacker <sprite directory> <output directory>");
+            System.exit(1);
+        }
+
+        try{
+            AtlasPacker packer = new AtlasPacker();
+            packer.addDirectory(new File(args[0]));
+            packer.write(new File(args[1]));
+            System.out.println("Packed " + packer.names.size() + " sprites into " + new File(args[1], SpriteAtlas.IMAGE));
+        } catch (IOException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package ghost;
+
+/** 
+* Camera that shows the part of a map that fits in the window, for maps larger than the window.
+* It follows Waka, keeping it in the middle of the view, but never shows anything outside of the map.
+* When the map fits in the window the view does not move, and the map is drawn from the top left corner as before.
+* The Tiles and creatures outside of the view are not drawn, so drawing costs as much as the view and not the whole map.
+*/
+public class Camera{
+
+    private int viewWidth;
+    private int viewHeight;
+    private int worldWidth;
+    private int worldHeight;
+    private int x;
+    private int y;
+
+    /** 
+    * Constructor of Camera, which starts at the top left corner of the map.
+    * @param viewWidth The width of the view in pixels, such as the width of the window.
+    * @param viewHeight The height of the view in pixels.
+    * @param worldWidth The width of the map in pixels.
+    * @param worldHeight The height of the map in pixels.
+    */
+    public Camera(int viewWidth, int viewHeight, int worldWidth, int worldHeight){
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.x = 0;
+        this.y = 0;
+    }
+
+    /** 
+    * Moves the view so that a point is in its middle, as far as the edges of the map let it.
+    * @param targetX The x-axis of the point in the map in pixels, such as where Waka is drawn.
+    * @param targetY The y-axis of the point in the map in pixels.
+    */
+    public void follow(float targetX, float targetY){
+        x = clamp(Math.round(targetX) - viewWidth/2, worldWidth - viewWidth);
+        y = clamp(Math.round(targetY) - viewHeight/2, worldHeight - viewHeight);
+    }
+
+    // Keeps the corner of the view inside of the map, or at 0 when the map is smaller than the view.
+    private static int clamp(int corner, int max){
+        return Math.max(0, Math.min(corner, max));
+    }
+
+    /** 
+    * Tells if the map is larger than the view, so that the view has to move with Waka.
+    * @return If the map is wider or taller than the view.
+    */
+    public boolean isScrolling(){
+        return worldWidth > viewWidth || worldHeight > viewHeight;
+    }
+
+    /** 
+    * To get the x-axis of the top left corner of the view in the map.
+    * @return The x-axis of the corner of the view in pixels.
+    */
+    public int getX(){
+        return x;
+    }
+
+    /** 
+    * To get the y-axis of the top left corner of the view in the map.
+    * @return The y-axis of the corner of the view in pixels.
+    */
+    public int getY(){
+        return y;
+    }
+
+    /** 
+    * To get the width of the view.
+    * @return The width of the view in pixels.
+    */
+    public int getViewWidth(){
+        return viewWidth;
+    }
+
+    /** 
+    * To get the height of the view.
+    * @return The height of the view in pixels.
+    */
+    public int getViewHeight(){
+        return viewHeight;
+    }
+
+    /** 
+    * To get the first column of Tiles that can be seen.
+    * @param tileSize The size of the Tiles in pixels.
+    * @return The first column in the view.
+    */
+    public int getFirstCol(int tileSize){
+        return x / tileSize;
+    }
+
+    /** 
+    * To get the column after the last column of Tiles that can be seen.
+    * @param tileSize The size of the Tiles in pixels.
+    * @param cols The number of columns of the map.
+    * @return The column after the last column in the view, which is at most the number of columns.
+    */
+    public int getEndCol(int tileSize, int cols){
+        return Math.min(cols, (x + viewWidth + tileSize - 1) / tileSize);
+    }
+
+    /** 
+    * To get the first row of Tiles that can be seen.
+    * @param tileSize The size of the Tiles in pixels.
+    * @return The first row in the view.
+    */
+    public int getFirstRow(int tileSize){
+        return y / tileSize;
+    }
+
+    /** 
+    * To get the row after the last row of Tiles that can be seen.
+    * @param tileSize The size of the Tiles in pixels.
+    * @param rows The number of rows of the map.
+    * @return The row after the last row in the view, which is at most the number of rows.
+    */
+    public int getEndRow(int tileSize, int rows){
+        return Math.min(rows, (y + viewHeight + tileSize - 1) / tileSize);
+    }
+
+    /** 
+    * Tells if any of a square centred on a point can be seen, such as the sprite of a creature.
+    * @param centreX The x-axis of the middle of the square in the map in pixels.
+    * @param centreY The y-axis of the middle of the square in the map in pixels.
+    * @param size The width and height of the square in pixels.
+    * @return If the square is at least partly in the view.
+    */
+    public boolean isVisible(float centreX, float centreY, int size){
+        float half = size/2f;
+        return centreX + half > x && centreX - half < x + viewWidth
+            && centreY + half > y && centreY - half < y + viewHeight;
+    }
+}
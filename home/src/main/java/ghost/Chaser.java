@@ -25,8 +25,8 @@ public class Chaser extends Ghost{
     */
     public Chaser(GameMap map, Long speed, Waka player, List <Long> modeLengths, int num, Long frightenedLength){
         super(map, speed, player, modeLengths, frightenedLength);
-        this.x = map.getGhostStart("c").get(num).get(0);
-        this.y = map.getGhostStart("c").get(num).get(1);
+        List <Long> start = map.getGhostStart("c").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
@@ -43,16 +43,34 @@ public class Chaser extends Ghost{
     */
     public Chaser(GameMap map, Long speed, PImage sprite, Waka player, List <Long> modeLengths, int num, Long frightenedLength, PImage frightenedSprite){
         super(map, speed, sprite, player, modeLengths, frightenedLength, frightenedSprite);
-        this.x = map.getGhostStart("c").get(num).get(0);
-        this.y = map.getGhostStart("c").get(num).get(1);
+        List <Long> start = map.getGhostStart("c").get(num);
+        setLocation(start.get(0), start.get(1));
+    }
+
+    /** 
+    * Overloaded constructor of Chaser that receives sprites and shares its mode 
+    * and frightened state with the other ghosts of a game.
+    * Used when Chaser is part of a Game.
+    * @param map The map of the game.
+    * @param speed The speed of Chaser when moving.
+    * @param sprite The sprite of Chaser.
+    * @param player The player as Waka.
+    * @param coordinator The state shared by all ghosts of the game.
+    * @param num The number of the Chaser ghost to differentiate between multiple Chasers (if there are more than one).
+    * @param frightenedSprite The frightened sprite.
+    */
+    public Chaser(GameMap map, Long speed, PImage sprite, Waka player, GhostCoordinator coordinator, int num, PImage frightenedSprite){
+        super(map, speed, sprite, player, coordinator, frightenedSprite);
+        List <Long> start = map.getGhostStart("c").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
     * Makes Chaser goes back to its starting position.
     */
     public void backToStart(){
-        x = map.getGhostStart("c").get(num).get(0);
-        y = map.getGhostStart("c").get(num).get(1);
+        List <Long> start = map.getGhostStart("c").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
@@ -64,9 +82,9 @@ public class Chaser extends Ghost{
         Tile[] playerTiles = player.getCurrentTiles();
         Tile targetTile = null;
         
-        if (super.ghostMode == Mode.CHASE){
+        if (getMode() == Mode.CHASE){
             targetTile = playerTiles[0];
-        }else if (super.ghostMode == Mode.SCATTER){
+        }else if (getMode() == Mode.SCATTER){
             targetTile = map.getTopLeftCorner();
         }
 
@@ -20,34 +20,88 @@ public class ConfigReader{
     private Long speed;
     private Long frightenedLength;
     private List<Long> modeLengths;
+    private Long seed;
+    private boolean dirtyRendering;
+    private boolean simulationThread;
+    private Long tickRate;
+    private Map <String, Long> ghostSpeeds;
+    private List <ConfigReader> levels;
+    private boolean isParsed;
 
     /** 
     * Config file parser class of Waka Waka.
     */
     public ConfigReader(){
         modeLengths = new ArrayList <Long> ();
+        ghostSpeeds = new LinkedHashMap <String, Long> ();
+        levels = new ArrayList <ConfigReader> ();
+        isParsed = false;
     }   
     /** 
     * Parses a JSON file to get the game's map filename, lives, speed, and also the ghosts' frightened and mode lengths.
+    * The seed of the game's random numbers, whether only the changed regions are repainted,
+    * whether the game runs on its own thread, the number of ticks in a second, the speeds of each type of ghost,
+    * and the levels are optional.
+    * The values of any file parsed before are replaced, so the reader can parse a file again after it changes.
     * @param fileName The JSON file that will be parsed.
     */
     public void parseJSON (String fileName){
         JSONParser parseJ = new JSONParser();
-        try{
-            Object obj = parseJ.parse(new FileReader(fileName));
-            JSONObject JSONObj = (JSONObject) obj;
-            mapFile = (String) JSONObj.get("map");
-            lives = (Long) JSONObj.get("lives");
-            speed = (Long) JSONObj.get("speed");
-            frightenedLength = (Long) JSONObj.get("frightenedLength");
-    
-            JSONArray jArray = (JSONArray) JSONObj.get("modeLengths");
+        isParsed = false;
+        try (FileReader reader = new FileReader(fileName)){
+            Object obj = parseJ.parse(reader);
+            read((JSONObject) obj);
+            isParsed = true;
+        } catch (Exception e){
+            e.printStackTrace();
+        }
+    }
+
+    // Reads the values of a JSON object, which is the whole file or one of its levels.
+    private void read(JSONObject JSONObj){
+        mapFile = (String) JSONObj.get("map");
+        lives = (Long) JSONObj.get("lives");
+        speed = (Long) JSONObj.get("speed");
+        frightenedLength = (Long) JSONObj.get("frightenedLength");
+        seed = (Long) JSONObj.get("seed");
+        dirtyRendering = Boolean.TRUE.equals(JSONObj.get("dirtyRendering"));
+        simulationThread = Boolean.TRUE.equals(JSONObj.get("simulationThread"));
+        tickRate = (Long) JSONObj.get("tickRate");
+
+        modeLengths.clear();
+        JSONArray jArray = (JSONArray) JSONObj.get("modeLengths");
+        if (jArray != null){
             for (int i = 0; i<jArray.size(); i++){
                 modeLengths.add(Long.parseLong(jArray.get(i).toString()));
             }
-        } catch (Exception e){
-            e.printStackTrace();
         }
+
+        ghostSpeeds.clear();
+        JSONObject speeds = (JSONObject) JSONObj.get("ghostSpeeds");
+        if (speeds != null){
+            for (Object ghost : speeds.keySet()){
+                ghostSpeeds.put((String) ghost, (Long) speeds.get(ghost));
+            }
+        }
+
+        levels.clear();
+        JSONArray levelArray = (JSONArray) JSONObj.get("levels");
+        if (levelArray != null){
+            for (int i = 0; i<levelArray.size(); i++){
+                ConfigReader level = new ConfigReader();
+                level.read((JSONObject) levelArray.get(i));
+                level.isParsed = true;
+                levels.add(level);
+            }
+        }
+    }
+
+    /** 
+    * Tells if a file has been parsed without any errors, so that the values of the reader can be used.
+    * @return If the last file given to parseJSON was parsed.
+    */
+    public boolean isParsed(){
+        return isParsed;
     }
 
     /** 
@@ -91,5 +145,56 @@ public class ConfigReader{
 
     }
 
+    /** 
+    * To get the seed of the random numbers of the game, such as the moves of frightened ghosts.
+    * @return The seed of the random numbers of the game, or null if it is not set.
+    */
+    public Long getSeed(){
+        return seed;
+    }
+
+    /** 
+    * To get whether the game repaints only the regions of the screen that have changed in each frame,
+    * instead of the whole screen.
+    * @return If only the changed regions are repainted, which is false if it is not set.
+    */
+    public boolean isDirtyRendering(){
+        return dirtyRendering;
+    }
+
+    /** 
+    * To get whether the logic of the game runs on its own thread, 
+    * with the app only drawing the latest snapshot of it.
+    * @return If the game runs on its own thread, which is false if it is not set.
+    */
+    public boolean isSimulationThread(){
+        return simulationThread;
+    }
+
+    /** 
+    * To get the number of ticks of the game in a second.
+    * @return The number of ticks in a second, or null if it is not set.
+    */
+    public Long getTickRate(){
+        return tickRate;
+    }
+
+    /** 
+    * To get the speeds of the types of ghosts that do not move at the speed of the game,
+    * such as "ambusher", "chaser", "ignorant" or "whim".
+    * @return The speeds of the types of ghosts by their names, which is empty if none are set.
+    */
+    public Map <String, Long> getGhostSpeeds(){
+        return ghostSpeeds;
+    }
+
+    /** 
+    * To get the levels of the game, each of which has only the values it changes for that level.
+    * @return The readers of the levels in the order they are played, which is empty if there are no levels.
+    */
+    public List <ConfigReader> getLevels(){
+        return levels;
+    }
+
 
 }
\ No newline at end of file
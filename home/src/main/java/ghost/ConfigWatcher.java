@@ -0,0 +1,131 @@
+package ghost;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** 
+* Watches the config file of Waka Waka, and parses it again whenever it changes.
+* The parsed config is kept as a snapshot that is swapped in one go, so a game made from it
+* never sees half of an old config and half of a new one. If the changed file cannot be parsed,
+* such as while an editor is still writing it, the last snapshot is kept until the file is fixed.
+* The file is watched on its own thread, so the games do not check or parse the file themselves.
+*/
+public class ConfigWatcher{
+
+    private Path file;
+    private AtomicReference <GameConfig> current;
+    private WatchService watchService;
+    private Thread thread;
+
+    /** 
+    * Constructor of ConfigWatcher, which parses the config file once.
+    * @param fileName The JSON file that will be watched.
+    * @throws IllegalArgumentException If the file cannot be parsed, or does not have all the values a game needs.
+    */
+    public ConfigWatcher(String fileName){
+        this.file = Paths.get(fileName).toAbsolutePath();
+        this.current = new AtomicReference <GameConfig>(GameConfig.load(fileName));
+    }
+
+    /** 
+    * To get the latest snapshot of the config file, which games are made from.
+    * @return The snapshot of the config file from when it was last parsed.
+    */
+    public GameConfig get(){
+        return current.get();
+    }
+
+    /** 
+    * Parses the config file again, and swaps in the new snapshot if it can be parsed.
+    * @return If the new snapshot was swapped in.
+    */
+    public boolean reload(){
+        try{
+            current.set(GameConfig.load(file.toString()));
+            return true;
+        } catch (IllegalArgumentException e){
+            System.err.println(e.getMessage() + ", so the last config is kept");
+            return false;
+        }
+    }
+
+    /** 
+    * Starts watching the config file on its own thread, until the watcher is stopped.
+    */
+    public void start(){
+        try{
+            watchService = FileSystems.getDefault().newWatchService();
+            file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                      StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e){
+            e.printStackTrace();
+            return;
+        }
+        thread = new Thread(this::run, "config-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** 
+    * Stops watching the config file and waits for its thread to finish.
+    */
+    public void stop(){
+        if (watchService != null){
+            try{
+                watchService.close();
+            } catch (IOException e){
+                e.printStackTrace();
+            }
+        }
+        if (thread != null){
+            try{
+                thread.join();
+            } catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** 
+    * Tells if the config file is being watched on its thread.
+    * @return If the config file is being watched.
+    */
+    public boolean isRunning(){
+        return thread != null && thread.isAlive();
+    }
+
+    // The loop of the watching thread, which waits for the folder of the file to change.
+    private void run(){
+        try{
+            while (true){
+                WatchKey key = watchService.take();
+                boolean isChanged = false;
+                for (WatchEvent <?> event : key.pollEvents()){
+                    if (file.getFileName().equals(event.context())){
+                        isChanged = true;
+                    }
+                }
+
+                // The events of one save are taken together, so the file is parsed once for them.
+                if (isChanged){
+                    reload();
+                }
+                if (!key.reset()){
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException e){
+            // The watcher has been stopped.
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+}
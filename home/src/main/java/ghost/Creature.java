@@ -15,6 +15,8 @@ enum Direction {
     LEFT,
     RIGHT;
 
+    private static final Direction[] directions = values();
+
     private final int value;
 
     private Direction() {
@@ -25,6 +27,11 @@ enum Direction {
         return value;
     }
 
+    // Returns the direction of a value, which is also its index in an array of neighbouring Tiles.
+    public static Direction of(int value){
+        return directions[value];
+    }
+
     // When direction is up or down.
     public boolean isVertical(){
         if (this.equals(DOWN) || this.equals(UP)){
@@ -69,15 +76,23 @@ public abstract class Creature{
     /** 
     * Speed of movement.
     */
-    protected Long speed;
+    protected int speed;
     /** 
     * Coordinates of x-axis.
     */
-    protected Long x;
+    protected int x;
     /** 
     * Coordinates of y-axis.
     */
-    protected Long y;
+    protected int y;
+    /** 
+    * Coordinates of x-axis before the last tick, to draw the Creature between its last two positions.
+    */
+    protected int previousX;
+    /** 
+    * Coordinates of y-axis before the last tick, to draw the Creature between its last two positions.
+    */
+    protected int previousY;
     /** 
     * Direction it faces according to movement.
     */
@@ -94,7 +109,7 @@ public abstract class Creature{
     */
     public Creature(GameMap map, Long speed){
         this.map = map;
-        this.speed = speed;
+        this.speed = speed.intValue();
         this.facing = Direction.RIGHT;
         this.isMoving = false;
     }
@@ -105,12 +120,28 @@ public abstract class Creature{
     */
     public abstract void tick(PApplet app);
 
+    /** 
+    * An abstract method to run the whole logic of the Creature without a sketch.
+    * @param frameCount The current frame (tick) of the game.
+    */
+    public abstract void tick(int frameCount);
+
     /** 
     * An abstract method to draw the creature.
     * @param app To draw the sprite. 
     */
     public abstract void draw(PApplet app);
 
+    /** 
+    * Draws the creature between its position before the last tick and its current position.
+    * By default it is drawn at its current position.
+    * @param app To draw the sprite. 
+    * @param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    */
+    public void draw(PApplet app, float alpha){
+        draw(app);
+    }
+
     /** 
     * Abstract method of Creature going back to its starting position.
     */
@@ -121,7 +152,7 @@ public abstract class Creature{
     * @return The coordinates of x-axis of the Creature.
     */
     public Long getX(){
-        return this.x;
+        return Long.valueOf(this.x);
     }
 
     /** 
@@ -129,48 +160,82 @@ public abstract class Creature{
     * @return The coordinates of y-axis of the Creature.
     */
     public Long getY(){
+        return Long.valueOf(this.y);
+    }
+
+    /** 
+    * To get the coordinates of x-axis of the Creature as a primitive.
+    * @return The coordinates of x-axis of the Creature in pixels.
+    */
+    public int getPixelX(){
+        return this.x;
+    }
+
+    /** 
+    * To get the coordinates of y-axis of the Creature as a primitive.
+    * @return The coordinates of y-axis of the Creature in pixels.
+    */
+    public int getPixelY(){
         return this.y;
     }
 
    /** 
     * To get the coordinates location of the Creature.
-    * @param x The coordinates of y-axis of the Creature.
+    * @param x The coordinates of x-axis of the Creature.
+    * @param y The coordinates of y-axis of the Creature.
+    */
+    public void setLocation (long x, long y){
+        this.x = (int) x;
+        this.y = (int) y;
+
+        // It is not drawn sliding across the map from where it was.
+        this.previousX = this.x;
+        this.previousY = this.y;
+    }
+
+    /** 
+    * Remembers the current position as the position before the tick, which is called before every tick.
+    */
+    public void rememberPosition(){
+        previousX = x;
+        previousY = y;
+    }
+
+    /** 
+    * To get the coordinates of x-axis to draw the Creature at, between its last two positions.
+    * @param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    * @return The coordinates of x-axis to draw the Creature at.
     */
-    public void setLocation (Long x, Long y){
-        this.x = x;
-        this.y = y;
+    public float getDrawX(float alpha){
+        return previousX + (x - previousX)*alpha;
+    }
+
+    /** 
+    * To get the coordinates of y-axis to draw the Creature at, between its last two positions.
+    * @param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    * @return The coordinates of y-axis to draw the Creature at.
+    */
+    public float getDrawY(float alpha){
+        return previousY + (y - previousY)*alpha;
+    }
+
+    /** 
+    * Checks if the Creature has reached the mid point of a Tile.
+    * @param tile The Tile to be checked.
+    * @return If the Creature is exactly at the mid point of the Tile.
+    */
+    public boolean isAtMidPoint(Tile tile){
+        return tile.getPixelX() == this.x && tile.getPixelY() == this.y;
     }
 
     /** 
     * To get the current position of the Creature in Tiles.
+    * The Tiles are looked up from the table the map precomputes, so the array must not be modified.
     * @return The tile the creature is situated in and also the surrounding tiles such as
     *         the tiles above, below, left and right.
     */
     public Tile[] getCurrentTiles(){
-        Long posX = x;
-        Long posY = y;
-        int tileRow= 0;
-        int tileCol = 0;
-        Long tileSize = map.getTileSize();
-
-        // Check the row of current tile.
-        while (posX> tileSize){
-            posX-= tileSize;
-            tileCol++;
-        }
-        // Check the column of current tile.
-        while (posY> tileSize){
-            posY-= tileSize;
-            tileRow++;
-        }
-
-        Tile currentTile= this.map.getGrid().get(tileRow).get(tileCol);
-        Tile aboveTile = this.map.getGrid().get(tileRow-1).get(tileCol);
-        Tile belowTile = this.map.getGrid().get(tileRow+1).get(tileCol);
-        Tile rightTile = this.map.getGrid().get(tileRow).get(tileCol+1);
-        Tile leftTile = this.map.getGrid().get(tileRow).get(tileCol-1);
-        Tile[] currentTiles= {currentTile, aboveTile, belowTile, leftTile, rightTile};
-        return currentTiles;
+        return map.getTileAt(x, y).getNeighbours();
     }
 
     /** 
@@ -0,0 +1,202 @@
+package ghost;
+
+import processing.core.PApplet;
+
+import java.util.List;
+
+/** 
+* Debug overlay of a Game, which is turned on and off with the space key.
+* For each ghost it shows the line to its target, the Tile it targets, the Tiles it plans to move through,
+* the squared distances to the target from the Tiles it can move to next, and how long its last tick took.
+* When it is off it costs nothing but one check per tick: the ticks are only timed, and the paths
+* and distances only worked out, while it is on, and they are worked out when drawn, not in the ticks.
+*/
+public class DebugOverlay{
+
+    /** 
+    * The number of Tiles of the path that is planned for each ghost.
+    */
+    public static final int PATH_LENGTH = 12;
+
+    private Game game;
+    private boolean isEnabled;
+    private long[] tickNanos;
+    private Tile[] path;
+
+    /** 
+    * Constructor of DebugOverlay, which is off until it is turned on.
+    * @param game The game whose ghosts are shown.
+    */
+    public DebugOverlay(Game game){
+        this.game = game;
+        this.isEnabled = false;
+        this.tickNanos = new long[0];
+        this.path = new Tile[PATH_LENGTH];
+    }
+
+    /** 
+    * Tells if the overlay is on, which is when the game is in debug mode.
+    * @return If the overlay is on.
+    */
+    public boolean isEnabled(){
+        return isEnabled;
+    }
+
+    /** 
+    * Turns the overlay, and debug mode of the game, on or off.
+    * @param enabled If the overlay is on.
+    */
+    public void setEnabled(boolean enabled){
+        isEnabled = enabled;
+    }
+
+    /** 
+    * Turns the overlay on if it is off, or off if it is on.
+    */
+    public void toggle(){
+        setEnabled(!isEnabled());
+    }
+
+    /** 
+    * Records how long the last tick of a ghost took, which is only called while the overlay is on.
+    * @param ghost The index of the ghost in the game.
+    * @param nanos The time the tick took in nanoseconds.
+    */
+    public void recordTick(int ghost, long nanos){
+        if (ghost >= tickNanos.length){
+            long[] grown = new long[ghost + 1];
+            System.arraycopy(tickNanos, 0, grown, 0, tickNanos.length);
+            tickNanos = grown;
+        }
+        tickNanos[ghost] = nanos;
+    }
+
+    /** 
+    * To get how long the last timed tick of a ghost took.
+    * @param ghost The index of the ghost in the game.
+    * @return The time the tick took in nanoseconds, or 0 if it has not been timed.
+    */
+    public long getTickNanos(int ghost){
+        if (ghost < tickNanos.length){
+            return tickNanos[ghost];
+        }
+        return 0;
+    }
+
+    /** 
+    * Works out the Tiles a ghost will move through to its target if the target stays where it is.
+    * The ghost is followed Tile by Tile with the same rule as its ticks: it never turns back unless it has to,
+    * and moves to the Tile closest to its target, in the order up, down, left and right when they are as close.
+    * @param ghost The ghost whose path is planned.
+    * @param path The Tiles of the path are put in it, up to its length.
+    * @return The number of Tiles of the path, which is 0 when the ghost has no target.
+    */
+    public int planPath(Ghost ghost, Tile[] path){
+        Tile target = ghost.getLastTargetTile();
+        if (target == null){
+            return 0;
+        }
+
+        GameMap map = game.getMap();
+        Tile tile = ghost.getCurrentTiles()[0];
+        Direction facing = ghost.getMoveDirection();
+        int count = 0;
+        while (count < path.length && tile != target){
+            Tile[] neighbours = tile.getNeighbours();
+            int open = map.getOpenMoves(tile.getRowIndex()*map.getColNum() + tile.getColIndex());
+            int opposite = facing.opposite().getValue();
+            int nextMove = -1;
+            long shortest = 0;
+            for (int i = 1; i < neighbours.length; i++){
+                if (i != opposite && (open & (1 << i)) != 0){
+                    long distance = ghost.getSquaredDistance(target.getColIndex(), target.getRowIndex(),
+                                                             neighbours[i].getColIndex(), neighbours[i].getRowIndex());
+                    if (nextMove < 0 || distance < shortest){
+                        shortest = distance;
+                        nextMove = i;
+                    }
+                }
+            }
+
+            // Turns back only at a dead end.
+            if (nextMove < 0 && opposite != 0 && (open & (1 << opposite)) != 0){
+                nextMove = opposite;
+            }
+            if (nextMove < 0){
+                break;
+            }
+
+            tile = neighbours[nextMove];
+            facing = Direction.of(nextMove);
+            path[count] = tile;
+            count++;
+        }
+        return count;
+    }
+
+    /** 
+    * Draws the overlay for every ghost, over the game that has just been drawn.
+    * When the ghosts are frightened they move at random, so only the line to their next Tile is drawn.
+    * @param app To draw the overlay.
+    * @param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    */
+    public void draw(PApplet app, float alpha){
+        List <Ghost> ghosts = game.getGhosts();
+        int tileSize = game.getMap().getTileSize().intValue();
+        boolean isFrightened = game.getGhostState().isFrightened();
+
+        app.pushStyle();
+        app.rectMode(PApplet.CENTER);
+        app.textAlign(PApplet.CENTER, PApplet.CENTER);
+        app.textSize(8);
+        for (int i = 0; i < ghosts.size(); i++){
+            Ghost ghost = ghosts.get(i);
+            Tile target = ghost.getLastTargetTile();
+            if (target == null){
+                continue;
+            }
+            float x = ghost.getDrawX(alpha);
+            float y = ghost.getDrawY(alpha);
+
+            // The line to the target, or to the next Tile when frightened.
+            Tile lineEnd = target;
+            if (isFrightened){
+                lineEnd = ghost.getLastNextTile();
+            }
+            app.stroke(255);
+            if (lineEnd != null){
+                app.line(x, y, lineEnd.getPixelX(), lineEnd.getPixelY());
+            }
+
+            if (!isFrightened){
+                // The target Tile, and the Tiles of the planned path.
+                app.noFill();
+                app.stroke(255, 0, 0);
+                app.rect(target.getPixelX(), target.getPixelY(), tileSize, tileSize);
+                app.stroke(0, 255, 255);
+                int count = planPath(ghost, path);
+                for (int j = 0; j < count; j++){
+                    app.rect(path[j].getPixelX(), path[j].getPixelY(), tileSize/2, tileSize/2);
+                }
+
+                // The distances from the Tiles the ghost can move to next.
+                app.fill(255, 255, 0);
+                Tile[] currentTiles = ghost.getCurrentTiles();
+                int availableMoves = ghost.getAvailableMoves(currentTiles);
+                for (int j = 1; j < currentTiles.length; j++){
+                    if ((availableMoves & (1 << j)) != 0){
+                        Tile candidate = currentTiles[j];
+                        long distance = ghost.getSquaredDistance(target.getColIndex(), target.getRowIndex(),
+                                                                 candidate.getColIndex(), candidate.getRowIndex());
+                        app.text(Long.toString(distance), candidate.getPixelX(), candidate.getPixelY());
+                    }
+                }
+            }
+
+            // How long the last tick of the ghost took.
+            app.fill(255);
+            app.text((getTickNanos(i)/1000) + "us", x, y - tileSize);
+        }
+        app.popStyle();
+    }
+}
@@ -0,0 +1,164 @@
+package ghost;
+
+import java.util.Arrays;
+
+/** 
+* The rectangles of the screen that have to be repainted in a frame.
+* Rectangles that overlap or touch are merged into one, and every rectangle is kept inside the screen,
+* so each pixel is repainted at most once. The rectangles are stored in arrays that are reused every frame.
+*/
+public class DirtyRegions{
+
+    private int width;
+    private int height;
+    private int[] left;
+    private int[] top;
+    private int[] right;
+    private int[] bottom;
+    private int count;
+
+    /** 
+    * Constructor of DirtyRegions.
+    * @param width The width of the screen in pixels.
+    * @param height The height of the screen in pixels.
+    */
+    public DirtyRegions(int width, int height){
+        this.width = width;
+        this.height = height;
+        this.left = new int[16];
+        this.top = new int[16];
+        this.right = new int[16];
+        this.bottom = new int[16];
+        this.count = 0;
+    }
+
+    /** 
+    * Adds a rectangle to be repainted, merging it with the rectangles it overlaps or touches.
+    * The part of the rectangle outside of the screen is left out.
+    * @param x The x-axis of the top left corner of the rectangle.
+    * @param y The y-axis of the top left corner of the rectangle.
+    * @param w The width of the rectangle.
+    * @param h The height of the rectangle.
+    */
+    public void add(int x, int y, int w, int h){
+        int x0 = Math.max(x, 0);
+        int y0 = Math.max(y, 0);
+        int x1 = Math.min(x + w, width);
+        int y1 = Math.min(y + h, height);
+        if (x0 >= x1 || y0 >= y1){
+            return;
+        }
+
+        // Merging can make the rectangle touch others it did not before, so it is checked from the start again.
+        int i = 0;
+        while (i < count){
+            if (x0 <= right[i] && left[i] <= x1 && y0 <= bottom[i] && top[i] <= y1){
+                x0 = Math.min(x0, left[i]);
+                y0 = Math.min(y0, top[i]);
+                x1 = Math.max(x1, right[i]);
+                y1 = Math.max(y1, bottom[i]);
+                remove(i);
+                i = 0;
+            }else{
+                i++;
+            }
+        }
+
+        if (count == left.length){
+            grow();
+        }
+        left[count] = x0;
+        top[count] = y0;
+        right[count] = x1;
+        bottom[count] = y1;
+        count++;
+    }
+
+    /** 
+    * Adds the whole screen to be repainted.
+    */
+    public void addAll(){
+        clear();
+        add(0, 0, width, height);
+    }
+
+    /** 
+    * Removes all the rectangles, once they have been repainted.
+    */
+    public void clear(){
+        count = 0;
+    }
+
+    /** 
+    * To get the number of rectangles to be repainted.
+    * @return The number of rectangles to be repainted.
+    */
+    public int size(){
+        return count;
+    }
+
+    /** 
+    * To get the x-axis of the top left corner of a rectangle.
+    * @param i The index of the rectangle.
+    * @return The x-axis of the top left corner of the rectangle.
+    */
+    public int getX(int i){
+        return left[i];
+    }
+
+    /** 
+    * To get the y-axis of the top left corner of a rectangle.
+    * @param i The index of the rectangle.
+    * @return The y-axis of the top left corner of the rectangle.
+    */
+    public int getY(int i){
+        return top[i];
+    }
+
+    /** 
+    * To get the width of a rectangle.
+    * @param i The index of the rectangle.
+    * @return The width of the rectangle.
+    */
+    public int getWidth(int i){
+        return right[i] - left[i];
+    }
+
+    /** 
+    * To get the height of a rectangle.
+    * @param i The index of the rectangle.
+    * @return The height of the rectangle.
+    */
+    public int getHeight(int i){
+        return bottom[i] - top[i];
+    }
+
+    /** 
+    * To get the number of pixels to be repainted.
+    * @return The total area of the rectangles in pixels.
+    */
+    public int getArea(){
+        int area = 0;
+        for (int i = 0; i < count; i++){
+            area += getWidth(i)*getHeight(i);
+        }
+        return area;
+    }
+
+    // Removes a rectangle by moving the last one into its place.
+    private void remove(int i){
+        count--;
+        left[i] = left[count];
+        top[i] = top[count];
+        right[i] = right[count];
+        bottom[i] = bottom[count];
+    }
+
+    // Doubles the room for rectangles.
+    private void grow(){
+        left = Arrays.copyOf(left, count*2);
+        top = Arrays.copyOf(top, count*2);
+        right = Arrays.copyOf(right, count*2);
+        bottom = Arrays.copyOf(bottom, count*2);
+    }
+}
@@ -0,0 +1,157 @@
+package ghost;
+
+import processing.core.PApplet;
+
+import java.util.List;
+
+/** 
+* Renderer of a Game that repaints only the regions of the screen that have changed since the last frame,
+* instead of clearing the whole screen and drawing everything again.
+* The regions are the bounding boxes of each creature where it was in the last frame and where it is now,
+* the Tiles whose fruits have been eaten, and the lives left when they change.
+* The whole screen is repainted in the first frame, and in debug mode, since the lines to the targets cross the map.
+*/
+public class DirtyRenderer{
+
+    private Game game;
+    private DirtyRegions regions;
+    private int[] lastX;
+    private int[] lastY;
+    private long lastLives;
+    private boolean wasDebugging;
+    private boolean fullRedraw;
+
+    /** 
+    * Constructor of DirtyRenderer.
+    * The whole screen is repainted in the first frame.
+    * @param game The game to be drawn.
+    */
+    public DirtyRenderer(Game game){
+        this.game = game;
+        this.fullRedraw = true;
+    }
+
+    /** 
+    * Makes the whole screen be repainted in the next frame,
+    * such as when something else has been drawn over it.
+    */
+    public void invalidate(){
+        fullRedraw = true;
+    }
+
+    /** 
+    * Works out the regions of the screen that have changed since the last frame,
+    * and remembers the current frame to compare the next one with.
+    * @return The regions to be repainted in this frame.
+    */
+    public DirtyRegions collect(){
+        return collect(1);
+    }
+
+    /** 
+    * Works out the regions of the screen that have changed since the last frame,
+    * where the creatures are drawn between their last two positions,
+    * and remembers the current frame to compare the next one with.
+    * @param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    * @return The regions to be repainted in this frame.
+    */
+    public DirtyRegions collect(float alpha){
+        GameMap map = game.getMap();
+        Waka player = game.getPlayer();
+        List <Ghost> ghosts = game.getGhosts();
+        int tileSize = map.getTileSize().intValue();
+        int count = ghosts.size() + 1;
+
+        if (regions == null){
+            regions = new DirtyRegions(map.getColNum()*tileSize, map.getGridHeight().intValue());
+        }
+        if (lastX == null || lastX.length != count){
+            lastX = new int[count];
+            lastY = new int[count];
+            fullRedraw = true;
+        }
+
+        regions.clear();
+        boolean isDebugging = game.getDebugOverlay().isEnabled();
+        long lives = player.getLivesLeft();
+
+        if (fullRedraw || isDebugging || wasDebugging){
+            regions.addAll();
+        }else{
+            addCreature(player, 0, tileSize, alpha);
+            for (int i = 0; i < ghosts.size(); i++){
+                addCreature(ghosts.get(i), i + 1, tileSize, alpha);
+            }
+
+            // The Tiles of the fruits that have been eaten.
+            for (int i = 0; i < map.getChangedCellCount(); i++){
+                int cell = map.getChangedCell(i);
+                regions.add((cell % map.getColNum())*tileSize, (cell / map.getColNum())*tileSize, tileSize, tileSize);
+            }
+
+            // The row of the lives left, when a life has been lost.
+            if (lives != lastLives){
+                regions.add(0, player.getLivesY() - tileSize, map.getColNum()*tileSize, tileSize*2);
+            }
+        }
+
+        // Remembers this frame.
+        lastX[0] = Math.round(player.getDrawX(alpha));
+        lastY[0] = Math.round(player.getDrawY(alpha));
+        for (int i = 0; i < ghosts.size(); i++){
+            lastX[i + 1] = Math.round(ghosts.get(i).getDrawX(alpha));
+            lastY[i + 1] = Math.round(ghosts.get(i).getDrawY(alpha));
+        }
+        lastLives = lives;
+        wasDebugging = isDebugging;
+        fullRedraw = false;
+        map.clearChangedCells();
+        return regions;
+    }
+
+    /** 
+    * Repaints the regions of the screen that have changed since the last frame.
+    * Each region is cleared, and only the part of the map and the creatures that overlap it are drawn,
+    * clipped to it, so nothing outside of it is touched.
+    * @param app To draw the game.
+    */
+    public void render(PApplet app){
+        render(app, 1);
+    }
+
+    /** 
+    * Repaints the regions of the screen that have changed since the last frame,
+    * with the creatures drawn between their last two positions.
+    * @param app To draw the game.
+    * @param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    */
+    public void render(PApplet app, float alpha){
+        DirtyRegions dirty = collect(alpha);
+
+        for (int i = 0; i < dirty.size(); i++){
+            int x = dirty.getX(i);
+            int y = dirty.getY(i);
+            int w = dirty.getWidth(i);
+            int h = dirty.getHeight(i);
+
+            // The clip is given by its corner, and the background of the region is cleared.
+            app.pushStyle();
+            app.imageMode(PApplet.CORNER);
+            app.clip(x, y, w, h);
+            app.noStroke();
+            app.fill(0);
+            app.rect(x, y, w, h);
+            app.popStyle();
+
+            game.renderRegion(app, alpha, x, y, w, h);
+        }
+        app.noClip();
+    }
+
+    // Adds the bounding boxes of a creature where it was drawn in the last frame and where it is drawn now.
+    // A box of two Tiles is big enough for the sprites of Waka and the ghosts.
+    private void addCreature(Creature creature, int i, int tileSize, float alpha){
+        regions.add(lastX[i] - tileSize, lastY[i] - tileSize, tileSize*2, tileSize*2);
+        regions.add(Math.round(creature.getDrawX(alpha)) - tileSize, Math.round(creature.getDrawY(alpha)) - tileSize, tileSize*2, tileSize*2);
+    }
+}
@@ -0,0 +1,102 @@
+package ghost;
+
+/** 
+* Headless engine of Waka Waka that runs a Game without a PApplet.
+* It owns its own frame counter and input source, so a game can be simulated
+* as fast as possible on a machine without a display.
+*/
+public class Engine{
+
+    private Game game;
+    private InputSource input;
+    private int frameCount;
+
+    /** 
+    * Headless engine of Waka Waka.
+    * The game is set up without any sprites, unless it has already been set up, such as by a GamePreloader.
+    * A game that has already been set up is run from the tick it has reached, which is the frame it was set up in
+    * if it has not run yet, so that its changes of mode are due in the frames they were scheduled for.
+    * @param game The game to be simulated.
+    * @param input The source of key inputs of the game, or null if there are no key inputs.
+    */
+    public Engine(Game game, InputSource input){
+        this.game = game;
+        this.input = input;
+        if (game.isSetUp()){
+            this.frameCount = game.getTickCount();
+        }else{
+            this.frameCount = 0;
+            game.setUp(frameCount);
+        }
+    }
+
+    /** 
+    * Advances the game by one frame.
+    * The key input of the frame, if there is any, is given before the game runs its logic.
+    */
+    public void step(){
+        frameCount++;
+
+        if (input != null){
+            Direction direction = input.getInput(frameCount);
+            if (direction != null){
+                game.keyReleased(direction);
+            }
+        }
+
+        game.step(frameCount);
+    }
+
+    /** 
+    * Advances the game until it is won or lost, or until the maximum number of frames is reached.
+    * @param maxFrames The maximum number of frames to be run.
+    * @return The number of frames that has been run.
+    */
+    public int run(int maxFrames){
+        int count = 0;
+        while (count < maxFrames && game.getStatus() == Status.PLAYING){
+            step();
+            count++;
+        }
+        return count;
+    }
+
+    /** 
+    * Runs the game up to and including the frame of the next change of mode or end of the frightened state,
+    * or until it is won or lost, or until the maximum number of frames is reached.
+    * Every frame is run, so Waka and the ghosts move, eat and collide exactly as they do with run,
+    * and the game stays the same as one run over the same stretch. The frames before the event
+    * cost only the moves of the creatures, since the scheduler only looks at its next transition.
+    * The next event is checked again after every frame, since eating a superfruit can bring it forward.
+    * @param maxFrames The maximum number of frames to be run.
+    * @return The number of frames that has been run.
+    */
+    public int skipToNextEvent(int maxFrames){
+        int count = 0;
+        while (count < maxFrames && game.getStatus() == Status.PLAYING){
+            boolean isDue = frameCount + 1 >= game.getNextEventFrame();
+            step();
+            count++;
+            if (isDue){
+                break;
+            }
+        }
+        return count;
+    }
+
+    /** 
+    * Getter method to get the current frame of the game.
+    * @return The current frame of the game.
+    */
+    public int getFrameCount(){
+        return frameCount;
+    }
+
+    /** 
+    * Getter method to get the game that is simulated.
+    * @return The game that is simulated.
+    */
+    public Game getGame(){
+        return game;
+    }
+}
@@ -0,0 +1,92 @@
+package ghost;
+
+/** 
+* Fixed timestep clock that decides how many ticks of the game to run in each rendered frame.
+* The time that has passed since the last frame is added up, and a tick is run for each tick length of it,
+* so the game runs at the same speed however fast or slow the frames are drawn.
+* When frames are dropped, the ticks are caught up in the next frame, up to a limit,
+* and the time left over is used to interpolate the positions that are drawn.
+*/
+public class FixedTimestep{
+
+    /** 
+    * The most ticks that are run in one frame by default.
+    * After a longer stall, such as the window being dragged, the rest of the time is dropped instead of caught up.
+    */
+    public static final int MAX_CATCH_UP = 10;
+
+    private static final long NANOS_PER_SECOND = 1000000000L;
+
+    private int tickRate;
+    private int maxTicks;
+    private long lastTime;
+    private boolean isStarted;
+    // The time that has not been run yet, in nanoseconds times the tick rate, so a tick is exactly NANOS_PER_SECOND.
+    private long accumulator;
+
+    /** 
+    * Constructor of FixedTimestep that catches up at most MAX_CATCH_UP ticks in a frame.
+    * @param tickRate The number of ticks of the game in a second.
+    */
+    public FixedTimestep(int tickRate){
+        this(tickRate, MAX_CATCH_UP);
+    }
+
+    /** 
+    * Constructor of FixedTimestep.
+    * @param tickRate The number of ticks of the game in a second.
+    * @param maxTicks The most ticks that are run in one frame.
+    */
+    public FixedTimestep(int tickRate, int maxTicks){
+        if (tickRate <= 0 || maxTicks <= 0){
+            throw new IllegalArgumentException("The tick rate and the most ticks in a frame have to be positive");
+        }
+        this.tickRate = tickRate;
+        this.maxTicks = maxTicks;
+        this.isStarted = false;
+        this.accumulator = 0;
+    }
+
+    /** 
+    * Adds the time that has passed since the last frame, and works out how many ticks to run in this frame.
+    * No ticks are run in the first frame, which only starts the clock.
+    * @param now The current time in nanoseconds, such as from System.nanoTime().
+    * @return The number of ticks to run in this frame.
+    */
+    public int advance(long now){
+        if (!isStarted){
+            isStarted = true;
+            lastTime = now;
+            return 0;
+        }
+
+        // The time is capped at a second, so that it cannot overflow after a very long stall.
+        long elapsed = Math.min(Math.max(now - lastTime, 0), NANOS_PER_SECOND);
+        lastTime = now;
+        accumulator += elapsed*tickRate;
+
+        int ticks = (int) (accumulator / NANOS_PER_SECOND);
+        accumulator -= ticks*NANOS_PER_SECOND;
+        if (ticks > maxTicks){
+            ticks = maxTicks;
+        }
+        return ticks;
+    }
+
+    /** 
+    * To get how far the game is between its last tick and the next one,
+    * which is used to draw the creatures between their last two positions.
+    * @return The fraction of a tick that has passed since the last tick, from 0 to 1.
+    */
+    public float getAlpha(){
+        return (float) accumulator / NANOS_PER_SECOND;
+    }
+
+    /** 
+    * To get the number of ticks of the game in a second.
+    * @return The number of ticks of the game in a second.
+    */
+    public int getTickRate(){
+        return tickRate;
+    }
+}
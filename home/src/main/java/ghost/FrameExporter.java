@@ -0,0 +1,138 @@
+package ghost;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/** 
+* Exports the frames of a headless game as png files.
+* The game is run on the calling thread, and a snapshot of each frame is handed to a thread pool
+* that draws and encodes it, so the slow encoding of many frames happens in parallel.
+* The number of frames waiting to be encoded is limited, so a long game does not fill up the memory.
+*/
+public class FrameExporter implements AutoCloseable{
+
+    private FrameRasterizer rasterizer;
+    private File directory;
+    private ExecutorService pool;
+    private Semaphore pending;
+
+    /** 
+    * Constructor of FrameExporter.
+    * @param rasterizer To draw the frames.
+    * @param directory The directory the png files are written into.
+    * @param threads The number of threads that draw and encode the frames.
+    */
+    public FrameExporter(FrameRasterizer rasterizer, File directory, int threads){
+        this.rasterizer = rasterizer;
+        this.directory = directory;
+        this.pool = Executors.newFixedThreadPool(threads);
+        this.pending = new Semaphore(threads*4);
+        directory.mkdirs();
+    }
+
+    /** 
+    * To get the file a frame is written into.
+    * @param frame The frame of the game.
+    * @return The png file of the frame.
+    */
+    public File getFile(int frame){
+        return new File(directory, String.format("frame-%06d.png", frame));
+    }
+
+    /** 
+    * Hands a snapshot to the thread pool to be drawn and written into its png file.
+    * It waits while too many frames are already waiting to be encoded.
+    * @param snapshot The snapshot of the frame.
+    * @return The file of the frame, once it has been written.
+    * @throws InterruptedException If the thread is interrupted while waiting.
+    */
+    public Future <File> submit(WorldSnapshot snapshot) throws InterruptedException{
+        pending.acquire();
+        try{
+            return pool.submit(() -> {
+                try{
+                    File file = getFile(snapshot.getFrame());
+                    ImageIO.write(rasterizer.toImage(snapshot), "png", file);
+                    return file;
+                } catch (IOException e){
+                    throw new UncheckedIOException(e);
+                } finally{
+                    pending.release();
+                }
+            });
+        } catch (RuntimeException e){
+            pending.release();
+            throw e;
+        }
+    }
+
+    /** 
+    * Runs a game and exports every few frames of it, until it is won or lost or the maximum number of frames is reached.
+    * It returns once all the frames have been written.
+    * @param engine The engine of the game.
+    * @param maxFrames The maximum number of frames to be run.
+    * @param every How many frames to run for each frame that is exported, such as 1 for every frame.
+    * @return The files of the frames that have been exported, in order.
+    * @throws InterruptedException If the thread is interrupted while waiting.
+    * @throws ExecutionException If a frame could not be drawn or written.
+    */
+    public List <File> export(Engine engine, int maxFrames, int every) throws InterruptedException, ExecutionException{
+        List <Future <File>> frames = new ArrayList <Future <File>>();
+        frames.add(submit(new WorldSnapshot(engine.getGame(), engine.getFrameCount())));
+        for (int count = 0; count < maxFrames && engine.getGame().getStatus() == Status.PLAYING; count++){
+            engine.step();
+            if (engine.getFrameCount() % every == 0){
+                frames.add(submit(new WorldSnapshot(engine.getGame(), engine.getFrameCount())));
+            }
+        }
+
+        List <File> files = new ArrayList <File>();
+        for (Future <File> frame : frames){
+            files.add(frame.get());
+        }
+        return files;
+    }
+
+    /** 
+    * Shuts down the thread pool once the frames that have been handed to it are written.
+    */
+    public void close(){
+        pool.shutdown();
+    }
+
+    /** 
+    * Exports the frames of the game in config.json without any key inputs.
+    * @param args The directory the frames are written into, the number of frames,
+    *             and optionally the number of threads, which is the number of processors by default.
+    */
+    public static void main(String[] args){
+        if (args.length < 2){
+            System.err.println("Usage: FrameExporter <output directory> <frames> [threads]");
+            System.exit(1);
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (args.length > 2){
+            threads = Integer.parseInt(args[2]);
+        }
+
+        FrameRasterizer rasterizer = new FrameRasterizer(SpriteAtlas.fromClasspath(), App.WIDTH, App.HEIGHT);
+        try (FrameExporter exporter = new FrameExporter(rasterizer, new File(args[0]), threads)){
+            Engine engine = new Engine(new Game(new ConfigReader()), null);
+            List <File> files = exporter.export(engine, Integer.parseInt(args[1]), 1);
+            System.out.println("Exported " + files.size() + " frames into " + args[0]);
+        } catch (InterruptedException | ExecutionException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package ghost;
+
+import processing.core.PImage;
+
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+
+/** 
+* Draws a snapshot of a game into a buffer of pixels without Processing or a window,
+* so frames can be made on a server that has no display.
+* It draws the same as the game does on screen, apart from the lines of debug mode.
+* For maps larger than the frame, it draws the view of a camera that follows Waka, and only the Tiles in the view.
+* It keeps no state between frames, so one rasterizer can draw many frames on different threads at once.
+*/
+public class FrameRasterizer{
+
+    private final int width;
+    private final int height;
+    private final HashMap <String, PImage> tileSprites;
+    private final HashMap <Direction, PImage> wakaSprites;
+    private final HashMap <Character, PImage> ghostSprites;
+    private final PImage frightenedSprite;
+
+    /** 
+    * Constructor of FrameRasterizer.
+    * @param atlas The sprites of the game.
+    * @param width The width of the frames in pixels.
+    * @param height The height of the frames in pixels.
+    */
+    public FrameRasterizer(SpriteAtlas atlas, int width, int height){
+        this.width = width;
+        this.height = height;
+
+        this.tileSprites = new HashMap <String, PImage>();
+        tileSprites.put("1", atlas.get("horizontal"));
+        tileSprites.put("2", atlas.get("vertical"));
+        tileSprites.put("3", atlas.get("upLeft"));
+        tileSprites.put("4", atlas.get("upRight"));
+        tileSprites.put("5", atlas.get("downLeft"));
+        tileSprites.put("6", atlas.get("downRight"));
+        tileSprites.put("7", atlas.get("fruit"));
+        tileSprites.put("8", atlas.get("superfruit"));
+
+        this.wakaSprites = new HashMap <Direction, PImage>();
+        wakaSprites.put(Direction.DOWN, atlas.get("playerDown"));
+        wakaSprites.put(Direction.UP, atlas.get("playerUp"));
+        wakaSprites.put(Direction.LEFT, atlas.get("playerLeft"));
+        wakaSprites.put(Direction.RIGHT, atlas.get("playerRight"));
+        wakaSprites.put(Direction.NEUTRAL, atlas.get("playerClosed"));
+
+        this.ghostSprites = new HashMap <Character, PImage>();
+        ghostSprites.put('a', atlas.get("ambusher"));
+        ghostSprites.put('c', atlas.get("chaser"));
+        ghostSprites.put('i', atlas.get("ignorant"));
+        ghostSprites.put('w', atlas.get("whim"));
+        this.frightenedSprite = atlas.get("frightened");
+    }
+
+    /** 
+    * To get the width of the frames.
+    * @return The width of the frames in pixels.
+    */
+    public int getWidth(){
+        return width;
+    }
+
+    /** 
+    * To get the height of the frames.
+    * @return The height of the frames in pixels.
+    */
+    public int getHeight(){
+        return height;
+    }
+
+    /** 
+    * Draws a snapshot into a new buffer of pixels.
+    * @param snapshot The snapshot to be drawn.
+    * @return The pixels of the frame in ARGB, row by row.
+    */
+    public int[] rasterize(WorldSnapshot snapshot){
+        int[] pixels = new int[width*height];
+        rasterize(snapshot, pixels);
+        return pixels;
+    }
+
+    /** 
+    * Draws a snapshot into a buffer of pixels, in the same order as the game draws it on screen.
+    * @param snapshot The snapshot to be drawn.
+    * @param pixels The buffer of the frame in ARGB, row by row, which must be width*height long.
+    */
+    public void rasterize(WorldSnapshot snapshot, int[] pixels){
+        if (pixels.length != width*height){
+            throw new IllegalArgumentException("The buffer is not the size of the frame");
+        }
+
+        // The black background.
+        for (int i = 0; i < pixels.length; i++){
+            pixels[i] = 0xFF000000;
+        }
+
+        // The view follows Waka when the map is larger than the frame.
+        int tileSize = snapshot.getTileSize();
+        int cols = snapshot.getColNum();
+        Camera camera = new Camera(width, height, cols*tileSize, snapshot.getRowNum()*tileSize);
+        camera.follow(snapshot.getPlayerX(), snapshot.getPlayerY());
+        int offsetX = camera.getX();
+        int offsetY = camera.getY();
+
+        // The walls and fruits of the map that are in the view.
+        int endRow = camera.getEndRow(tileSize, snapshot.getRowNum());
+        int endCol = camera.getEndCol(tileSize, cols);
+        for (int i = camera.getFirstRow(tileSize); i < endRow; i++){
+            for (int j = camera.getFirstCol(tileSize); j < endCol; j++){
+                PImage sprite = tileSprites.get(TileType.of(snapshot.getCell(i*cols + j)).getValue());
+                if (sprite != null){
+                    drawSprite(pixels, sprite, j*tileSize + (tileSize/2) - offsetX, i*tileSize + (tileSize/2) - offsetY);
+                }
+            }
+        }
+
+        // Waka, and the lives it has left, which are at the bottom of the frame when the view moves.
+        drawSprite(pixels, wakaSprites.get(snapshot.getPlayerFace()), snapshot.getPlayerX() - offsetX, snapshot.getPlayerY() - offsetY);
+        int livesY = snapshot.getLivesY();
+        if (camera.isScrolling()){
+            livesY = height - (tileSize + tileSize + tileSize/2)/2;
+        }
+        int lifePosX = tileSize;
+        for (int i = 0; i < snapshot.getLives(); i++){
+            drawSprite(pixels, wakaSprites.get(Direction.RIGHT), lifePosX, livesY);
+            lifePosX += 26;
+        }
+
+        // The ghosts that are not invisible.
+        for (int i = 0; i < snapshot.getGhostCount(); i++){
+            if (!snapshot.isGhostInvisible(i)){
+                PImage sprite = ghostSprites.get(snapshot.getGhostType(i));
+                if (snapshot.isFrightened()){
+                    sprite = frightenedSprite;
+                }
+                drawSprite(pixels, sprite, snapshot.getGhostX(i) - offsetX, snapshot.getGhostY(i) - offsetY);
+            }
+        }
+    }
+
+    /** 
+    * Draws a snapshot into a new image.
+    * @param snapshot The snapshot to be drawn.
+    * @return The image of the frame.
+    */
+    public BufferedImage toImage(WorldSnapshot snapshot){
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, rasterize(snapshot), 0, width);
+        return image;
+    }
+
+    // Draws a sprite centred on a point, blending its translucent pixels over the frame.
+    // It is drawn where the game draws it in CENTER image mode, and the part outside of the frame is left out.
+    private void drawSprite(int[] pixels, PImage sprite, int centreX, int centreY){
+        if (sprite == null){
+            return;
+        }
+        int left = centreX - sprite.width/2;
+        int top = centreY - sprite.height/2;
+
+        for (int y = Math.max(0, -top); y < sprite.height && top + y < height; y++){
+            for (int x = Math.max(0, -left); x < sprite.width && left + x < width; x++){
+                int source = sprite.pixels[y*sprite.width + x];
+                int alpha = source >>> 24;
+                if (alpha == 0){
+                    continue;
+                }
+
+                int index = (top + y)*width + left + x;
+                if (alpha == 255){
+                    pixels[index] = source;
+                }else{
+                    pixels[index] = blend(pixels[index], source, alpha);
+                }
+            }
+        }
+    }
+
+    // Blends a translucent colour over an opaque one.
+    private static int blend(int destination, int source, int alpha){
+        int red = (((source >> 16) & 0xFF)*alpha + ((destination >> 16) & 0xFF)*(255 - alpha))/255;
+        int green = (((source >> 8) & 0xFF)*alpha + ((destination >> 8) & 0xFF)*(255 - alpha))/255;
+        int blue = ((source & 0xFF)*alpha + (destination & 0xFF)*(255 - alpha))/255;
+        return 0xFF000000 | (red << 16) | (green << 8) | blue;
+    }
+}
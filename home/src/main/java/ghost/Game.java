@@ -7,6 +7,7 @@ import processing.core.PImage;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.SplittableRandom;
 
 // Enum for constants of the status of the game.
 enum Status{
@@ -29,34 +30,63 @@ public class Game{
     private List <Ghost> allGhosts;
     private HashMap <String, PImage> mapContents;
     private HashMap <Direction, PImage> wakaFaces;
-    private Long lives;
-    private Long speed;
     private String mapFile;
-    private List <Long> modeLengths;
-    private Long frightenedLength;
-    private ConfigReader config;
+    private GameConfig config;
+    private GhostCoordinator ghostState;
+    private ModeScheduler modeScheduler;
+    private long seed;
+    private SplittableRandom random;
     private PImage[] ghostSprites;
     private Status gameStatus;
-    private boolean isDebug;
+    private DebugOverlay debugOverlay;
+    private DirtyRenderer dirtyRenderer;
+    private AssetCache assets;
+    private int tickCount;
+    private Camera camera;
 
     /** 
     * Game driver class of Waka Waka. 
     * It has all the objects of the game, namely the player, ghost(s), and game map.
-    * @param config The config file for the game.
+    * @param config The config file for the game, which is parsed from config.json
+    *               unless it has already parsed a file.
     *               It sets the map filename, lives of player,
     *               speed of player and ghost(s), and also mode and frightened lengths 
-    *               of the ghosts.
+    *               of the ghosts. When it has a seed, the random numbers of the game
+    *               are the same in every run. It can also make the game repaint
+    *               only the regions of the screen that have changed.
+    * @throws IllegalArgumentException If the values of the config cannot be played.
     */
     public Game(ConfigReader config){
-        config.parseJSON("config.json");
+        this(new GameConfig(parse(config)));
+    }
+
+    // Parses config.json into a reader that has not parsed a file yet.
+    private static ConfigReader parse(ConfigReader config){
+        if (!config.isParsed()){
+            config.parseJSON("config.json");
+        }
+        return config;
+    }
+
+    /** 
+    * Game driver class of Waka Waka, made from a config that has already been parsed,
+    * so that a new game does not parse the config file again.
+    * The lives, speeds, and mode and frightened lengths are read from it when the game is set up.
+    * @param config The snapshot of the config file for the game, or of one of its levels.
+    */
+    public Game(GameConfig config){
+        this.config = config;
         this.mapFile = config.getMapFile();
-        this.lives = config.getLives();
-        this.speed = config.getSpeed();
-        this.modeLengths = config.getModeLengths();
-        this.frightenedLength = config.getFrightenedLength();
+        if (config.hasSeed()){
+            setSeed(config.getSeed());
+        }else{
+            setSeed(new SplittableRandom().nextLong());
+        }
 
         this.gameStatus = Status.PLAYING;
-        this.isDebug = false;
+        this.debugOverlay = new DebugOverlay(this);
+        setDirtyRendering(config.isDirtyRendering());
+        this.assets = AssetCache.shared();
 
         this.ambushers = new ArrayList <Ambusher>();
         this.chasers = new ArrayList <Chaser>();
@@ -70,20 +100,31 @@ public class Game{
     }
 
     /** 
-    * Loads all the sprite images for the game.
-    * @param app The app for calling loadImage method.
+    * Loads all the sprite images for the game, which is drawn by an app.
+    * The sprites are loaded from the classpath, so the app is not needed to load them.
+    * @param app The app the game is drawn by.
     */
     public void loadSprites(PApplet app){
+        loadSprites();
+    }
 
+    /** 
+    * Loads all the sprite images for the game.
+    * They are cut out of the atlas packed at build time, which is decoded once from the classpath.
+    * If the atlas has not been packed, each image is loaded from its own file on the classpath instead,
+    * so the game finds them whichever directory it is started from.
+    * The images are kept in the cache of the game, so the games after the first one do not decode them again.
+    */
+    public void loadSprites(){
         // Loading the images of the map Tiles.
-        PImage horizontal = app.loadImage("src/main/resources/horizontal.png");
-        PImage vertical = app.loadImage("src/main/resources/vertical.png");
-        PImage downLeft = app.loadImage("src/main/resources/downLeft.png");
-        PImage downRight = app.loadImage("src/main/resources/downRight.png");
-        PImage upLeft = app.loadImage("src/main/resources/upLeft.png");
-        PImage upRight = app.loadImage("src/main/resources/upRight.png");
-        PImage fruit = app.loadImage("src/main/resources/fruit.png");
-        PImage superfruit = app.loadImage("src/main/resources/superfruit.png");
+        PImage horizontal = loadSprite("horizontal");
+        PImage vertical = loadSprite("vertical");
+        PImage downLeft = loadSprite("downLeft");
+        PImage downRight = loadSprite("downRight");
+        PImage upLeft = loadSprite("upLeft");
+        PImage upRight = loadSprite("upRight");
+        PImage fruit = loadSprite("fruit");
+        PImage superfruit = loadSprite("superfruit");
 
         mapContents.put("1", horizontal);
         mapContents.put("2", vertical);
@@ -95,11 +136,11 @@ public class Game{
         mapContents.put("8", superfruit);
 
         //Loading images of Waka's faces.
-        PImage wakaDown = app.loadImage("src/main/resources/playerDown.png");
-        PImage wakaUp = app.loadImage("src/main/resources/playerUp.png");
-        PImage wakaLeft = app.loadImage("src/main/resources/playerLeft.png");
-        PImage wakaRight = app.loadImage("src/main/resources/playerRight.png");
-        PImage wakaClosed = app.loadImage("src/main/resources/playerClosed.png");
+        PImage wakaDown = loadSprite("playerDown");
+        PImage wakaUp = loadSprite("playerUp");
+        PImage wakaLeft = loadSprite("playerLeft");
+        PImage wakaRight = loadSprite("playerRight");
+        PImage wakaClosed = loadSprite("playerClosed");
 
         wakaFaces.put(Direction.DOWN, wakaDown);
         wakaFaces.put(Direction.UP, wakaUp);
@@ -108,44 +149,79 @@ public class Game{
         wakaFaces.put(Direction.NEUTRAL, wakaClosed);
 
         //Loading the images of the four types of ghosts.
-        PImage ambusherSprite = app.loadImage("src/main/resources/ambusher.png");
-        PImage chaserSprite = app.loadImage("src/main/resources/chaser.png");
-        PImage ignorantSprite = app.loadImage("src/main/resources/ignorant.png");
-        PImage whimSprite = app.loadImage("src/main/resources/whim.png");
-        PImage frightenedSprite = app.loadImage("src/main/resources/frightened.png");
+        PImage ambusherSprite = loadSprite("ambusher");
+        PImage chaserSprite = loadSprite("chaser");
+        PImage ignorantSprite = loadSprite("ignorant");
+        PImage whimSprite = loadSprite("whim");
+        PImage frightenedSprite = loadSprite("frightened");
 
         PImage[] ghostImages = {ambusherSprite, chaserSprite, ignorantSprite, whimSprite, frightenedSprite};
         ghostSprites = ghostImages;
     }
 
+    // Gets a sprite from the cache, which decodes it only the first time any game asks for it.
+    private PImage loadSprite(String name){
+        return assets.getSprite(name);
+    }
+
     /** 
     * Sets up the game.
     * All the objects of the game, such as the map, the player, and ghosts are initialised.
     * @param app To access the app frameCount to count for ghost modes.
     */
     public void setUp(PApplet app){
-        PImage ambusherSprite = ghostSprites[0];
-        PImage chaserSprite = ghostSprites[1];
-        PImage ignorantSprite = ghostSprites[2];
-        PImage whimSprite = ghostSprites[3];
-        PImage frightenedSprite = ghostSprites[4];
+        setUp(app.frameCount);
+        setCamera(app.width, app.height);
+    }
+
+    /** 
+    * Sets up the game without a sketch.
+    * All the objects of the game, such as the map, the player, and ghosts are initialised.
+    * When the sprites have not been loaded, the objects are created without any sprites.
+    * The map is validated first, and a map that cannot be played is rejected.
+    * @param frameCount The current frame of the game to count for ghost modes.
+    * @throws IllegalArgumentException If the map cannot be played, such as when a fruit cannot be reached.
+    */
+    public void setUp(int frameCount){
+        PImage ambusherSprite = null;
+        PImage chaserSprite = null;
+        PImage ignorantSprite = null;
+        PImage whimSprite = null;
+        PImage frightenedSprite = null;
+
+        if (ghostSprites != null){
+            ambusherSprite = ghostSprites[0];
+            chaserSprite = ghostSprites[1];
+            ignorantSprite = ghostSprites[2];
+            whimSprite = ghostSprites[3];
+            frightenedSprite = ghostSprites[4];
+        }
 
+        this.tickCount = frameCount;
+        // The map is parsed and validated once for every game, and each game only copies the cells it changes.
         this.gameMap = new GameMap (mapContents);
-        gameMap.parseMap(mapFile);
-        this.player = new Waka(lives, speed, wakaFaces, gameMap);
+        gameMap.parseMap(assets.getMapTemplate(mapFile));
+        this.ghostState = new GhostCoordinator(config.getModeLengths(), config.getFrightenedLength(), config.getTickRate(), random.split());
+        Long lives = Long.valueOf(config.getLives());
+        Long speed = Long.valueOf(config.getSpeed());
+        if (wakaFaces.isEmpty()){
+            this.player = new Waka(lives, speed, gameMap);
+        }else{
+            this.player = new Waka(lives, speed, wakaFaces, gameMap);
+        }
         for (int i=0; i<gameMap.getGhostList().size(); i++){
             String ghostType = gameMap.getGhostList().get(i);
             if(ghostType.equals("a")){
-                Ambusher ambusher = new Ambusher(gameMap, speed, ambusherSprite, player, modeLengths, ambushers.size(), frightenedLength, frightenedSprite);
+                Ambusher ambusher = new Ambusher(gameMap, ghostSpeed("a"), ambusherSprite, player, ghostState, ambushers.size(), frightenedSprite);
                 ambushers.add(ambusher);
                 allGhosts.add(ambusher);
                 
             }else if(ghostType.equals("c")){
-                Chaser chaser = new Chaser(gameMap, speed, chaserSprite, player, modeLengths, chasers.size(), frightenedLength, frightenedSprite);
+                Chaser chaser = new Chaser(gameMap, ghostSpeed("c"), chaserSprite, player, ghostState, chasers.size(), frightenedSprite);
                 chasers.add(chaser);
                 allGhosts.add(chaser);
             }else if(ghostType.equals("i")){
-                Ignorant ignorant =new Ignorant(gameMap, speed, ignorantSprite, player, modeLengths, ignorants.size(), frightenedLength, frightenedSprite);
+                Ignorant ignorant =new Ignorant(gameMap, ghostSpeed("i"), ignorantSprite, player, ghostState, ignorants.size(), frightenedSprite);
                 ignorants.add(ignorant);
                 allGhosts.add(ignorant);
             }
@@ -154,9 +230,9 @@ public class Game{
         for (int i = 0; i<gameMap.getGhostList().size(); i++){
             String ghostType = gameMap.getGhostList().get(i);
             int countChaser = 0;
-            Chaser chaserGhost = chasers.get(countChaser);
             if(ghostType.equals("w")){
-                Whim whim = new Whim(gameMap, speed, whimSprite, player, modeLengths, whims.size(), chaserGhost, frightenedLength, frightenedSprite);
+                Chaser chaserGhost = chasers.get(countChaser);
+                Whim whim = new Whim(gameMap, ghostSpeed("w"), whimSprite, player, ghostState, whims.size(), chaserGhost, frightenedSprite);
                 whims.add(whim);
                 allGhosts.add(whim);
                 countChaser++;
@@ -164,38 +240,191 @@ public class Game{
         }
 
         
-        allGhosts.get(0).setTargetFrame(app.frameCount);
+        this.modeScheduler = ghostState.getScheduler();
+        modeScheduler.start(frameCount);
     
     }
 
+    // Gets the speed of a type of ghost from the config, which is the speed of the game unless it has its own.
+    private Long ghostSpeed(String ghostType){
+        return Long.valueOf(config.getGhostSpeed(ghostType));
+    }
+
+    /** 
+    * Tells if the game has been set up, so that it can be played.
+    * @return If the objects of the game, such as the map, have been initialised.
+    */
+    public boolean isSetUp(){
+        return gameMap != null;
+    }
+
     /** 
     * Called when any keys are pressed and then released.
     * Used for debug mode and moving Waka.
     * @param app To access the app frameCount to count for ghost modes.
     */
     public void keyReleased(PApplet app){
-        for (Ghost ghost : allGhosts){
-            // When a space key was pressed,
-            // then the debug mode commences. But if debug mode is on already,
-            // then it is turned off.
-            if (ghost.spaceIsPressed()){
-
-                if (!isDebug){
-                    ghost.setDebug(true);
-                    isDebug = true;
-                    break;
-                }else if (isDebug){
-                    ghost.setDebug(false);
-                    isDebug = false;
-                    ghost.spaceNotPressed();
-                    break;
-                }
-            }
+        // The space key turns the debug overlay on, or off if it is on already.
+        if (app.key == ' '){
+            debugOverlay.toggle();
         }
         // Waka also starts moving according to the key that was pressed and released.
         player.setKeyIsReleased(true);
     }
 
+    /** 
+    * Called when a direction key is given without a sketch, such as in a headless game.
+    * Waka starts moving according to the given direction.
+    * @param direction The direction of the key input.
+    */
+    public void keyReleased(Direction direction){
+        player.setKeyQueue(direction);
+        player.setKeyIsReleased(true);
+    }
+
+    /** 
+    * Getter method to get the player of the game.
+    * @return The player of the game.
+    */
+    public Waka getPlayer(){
+        return player;
+    }
+
+    /** 
+    * Getter method to get all the ghosts of the game.
+    * @return All the ghosts of the game.
+    */
+    public List <Ghost> getGhosts(){
+        return allGhosts;
+    }
+
+    /** 
+    * Getter method to get the state shared by all the ghosts of the game.
+    * @return The state shared by all the ghosts of the game.
+    */
+    public GhostCoordinator getGhostState(){
+        return ghostState;
+    }
+
+    /** 
+    * Getter method to get the map of the game.
+    * @return The map of the game.
+    */
+    public GameMap getMap(){
+        return gameMap;
+    }
+
+    /** 
+    * Getter method to get the config the game was made from.
+    * @return The snapshot of the config file for the game.
+    */
+    public GameConfig getConfig(){
+        return config;
+    }
+
+    /** 
+    * Setter method to set the map file that is parsed when the game is set up.
+    * @param mapFile The txt file of the map.
+    */
+    public void setMapFile(String mapFile){
+        this.mapFile = mapFile;
+    }
+
+    /** 
+    * Getter method to get the frame of the next change of mode or end of the frightened state.
+    * @return The frame of the next scheduled transition of the ghosts, or Long.MAX_VALUE if there is none.
+    */
+    public long getNextEventFrame(){
+        return modeScheduler.getNextFrame();
+    }
+
+    /** 
+    * Setter method to set the seed of the random numbers of the game.
+    * The ghosts of each set up of the game get their own random numbers split from it.
+    * @param seed The seed of the random numbers.
+    */
+    public void setSeed(long seed){
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /** 
+    * Getter method to get the seed of the random numbers of the game, 
+    * so that the game can be played again the same way.
+    * @return The seed of the random numbers.
+    */
+    public long getSeed(){
+        return seed;
+    }
+
+    /** 
+    * Setter method to set whether the game repaints only the regions of the screen that have changed
+    * in each frame, instead of clearing the screen and drawing everything again.
+    * @param dirtyRendering If only the changed regions are repainted.
+    */
+    public void setDirtyRendering(boolean dirtyRendering){
+        if (dirtyRendering){
+            this.dirtyRenderer = new DirtyRenderer(this);
+        }else{
+            this.dirtyRenderer = null;
+        }
+    }
+
+    /** 
+    * Getter method to get whether the game repaints only the regions of the screen that have changed.
+    * @return If only the changed regions are repainted.
+    */
+    public boolean isDirtyRendering(){
+        return dirtyRenderer != null;
+    }
+
+    /** 
+    * Getter method to get the renderer that repaints only the regions of the screen that have changed.
+    * @return The renderer of the changed regions, or null if the whole screen is repainted.
+    */
+    public DirtyRenderer getDirtyRenderer(){
+        return dirtyRenderer;
+    }
+
+    /** 
+    * Setter method to set the camera that the game is seen through.
+    * When the map is larger than the view of the camera, the view follows Waka,
+    * and the regions that have changed cannot be repainted alone, since the whole view moves.
+    * @param camera The camera of the game.
+    */
+    public void setCamera(Camera camera){
+        this.camera = camera;
+        if (camera.isScrolling()){
+            setDirtyRendering(false);
+        }
+    }
+
+    /** 
+    * Sets the camera of a window the game is drawn in, once the game has been set up.
+    * It is set on the drawing thread, such as after a game that has been set up in the background is taken.
+    * @param width The width of the window in pixels.
+    * @param height The height of the window in pixels.
+    */
+    public void setCamera(int width, int height){
+        setCamera(new Camera(width, height, gameMap.getColNum()*gameMap.getTileSize().intValue(), gameMap.getGridHeight().intValue()));
+    }
+
+    /** 
+    * Getter method to get the camera that the game is seen through.
+    * @return The camera of the game, or null if the game has not been set up with a sketch.
+    */
+    public Camera getCamera(){
+        return camera;
+    }
+
+    /** 
+    * Getter method to get the debug overlay of the game, which is turned on and off with the space key.
+    * @return The debug overlay of the game.
+    */
+    public DebugOverlay getDebugOverlay(){
+        return debugOverlay;
+    }
+
     /** 
     * Getter method to get the status of the game.
     * @return The status of the game, whether it is playing, win, or lose.
@@ -204,30 +433,104 @@ public class Game{
         return gameStatus;
     }
 
+    /** 
+    * Setter method to set the cache of the fonts, texts, sprites and maps of the game,
+    * which is the cache shared by the whole process unless it is set.
+    * @param assets The cache of the fonts, texts, sprites and maps.
+    */
+    public void setAssets(AssetCache assets){
+        this.assets = assets;
+    }
+
+    /** 
+    * Getter method to get the cache of the fonts, texts, sprites and maps of the game.
+    * @return The cache of the fonts, texts, sprites and maps.
+    */
+    public AssetCache getAssets(){
+        return assets;
+    }
+
     /** 
     * Draws the text "YOU WIN" or "GAME OVER".
+    * The font is loaded and the text is drawn into an image only the first time, and the image is drawn after that.
+    * It is drawn in the middle of the window, whatever size the window is.
     * @param app To draw the texts.
     * @param message The message that the text displays.
     */
     public void displayText(PApplet app, String message){
-        PFont mono;
+        PImage text = assets.getText(app, "PressStart2P-Regular.ttf", 32, message);
 
-        mono = app.createFont("PressStart2P-Regular.ttf", 32);
-        app.textFont(mono);
-        app.textAlign(app.CENTER, app.CENTER);
-        app.text(message, 448/2, 576/2);
+        app.pushStyle();
+        app.imageMode(PApplet.CENTER);
+        app.image(text, app.width/2, app.height/2);
+        app.popStyle();
     }
 
     /** 
     * Draws the whole game, which includes the player, ghosts, and map.
     * It is called in App draw method in order to 
     * display movements and visuals of the game.
-    * @param app To access frameCount and displaying sprites.
+    * @param app To access frameCount, key inputs and displaying sprites.
     */
     public void draw(PApplet app){
+        player.setKeyQueue(app);
+
+        step(app.frameCount);
+        if (dirtyRenderer != null){
+            dirtyRenderer.render(app);
+        }else{
+            render(app);
+        }
+    }
+
+    /** 
+    * Draws the whole game after running a number of ticks of its logic, which can be none.
+    * It is called in App draw method with the ticks its fixed timestep gives for the frame,
+    * so the game runs at the same speed however fast the frames are drawn.
+    * The ticks are counted by the game itself, starting from the frame it was set up in.
+    * @param app To access key inputs and displaying sprites.
+    * @param ticks The number of ticks to run.
+    * @param alpha How far the game is between its last tick and the next one, from 0 to 1,
+    *              to draw the creatures between their last two positions.
+    */
+    public void draw(PApplet app, int ticks, float alpha){
+        player.setKeyQueue(app);
+
+        for (int i = 0; i < ticks && gameStatus == Status.PLAYING; i++){
+            tickCount++;
+            step(tickCount);
+        }
+        if (dirtyRenderer != null){
+            dirtyRenderer.render(app, alpha);
+        }else{
+            render(app, alpha);
+        }
+    }
+
+    /** 
+    * Getter method to get the last tick the game has run when it is drawn with a fixed timestep.
+    * @return The last tick the game has run.
+    */
+    public int getTickCount(){
+        return tickCount;
+    }
+
+    /** 
+    * Runs the logic of the whole game for one frame, which includes the player and ghosts.
+    * No sketch is needed, so it can also be run by a headless Engine.
+    * The ghosts are looped over by index, so that a step does not allocate.
+    * @param frameCount The current frame of the game.
+    */
+    public void step(int frameCount){
         boolean isCollision = false;
         boolean isFrightened = false;
 
+        // The creatures are drawn between where they are now and where they are after this step.
+        player.rememberPosition();
+        for (int i = 0; i < allGhosts.size(); i++){
+            allGhosts.get(i).rememberPosition();
+        }
+
         // Checks if the game is won or lost.
         if (player.getLivesLeft() <0){
             gameStatus = Status.LOSE;
@@ -235,13 +538,17 @@ public class Game{
             gameStatus = Status.WIN;
         }
 
-        gameMap.draw(app);
-        player.tick(app);
-        player.draw(app);
+        player.tick(frameCount);
 
+        // The ghosts become frightened, and change mode, once for the whole game.
+        if (player.eatSuperfruit()){
+            modeScheduler.frighten(frameCount);
+        }
+        modeScheduler.advance(frameCount);
 
         // Check if any ghost collided, or if a superfruit has been eaten.
-        for (Ghost ghost : allGhosts){
+        for (int i = 0; i < allGhosts.size(); i++){
+            Ghost ghost = allGhosts.get(i);
             if (ghost.isCollide()){
                 isCollision = true;
             }
@@ -257,15 +564,117 @@ public class Game{
         }
   
         // Tells the other ghosts that a ghost has collided, if a ghost has collided.
-        for (Ghost ghost : allGhosts){
+        // The ticks of the ghosts are only timed while the debug overlay shows them.
+        boolean isTiming = debugOverlay.isEnabled();
+        for (int i = 0; i < allGhosts.size(); i++){
+            Ghost ghost = allGhosts.get(i);
             if (isCollision){
                 ghost.setHasCollide(true);
             }
 
-            ghost.tick(app);
-            ghost.draw(app);
+            if (isTiming){
+                long start = System.nanoTime();
+                ghost.tick(frameCount);
+                debugOverlay.recordTick(i, System.nanoTime() - start);
+            }else{
+                ghost.tick(frameCount);
+            }
             ghost.setHasCollide(false);
         }
+    }
+
+    /** 
+    * Draws the map, the player and the ghosts as they are after the last step.
+    * @param app To display the sprites.
+    */
+    public void render(PApplet app){
+        render(app, 1);
+    }
+
+    /** 
+    * Draws the map, and the player and the ghosts between where they were before the last step and where they are now.
+    * @param app To display the sprites.
+    * @param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    */
+    public void render(PApplet app, float alpha){
+        if (camera != null && camera.isScrolling()){
+            renderView(app, alpha);
+            return;
+        }
+
+        gameMap.draw(app);
+        player.draw(app, alpha);
+        for (Ghost ghost : allGhosts){
+            ghost.draw(app, alpha);
+        }
+        if (debugOverlay.isEnabled()){
+            debugOverlay.draw(app, alpha);
+        }
+    }
+
+    /** 
+    * Draws only what overlaps a region of the map, which is all the dirty renderer repaints for the region.
+    * The walls and fruits of the region are copied from their layers, and only the creatures
+    * and the row of the lives left whose bounds overlap the region are drawn.
+    * @param app To display the sprites, which should be clipped to the region.
+    * @param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    * @param x The x-axis of the top left corner of the region in pixels.
+    * @param y The y-axis of the top left corner of the region in pixels.
+    * @param w The width of the region in pixels.
+    * @param h The height of the region in pixels.
+    */
+    public void renderRegion(PApplet app, float alpha, int x, int y, int w, int h){
+        int tileSize = gameMap.getTileSize().intValue();
+        gameMap.draw(app, x, y, w, h);
+        if (overlaps(player.getDrawX(alpha), player.getDrawY(alpha), tileSize, x, y, w, h)){
+            player.drawSprite(app, alpha);
+        }
+        int livesY = player.getLivesY();
+        if (livesY + tileSize > y && livesY - tileSize < y + h){
+            player.drawLives(app, livesY);
+        }
+        for (Ghost ghost : allGhosts){
+            if (overlaps(ghost.getDrawX(alpha), ghost.getDrawY(alpha), tileSize, x, y, w, h)){
+                ghost.draw(app, alpha);
+            }
+        }
+        if (debugOverlay.isEnabled()){
+            debugOverlay.draw(app, alpha);
+        }
+    }
 
+    // Checks if the box of two Tiles around the middle of a creature overlaps a region.
+    private static boolean overlaps(float centreX, float centreY, int tileSize, int x, int y, int w, int h){
+        return centreX + tileSize > x && centreX - tileSize < x + w
+            && centreY + tileSize > y && centreY - tileSize < y + h;
     }
-}
\ No newline at end of file
+
+    /** 
+    * Draws the part of a map larger than the window that the camera sees, with the camera following Waka.
+    * Only the Tiles and ghosts in the view are drawn, and the lives left are drawn at the bottom of the window.
+    * In debug mode every ghost is drawn, since the lines to the targets can cross the view.
+    * @param app To display the sprites.
+    * @param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    */
+    private void renderView(PApplet app, float alpha){
+        int tileSize = gameMap.getTileSize().intValue();
+        camera.follow(player.getDrawX(alpha), player.getDrawY(alpha));
+
+        app.pushMatrix();
+        app.translate(-camera.getX(), -camera.getY());
+        gameMap.draw(app, camera);
+        player.drawSprite(app, alpha);
+        boolean isDebugging = debugOverlay.isEnabled();
+        for (Ghost ghost : allGhosts){
+            if (isDebugging || camera.isVisible(ghost.getDrawX(alpha), ghost.getDrawY(alpha), tileSize*2)){
+                ghost.draw(app, alpha);
+            }
+        }
+        if (isDebugging){
+            debugOverlay.draw(app, alpha);
+        }
+        app.popMatrix();
+
+        player.drawLives(app, camera.getViewHeight() - (tileSize + tileSize + tileSize/2)/2);
+    }
+}
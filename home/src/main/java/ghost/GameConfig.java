@@ -0,0 +1,289 @@
+package ghost;
+
+import java.util.List;
+import java.util.Map;
+
+/** 
+* Typed snapshot of the config of Waka Waka, which cannot be changed once it is made.
+* The config file is parsed once by a ConfigReader, and its values are checked and copied into primitive fields,
+* so that a game reads them without unboxing and a config that cannot be played is rejected when it is loaded.
+* Every game after that is made from the snapshot without parsing the file again. When the file changes
+* a new snapshot is made, so a game that has already started keeps the values it started with.
+* <p>
+* Each type of ghost can have its own speed, which is the speed of the game when it is not set.
+* The levels are played in order, and each level can change the map, the speeds, and the frightened
+* and mode lengths of the config, while the lives, seed, tick rate and the way the game is drawn are shared.
+*/
+public class GameConfig{
+
+    /** 
+    * The names of the types of ghosts in the ghost speeds of the config, in the order of their types.
+    */
+    public static final String[] GHOST_NAMES = {"ambusher", "chaser", "ignorant", "whim"};
+
+    private final String mapFile;
+    private final int lives;
+    private final int speed;
+    private final int frightenedLength;
+    private final long[] modeLengths;
+    private final boolean hasSeed;
+    private final long seed;
+    private final boolean dirtyRendering;
+    private final boolean simulationThread;
+    private final int tickRate;
+    private final int[] ghostSpeeds;
+    private final GameConfig[] levels;
+
+    /** 
+    * Constructor of GameConfig, which checks and copies the values a reader has parsed.
+    * The reader can parse another file after this without changing the snapshot.
+    * @param config The reader that has parsed the config file.
+    * @throws IllegalArgumentException If a value a game needs is not set, or a value cannot be played,
+    *                                  such as a speed that does not divide the size of the Tiles.
+    */
+    public GameConfig(ConfigReader config){
+        this(config, null, 0);
+    }
+
+    // Checks and copies the values of the config, or of a level whose unset values are those of the config.
+    private GameConfig(ConfigReader config, GameConfig base, int level){
+        String where = "The config";
+        if (base != null){
+            where = "Level " + (level + 1) + " of the config";
+        }
+
+        this.mapFile = config.getMapFile() != null || base == null ? config.getMapFile() : base.mapFile;
+        this.speed = config.getSpeed() != null || base == null ? checkSpeed(config.getSpeed(), where + " speed") : base.speed;
+        this.frightenedLength = config.getFrightenedLength() != null || base == null
+            ? checkRange(config.getFrightenedLength(), 0, where + " frightened length") : base.frightenedLength;
+        if (mapFile == null){
+            throw new IllegalArgumentException(where + " does not have a map");
+        }
+
+        List <Long> lengths = config.getModeLengths();
+        if (lengths.isEmpty() && base != null){
+            this.modeLengths = base.modeLengths;
+        }else if (lengths.isEmpty()){
+            throw new IllegalArgumentException(where + " does not have any mode lengths");
+        }else{
+            this.modeLengths = new long[lengths.size()];
+            for (int i = 0; i < modeLengths.length; i++){
+                modeLengths[i] = checkRange(lengths.get(i), 1, where + " mode length");
+            }
+        }
+
+        // The speeds of the ghosts that are not set are 0, and they move at the speed of the game.
+        this.ghostSpeeds = base == null ? new int[GHOST_NAMES.length] : base.ghostSpeeds.clone();
+        for (Map.Entry <String, Long> ghostSpeed : config.getGhostSpeeds().entrySet()){
+            int ghost = ghostIndex(ghostSpeed.getKey());
+            if (ghost < 0){
+                throw new IllegalArgumentException(where + " has a speed for " + ghostSpeed.getKey() + ", which is not a type of ghost");
+            }
+            ghostSpeeds[ghost] = checkSpeed(ghostSpeed.getValue(), where + " speed of the " + ghostSpeed.getKey());
+        }
+
+        if (base != null){
+            // The values every level shares.
+            this.lives = base.lives;
+            this.hasSeed = base.hasSeed;
+            this.seed = base.seed;
+            this.dirtyRendering = base.dirtyRendering;
+            this.simulationThread = base.simulationThread;
+            this.tickRate = base.tickRate;
+            this.levels = new GameConfig[0];
+            return;
+        }
+
+        this.lives = checkRange(config.getLives(), 1, where + " lives");
+        this.hasSeed = config.getSeed() != null;
+        this.seed = hasSeed ? config.getSeed() : 0;
+        this.dirtyRendering = config.isDirtyRendering();
+        this.simulationThread = config.isSimulationThread();
+        this.tickRate = config.getTickRate() == null ? ModeScheduler.FRAMES_PER_SECOND
+            : checkRange(config.getTickRate(), 1, where + " tick rate");
+
+        // Each level is checked once here, so a level that cannot be played is rejected before the first game.
+        List <ConfigReader> levelReaders = config.getLevels();
+        this.levels = new GameConfig[levelReaders.size()];
+        for (int i = 0; i < levels.length; i++){
+            levels[i] = new GameConfig(levelReaders.get(i), this, i);
+        }
+    }
+
+    // Checks a value is set and at least the minimum, and gives it as an int.
+    private static int checkRange(Long value, int min, String name){
+        if (value == null){
+            throw new IllegalArgumentException(name + " is not set");
+        }
+        if (value < min || value > Integer.MAX_VALUE){
+            throw new IllegalArgumentException(name + " is " + value + ", but must be at least " + min);
+        }
+        return value.intValue();
+    }
+
+    // Checks a speed is set and divides the size of the Tiles.
+    private static int checkSpeed(Long value, String name){
+        int checked = checkRange(value, 1, name);
+        if (checked > GameMap.TILE_SIZE || GameMap.TILE_SIZE % checked != 0){
+            throw new IllegalArgumentException(name + " is " + value + ", but must divide " + GameMap.TILE_SIZE);
+        }
+        return checked;
+    }
+
+    // Gets the index of a type of ghost by its name, or -1 if it is not a type of ghost.
+    private static int ghostIndex(String name){
+        for (int i = 0; i < GHOST_NAMES.length; i++){
+            if (GHOST_NAMES[i].equals(name)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** 
+    * Parses a config file into a snapshot.
+    * @param fileName The JSON file that will be parsed.
+    * @return The snapshot of the config file.
+    * @throws IllegalArgumentException If the file cannot be parsed, or its values cannot be played.
+    */
+    public static GameConfig load(String fileName){
+        ConfigReader reader = new ConfigReader();
+        reader.parseJSON(fileName);
+        if (!reader.isParsed()){
+            throw new IllegalArgumentException("The config " + fileName + " cannot be parsed");
+        }
+        return new GameConfig(reader);
+    }
+
+    /** 
+    * To get the String name of map file of the game.
+    * @return The String name of map file of the game.
+    */
+    public String getMapFile(){
+        return mapFile;
+    }
+
+    /** 
+    * To get the lives of player in the game.
+    * @return The lives of player in the game.
+    */
+    public int getLives(){
+        return lives;
+    }
+
+    /** 
+    * To get the speed of player in the game, which is also the speed of the ghosts that do not have their own.
+    * @return The speed of player in the game in pixels a tick.
+    */
+    public int getSpeed(){
+        return speed;
+    }
+
+    /** 
+    * To get the speed of a type of ghost in the game.
+    * @param ghostType The type of the ghost as written in the map, such as "a" for an ambusher.
+    * @return The speed of the type of ghost in pixels a tick, or the speed of the game if it does not have its own.
+    */
+    public int getGhostSpeed(String ghostType){
+        TileType type = TileType.fromValue(ghostType);
+        int ghost = type.ordinal() - TileType.AMBUSHER.ordinal();
+        if (ghost >= 0 && ghost < ghostSpeeds.length && ghostSpeeds[ghost] != 0){
+            return ghostSpeeds[ghost];
+        }
+        return speed;
+    }
+
+    /** 
+    * To get the frightened length of the ghost(s) in the game.
+    * @return The frightened length of the ghost(s) in the game in seconds.
+    */
+    public int getFrightenedLength(){
+        return frightenedLength;
+    }
+
+    /** 
+    * To get the number of mode lengths of the ghost(s) in the game.
+    * @return The number of mode lengths, which is at least 1.
+    */
+    public int getModeCount(){
+        return modeLengths.length;
+    }
+
+    /** 
+    * To get a mode length of the ghost(s) in the game.
+    * @param i The order of the mode length.
+    * @return The mode length in seconds.
+    */
+    public long getModeLength(int i){
+        return modeLengths[i];
+    }
+
+    /** 
+    * To get a copy of the mode lengths of the ghost(s) in the game, which can be given to a game's ghosts.
+    * @return The mode lengths in seconds.
+    */
+    public long[] getModeLengths(){
+        return modeLengths.clone();
+    }
+
+    /** 
+    * Tells if the config sets the seed of the random numbers of the game.
+    * @return If the seed is set.
+    */
+    public boolean hasSeed(){
+        return hasSeed;
+    }
+
+    /** 
+    * To get the seed of the random numbers of the game, such as the moves of frightened ghosts.
+    * @return The seed of the random numbers of the game, which is 0 if it is not set.
+    */
+    public long getSeed(){
+        return seed;
+    }
+
+    /** 
+    * To get whether the game repaints only the regions of the screen that have changed in each frame.
+    * @return If only the changed regions are repainted, which is false if it is not set.
+    */
+    public boolean isDirtyRendering(){
+        return dirtyRendering;
+    }
+
+    /** 
+    * To get whether the logic of the game runs on its own thread.
+    * @return If the game runs on its own thread, which is false if it is not set.
+    */
+    public boolean isSimulationThread(){
+        return simulationThread;
+    }
+
+    /** 
+    * To get the number of ticks of the game in a second, which the mode and frightened lengths are counted in.
+    * @return The number of ticks in a second, which is ModeScheduler.FRAMES_PER_SECOND if it is not set.
+    */
+    public int getTickRate(){
+        return tickRate;
+    }
+
+    /** 
+    * To get the number of levels of the game.
+    * @return The number of levels, which is 1 when the config does not have any levels.
+    */
+    public int getLevelCount(){
+        return Math.max(1, levels.length);
+    }
+
+    /** 
+    * To get the config of a level, which has the values of the config that the level does not change.
+    * The levels after the last one are played with the last level.
+    * @param level The level from 0.
+    * @return The config of the level, which is this config when it does not have any levels.
+    */
+    public GameConfig getLevel(int level){
+        if (levels.length == 0){
+            return this;
+        }
+        return levels[Math.min(Math.max(level, 0), levels.length - 1)];
+    }
+}
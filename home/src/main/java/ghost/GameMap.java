@@ -1,23 +1,37 @@
 package ghost;
 
 import processing.core.PApplet;
+import processing.core.PGraphics;
 import processing.core.PImage;
 
-import java.io.File;
-import java.util.Scanner;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.ArrayList;
-import java.io.FileNotFoundException;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.HashMap;
 
 /** 
 * Map class of the game that parses and draws the map. 
-* It parses a text file into a list of Tiles and draws based on the sprite and each Tile's value.
+* It parses a text file into a grid of one byte per cell and draws based on the sprite and each cell's type,
+* or maps a file compiled by MapCompiler, whose grid is read in place without being parsed or copied.
+* Tiles are views over the cells of the grid, created the first time they are needed.
+* The walls and the fruits are drawn into layers that are only redrawn when their cells change,
+* or, for maps larger than the window, only the cells a camera can see are drawn.
 */
 public class GameMap{
 
+    private ByteBuffer cells;
+    private ByteBuffer moves;
+    private Tile[][] tileRows;
+    private int rows;
+    private int cols;
     private List <List<Tile>> grid;
-    private Long gridHeight;
+    private int gridHeight;
     private HashMap <String, PImage> sprites;
     private List <String> ghostList;
     private List <List<Long>> ambusherStart;
@@ -25,9 +39,28 @@ public class GameMap{
     private List <List<Long>> ignorantStart;
     private List <List<Long>> whimStart;
     private List <Long> wakaStart;
-    private Long tileSize;
-    private Long countFruits;
+    private int tileSize;
+    private int countFruits;
     private int countGhost;
+    private PGraphics wallLayer;
+    private PGraphics fruitLayer;
+    private boolean wallsChanged;
+    private boolean fruitsChanged;
+    private int[] changedCells;
+    private int changedCount;
+    private byte[] cellsCopy;
+
+    /** 
+    * Flag of the open moves of a cell that is a junction, where three or more of its neighbours are not walls.
+    * The moves to the neighbours are the bits of the values of their directions.
+    */
+    public static final int JUNCTION_FLAG = 1 << 5;
+
+    /** 
+    * The width and height of the Tiles in pixels, which the speeds of Waka and the ghosts must divide,
+    * so that they stop exactly at the middle of each Tile.
+    */
+    public static final int TILE_SIZE = 16;
 
     /** 
     * Overloaded constructor of Map that does receive any sprites. 
@@ -40,8 +73,8 @@ public class GameMap{
         whimStart = new ArrayList <List<Long>>();
         wakaStart = new ArrayList <Long>();
         ghostList = new ArrayList <String>();
-        this.tileSize = 16L;
-        countFruits = 0L;
+        this.tileSize = TILE_SIZE;
+        countFruits = 0;
         this.countGhost = 0;
     }
 
@@ -60,7 +93,7 @@ public class GameMap{
     * @return The bottom left corner Tile of map grid.
     */
     public Tile getBottomLeftCorner(){
-        return grid.get(getRowNum()-1).get(0);
+        return getTile(getRowNum()-1, 0);
     }
 
     /** 
@@ -68,7 +101,7 @@ public class GameMap{
     * @return The bottom right corner Tile of the map grid.
     */
     public Tile getBottomRightCorner(){
-        return grid.get(getRowNum()-1).get(getColNum()-1);
+        return getTile(getRowNum()-1, getColNum()-1);
     }
 
     /** 
@@ -76,7 +109,7 @@ public class GameMap{
     * @return The top right corner Tile of the map grid.
     */
     public Tile getTopRightCorner(){
-        return grid.get(0).get(getColNum()-1);
+        return getTile(0, getColNum()-1);
     }
 
     /** 
@@ -84,7 +117,7 @@ public class GameMap{
     * @return The top left corner Tile of the map grid.
     */
     public Tile getTopLeftCorner(){
-        return grid.get(0).get(0);
+        return getTile(0, 0);
     }
 
     /** 
@@ -92,7 +125,7 @@ public class GameMap{
     * @return The number of rows of the map grid.
     */
     public int getRowNum(){
-        return grid.size();
+        return rows;
     }
 
     /** 
@@ -100,7 +133,7 @@ public class GameMap{
     * @return The number of columns of the map grid.
     */
     public int getColNum(){
-        return grid.get(0).size();
+        return cols;
     }
 
     /** 
@@ -147,18 +180,381 @@ public class GameMap{
 
     /** 
     * To get the grid (a 2d List of Tiles) of the map.
+    * The List is a read-only view over the cells of the map.
     * @return The grid (a 2d List of Tiles) of the map.
     */
     public List <List<Tile>> getGrid(){
         return grid;
     }
 
+    /** 
+    * To get the Tile in a specified row and column of the map.
+    * @param row The row of the Tile.
+    * @param col The column of the Tile.
+    * @return The Tile in the specified row and column.
+    */
+    public Tile getTile(int row, int col){
+        if (row < 0 || row >= rows || col < 0 || col >= cols){
+            throw new IndexOutOfBoundsException("Tile " + row + ", " + col + " is outside of the map");
+        }
+
+        // The Tiles of a row are only allocated once a Tile of the row is needed.
+        Tile[] tiles = tileRows[row];
+        if (tiles == null){
+            tiles = new Tile[cols];
+            tileRows[row] = tiles;
+        }
+        Tile tile = tiles[col];
+        if (tile == null){
+            tile = new Tile(this, row, col);
+            tiles[col] = tile;
+        }
+        return tile;
+    }
+
+    /** 
+    * To get a Tile and its surrounding Tiles.
+    * @param row The row of the Tile.
+    * @param col The column of the Tile.
+    * @return The Tile itself and the Tiles above, below, left and right,
+    *         with null for a Tile outside of the map.
+    */
+    public Tile[] getNeighbours(int row, int col){
+        Tile[] neighbours = {getTile(row, col), getTileOrNull(row-1, col), getTileOrNull(row+1, col), 
+                             getTileOrNull(row, col-1), getTileOrNull(row, col+1)};
+        return neighbours;
+    }
+
+    // Gets the Tile in a row and column, or null if it is outside of the grid.
+    private Tile getTileOrNull(int row, int col){
+        if (row < 0 || row >= rows || col < 0 || col >= cols){
+            return null;
+        }
+        return getTile(row, col);
+    }
+
+    /** 
+    * To get the cell of the grid at an index, which is row*cols + col.
+    * @param index The index of the cell.
+    * @return The type and flags of the cell.
+    */
+    public byte getCell(int index){
+        return cells.get(index);
+    }
+
+    /** 
+    * To set the cell of the grid at an index, which is row*cols + col.
+    * @param index The index of the cell.
+    * @param cell The type and flags of the cell.
+    */
+    public void setCell(int index, byte cell){
+        byte oldCell = cells.get(index);
+        cells = writable(cells);
+        cells.put(index, cell);
+        if (oldCell != cell){
+            cellsCopy = null;
+        }
+
+        // The layer of the walls or fruits is redrawn when the type of one of its cells changes.
+        if (TileType.of(oldCell) != TileType.of(cell)){
+            if (changedCount == changedCells.length){
+                changedCells = Arrays.copyOf(changedCells, changedCount*2);
+            }
+            changedCells[changedCount] = index;
+            changedCount++;
+
+            int flags = oldCell | cell;
+            if ((flags & TileType.WALL_FLAG) != 0){
+                wallsChanged = true;
+            }
+
+            // The open moves of the cell and its neighbours change when a wall is added or removed.
+            if (moves != null && ((oldCell ^ cell) & TileType.WALL_FLAG) != 0){
+                updateMoves(index);
+            }
+            if ((flags & TileType.FRUIT_FLAG) != 0){
+                fruitsChanged = true;
+            }
+        }
+    }
+
+    /** 
+    * To get a copy of all the cells of the grid, row by row, which must not be changed.
+    * The copy is made in one go, and is shared by every caller until a cell of the grid changes,
+    * so the snapshots of the frames in which no fruit is eaten do not copy the grid again.
+    * @return The cells of the grid, which are not changed when the grid changes.
+    */
+    byte[] getCellsCopy(){
+        if (cellsCopy == null){
+            byte[] copy = new byte[rows*cols];
+            ByteBuffer view = cells.duplicate();
+            view.rewind();
+            view.get(copy);
+            cellsCopy = copy;
+        }
+        return cellsCopy;
+    }
+
+    /** 
+    * Tells if the layer of the fruits has to be redrawn, because a fruit has been eaten since it was last drawn.
+    * @return If the layer of the fruits has to be redrawn.
+    */
+    boolean hasFruitsChanged(){
+        return fruitsChanged;
+    }
+
+    /** 
+    * Tells if the layer of the walls has to be redrawn, because a wall has changed since it was last drawn.
+    * @return If the layer of the walls has to be redrawn.
+    */
+    boolean hasWallsChanged(){
+        return wallsChanged;
+    }
+
+    /** 
+    * To get the number of cells whose type has changed since the changes were last cleared,
+    * such as the fruits that have been eaten.
+    * @return The number of cells that have changed.
+    */
+    int getChangedCellCount(){
+        return changedCount;
+    }
+
+    /** 
+    * To get the index of a cell whose type has changed since the changes were last cleared.
+    * @param i The order in which the cell has changed.
+    * @return The index of the cell, which is row*cols + col.
+    */
+    int getChangedCell(int i){
+        return changedCells[i];
+    }
+
+    /** 
+    * Forgets the cells that have changed, once they have been redrawn.
+    */
+    void clearChangedCells(){
+        changedCount = 0;
+    }
+
+    /** 
+    * Checks if the cell of the grid at an index is a wall.
+    * @param index The index of the cell.
+    * @return If the cell is a wall or not.
+    */
+    public boolean isWall(int index){
+        return (cells.get(index) & TileType.WALL_FLAG) != 0;
+    }
+
+    /** 
+    * To get the moves from a cell to its neighbours that are not walls.
+    * The moves are worked out for the whole map the first time they are needed, 
+    * unless the map was compiled with them.
+    * @param index The index of the cell, which is row*cols + col.
+    * @return The moves as a bitmask, where the move to a neighbour is the bit of the value of its direction,
+    *         and JUNCTION_FLAG is set when there are three or more moves.
+    */
+    public int getOpenMoves(int index){
+        if (moves == null){
+            moves = ByteBuffer.allocate(rows*cols);
+            for (int i = 0; i < rows*cols; i++){
+                moves.put(i, computeMoves(i));
+            }
+        }
+        return moves.get(index) & 0xFF;
+    }
+
+    /** 
+    * Checks if a cell is a junction, where three or more of its neighbours are not walls.
+    * @param index The index of the cell.
+    * @return If the cell is a junction.
+    */
+    public boolean isJunction(int index){
+        return (getOpenMoves(index) & JUNCTION_FLAG) != 0;
+    }
+
+    // Works out the open moves of a cell from the walls around it.
+    private byte computeMoves(int index){
+        int row = index / cols;
+        int col = index % cols;
+        int open = 0;
+        if (row > 0 && !isWall(index - cols)){
+            open |= 1 << Direction.UP.getValue();
+        }
+        if (row < rows - 1 && !isWall(index + cols)){
+            open |= 1 << Direction.DOWN.getValue();
+        }
+        if (col > 0 && !isWall(index - 1)){
+            open |= 1 << Direction.LEFT.getValue();
+        }
+        if (col < cols - 1 && !isWall(index + 1)){
+            open |= 1 << Direction.RIGHT.getValue();
+        }
+        if (Integer.bitCount(open) >= 3){
+            open |= JUNCTION_FLAG;
+        }
+        return (byte) open;
+    }
+
+    // Works out again the open moves of a cell and its neighbours, after the cell has become or stopped being a wall.
+    private void updateMoves(int index){
+        int row = index / cols;
+        int col = index % cols;
+        moves = writable(moves);
+        moves.put(index, computeMoves(index));
+        if (row > 0){
+            moves.put(index - cols, computeMoves(index - cols));
+        }
+        if (row < rows - 1){
+            moves.put(index + cols, computeMoves(index + cols));
+        }
+        if (col > 0){
+            moves.put(index - 1, computeMoves(index - 1));
+        }
+        if (col < cols - 1){
+            moves.put(index + 1, computeMoves(index + 1));
+        }
+    }
+
+    /** 
+    * Validates and analyses the map in one pass over its cells, before a game is played on it.
+    * The errors are a missing starting position of Waka, a whim without a chaser to follow,
+    * a fruit that Waka cannot reach, and a cell on the border of the map that Waka or a ghost can walk onto,
+    * where the Tiles around it would be outside of the map.
+    * The warnings are more than one starting position of Waka, and a ghost that cannot reach Waka.
+    * The dead ends that Waka can reach are also reported.
+    * The cells that cannot be reached from any starting position, such as the empty rows around map.txt, are not checked.
+    * @return The report of the map.
+    */
+    public MapReport validate(){
+        MapReport report = new MapReport();
+        int size = rows*cols;
+        if (wakaStart.isEmpty()){
+            report.addError("There is no starting position of Waka");
+        }else if (wakaStart.size() > 2){
+            report.addWarning("There are " + wakaStart.size()/2 + " starting positions of Waka, and only the first is used");
+        }
+        if (!whimStart.isEmpty() && chaserStart.isEmpty()){
+            report.addError("There is a whim but no chaser for it to follow");
+        }
+
+        // The cells Waka can reach, and the cells that any creature can reach.
+        boolean[] fromWaka = new boolean[size];
+        boolean[] fromAny = new boolean[size];
+        int[] queue = new int[size];
+        int ghostSpawns = 0;
+        int[] spawns = new int[countGhost];
+        for (int i = 0; i < size; i++){
+            if (TileType.of(cells.get(i)) != TileType.WAKA && (cells.get(i) & TileType.SPAWN_FLAG) != 0){
+                spawns[ghostSpawns] = i;
+                ghostSpawns++;
+            }
+        }
+        if (!wakaStart.isEmpty()){
+            int wakaIndex = toIndex(wakaStart.get(1)) * cols + toIndex(wakaStart.get(0));
+            report.setReachableCount(fill(new int[] {wakaIndex}, 1, fromWaka, queue));
+        }
+        fill(spawns, ghostSpawns, fromAny, queue);
+        for (int i = 0; i < size; i++){
+            fromAny[i] |= fromWaka[i];
+        }
+
+        int borderCells = 0;
+        int firstBorder = -1;
+        int unreachableFruits = 0;
+        int firstFruit = -1;
+        for (int i = 0; i < size; i++){
+            int row = i / cols;
+            int col = i % cols;
+            if (fromAny[i] && (row == 0 || row == rows - 1 || col == 0 || col == cols - 1)){
+                if (borderCells == 0){
+                    firstBorder = i;
+                }
+                borderCells++;
+            }
+            if (!wakaStart.isEmpty() && !fromWaka[i] && (cells.get(i) & TileType.FRUIT_FLAG) != 0){
+                if (unreachableFruits == 0){
+                    firstFruit = i;
+                }
+                unreachableFruits++;
+            }
+            if (fromWaka[i] && Integer.bitCount(getOpenMoves(i) & ~JUNCTION_FLAG) == 1){
+                report.addDeadEnd(i);
+            }
+        }
+
+        if (borderCells > 0){
+            report.addError(borderCells + " cells on the border of the map can be walked onto, the first at " + describe(firstBorder));
+        }
+        if (unreachableFruits > 0){
+            report.addError(unreachableFruits + " fruits cannot be reached by Waka, the first at " + describe(firstFruit));
+        }
+        if (!wakaStart.isEmpty()){
+            for (int i = 0; i < ghostSpawns; i++){
+                if (!fromWaka[spawns[i]]){
+                    report.addWarning("The " + TileType.of(cells.get(spawns[i])).getValue() + " ghost at " 
+                                      + describe(spawns[i]) + " cannot reach Waka");
+                }
+            }
+        }
+        return report;
+    }
+
+    // Marks the cells that can be walked to from some starting cells, breadth first, and counts them.
+    private int fill(int[] starts, int startCount, boolean[] reached, int[] queue){
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < startCount; i++){
+            if (!reached[starts[i]]){
+                reached[starts[i]] = true;
+                queue[tail] = starts[i];
+                tail++;
+            }
+        }
+
+        // The steps in the grid to the cells above, below, left and right, in the order of the values of their directions.
+        int[] steps = {0, -cols, cols, -1, 1};
+        while (head < tail){
+            int index = queue[head];
+            head++;
+            int open = getOpenMoves(index);
+            for (int i = 1; i < steps.length; i++){
+                int next = index + steps[i];
+                if ((open & (1 << i)) != 0 && !reached[next]){
+                    reached[next] = true;
+                    queue[tail] = next;
+                    tail++;
+                }
+            }
+        }
+        return tail;
+    }
+
+    // Gets the row or column of a position in pixels.
+    private int toIndex(long position){
+        return (int) (position / tileSize);
+    }
+
+    // Describes where a cell is, such as "row 3, column 5".
+    private String describe(int index){
+        return "row " + (index / cols) + ", column " + (index % cols);
+    }
+
+    /** 
+    * To get the Tile that contains a position in pixels.
+    * @param x The position in x-axis.
+    * @param y The position in y-axis.
+    * @return The Tile that contains the position.
+    */
+    public Tile getTileAt(int x, int y){
+        return getTile(Tile.toIndex(y, tileSize), Tile.toIndex(x, tileSize));
+    }
+
     /** 
     * To get the size of the Tiles of the map.
     * @return The size of the Tiles of the map.
     */
     public Long getTileSize(){
-        return tileSize;
+        return Long.valueOf(tileSize);
     }
 
     /** 
@@ -166,6 +562,14 @@ public class GameMap{
     * @return The number of total fruits inside the map.
     */
     public Long getTotalFruits(){
+        return Long.valueOf(countFruits);
+    }
+
+    /** 
+    * To get the number of total fruits inside the map as a primitive.
+    * @return The number of total fruits inside the map.
+    */
+    public int getTotalFruitCount(){
         return countFruits;
     }
 
@@ -174,155 +578,383 @@ public class GameMap{
     * @return The height of the map grid in pixels.
     */
     public Long getGridHeight(){
-        return gridHeight;
+        return Long.valueOf(gridHeight);
     }
 
     /** 
-    * Draws the map according to the grid's (a 2d list of Tiles) Tile values.
+    * Draws the map according to the types of the grid's cells.
+    * The walls and fruits are drawn from their layers, which are redrawn only when their cells have changed.
     * @param app To draw the sprite images.
     */
     public void draw(PApplet app){
+        updateLayers(app);
+
+        app.pushStyle();
+        app.imageMode(PApplet.CORNER);
+        app.image(wallLayer, 0, 0);
+        app.image(fruitLayer, 0, 0);
+        app.popStyle();
+    }
+
+    /** 
+    * Draws only the walls and fruits in a region of the map, by copying that part of their layers,
+    * such as when only the regions of the screen that have changed are repainted.
+    * @param app To draw the sprite images.
+    * @param x The x-axis of the top left corner of the region in pixels.
+    * @param y The y-axis of the top left corner of the region in pixels.
+    * @param w The width of the region in pixels.
+    * @param h The height of the region in pixels.
+    */
+    public void draw(PApplet app, int x, int y, int w, int h){
+        updateLayers(app);
+
+        app.pushStyle();
+        app.imageMode(PApplet.CORNER);
+        app.image(wallLayer, x, y, w, h, x, y, x + w, y + h);
+        app.image(fruitLayer, x, y, w, h, x, y, x + w, y + h);
+        app.popStyle();
+    }
 
-        Long countY = 0L;
-        for (int i = 0; i< grid.size(); i++){
-            Long countX = 0L;
-
-            for (int j = 0; j< grid.get(i).size(); j++){
-                Tile tile = grid.get(i).get(j);
-                String value = tile.getValue();
-                Long middleX = countX + (tile.getSize()/2);
-                Long middleY = countY + (tile.getSize()/2);
-
-                // Draws a horizontal wall.
-                if (value.equals("1")){
-                    PImage sprite = sprites.get("1");
-                    app.image(sprite, middleX, middleY);
-
-                // Draws a vertical wall.
-                } else if (value.equals("2")){
-                    PImage sprite = sprites.get("2");
-                    app.image(sprite, middleX, middleY);
-
-                // Draws a corner wall (up + left).
-                } else if (value.equals("3")){
-                    PImage sprite = sprites.get("3");
-                    app.image(sprite, middleX, middleY);
-
-                // Draws a corner wall (up + right).
-                } else if (value.equals("4")){
-                    PImage sprite = sprites.get("4");
-                    app.image(sprite, middleX, middleY);
-
-                // Draws a corner wall (down + left).
-                } else if (value.equals("5")){
-                    PImage sprite = sprites.get("5");
-                    app.image(sprite, middleX, middleY);
-
-                // Draws a corner wall (down + right).
-                } else if (value.equals("6")){
-                    PImage sprite = sprites.get("6");
-                    app.image(sprite, middleX, middleY);
-                
-                // Draws fruit.
-                } else if (value.equals("7")){
-                    PImage sprite = sprites.get("7");
-                    app.image(sprite, middleX, middleY);
-
-                // Draws superfruit.
-                }else if (value.equals("8")){
-                    PImage sprite = sprites.get("8");
-                    app.image(sprite, middleX, middleY);
+    // Redraws the layers of the walls and fruits if their cells have changed since they were last drawn.
+    private void updateLayers(PApplet app){
+        if (wallLayer == null || wallsChanged){
+            wallLayer = drawLayer(app, wallLayer, TileType.WALL_FLAG);
+            wallsChanged = false;
+        }
+        if (fruitLayer == null || fruitsChanged){
+            fruitLayer = drawLayer(app, fruitLayer, TileType.FRUIT_FLAG);
+            fruitsChanged = false;
+        }
+    }
+
+    /** 
+    * Draws only the walls and fruits that a camera can see, for maps that are larger than the window.
+    * No layers are used, since a layer the size of a large map would be too big,
+    * so the cost of drawing depends on the size of the view and not on the size of the map.
+    * The sketch has to be moved by the corner of the camera before this is called.
+    * @param app To draw the sprite images.
+    * @param camera The camera whose view is drawn.
+    */
+    public void draw(PApplet app, Camera camera){
+        int endRow = camera.getEndRow(tileSize, rows);
+        int endCol = camera.getEndCol(tileSize, cols);
+
+        app.pushStyle();
+        app.imageMode(PApplet.CENTER);
+        for (int i = camera.getFirstRow(tileSize); i < endRow; i++){
+            for (int j = camera.getFirstCol(tileSize); j < endCol; j++){
+                int cell = cells.get(i*cols + j);
+                if ((cell & (TileType.WALL_FLAG | TileType.FRUIT_FLAG)) != 0){
+                    PImage sprite = sprites.get(TileType.of(cell).getValue());
+
+                    // Unknown cells are walls without a sprite.
+                    if (sprite != null){
+                        app.image(sprite, j*tileSize + (tileSize/2), i*tileSize + (tileSize/2));
+                    }
                 }
-                countX += 16;
             }
-            countY += 16;
         }
+        app.popStyle();
     }
 
     /** 
-    * Parses a txt file into a grid (a 2d list of Tiles).
-    * @param filename The txt file that will be parsed into a 2d list of Tiles.
+    * Draws the sprites of the cells that have a flag into a layer the size of the map.
+    * @param app To create the layer the first time.
+    * @param layer The layer to be redrawn, or null if it has not been created yet.
+    * @param flag The flag of the cells to be drawn, such as walls or fruits.
+    * @return The layer with the cells drawn on it.
     */
-    public void parseMap(String filename){
-        List <List<Tile>> map = new ArrayList <List<Tile>> ();
-        try{
-            File f = new File (filename);
-            Scanner scan = new Scanner(f);
-
-            Long countY = 0L;
-            while (scan.hasNext()){
-                String line = scan.nextLine();
-                String[] values = line.split("");
-                Long countX = 0L;
-                List <Tile> row = new ArrayList <Tile>();
-                for (String value: values){
-                    Long middleX = countX + (tileSize/2);
-                    Long middleY = countY + (tileSize/2);
-                    
-                    Tile tile = new Tile (tileSize, value, middleX, middleY);
-                    List <Long> ghostPos = new ArrayList<Long>();
-
-                    // Adds player's starting position coordinates.
-                    if (value.equals("p")){
-                        wakaStart.add(middleX);
-                        wakaStart.add(middleY);
-                    }
-                    // Adds ambusher's starting position coordinates.
-                    if (value.equals("a")){
-                        ghostPos.add(middleX);
-                        ghostPos.add(middleY);
-                        ambusherStart.add(ghostPos);
-
-                        ghostList.add(value);
-                        countGhost++;
-
-                    // Adds chaser's starting position coordinates.
-                    } else if (value.equals("c")){
-                        ghostPos.add(middleX);
-                        ghostPos.add(middleY);
-                        chaserStart.add(ghostPos);
-
-                        ghostList.add(value);
-                        countGhost++;
-
-                    // Adds ignorant's starting position coordinates.
-                    }else if (value.equals("i")){
-                        ghostPos.add(middleX);
-                        ghostPos.add(middleY);
-                        ignorantStart.add(ghostPos);
-
-                        ghostList.add(value);
-                        countGhost++;
-
-                    // Adds whim's starting position coordinates.
-                    }else if (value.equals("w")){
-                        ghostPos.add(middleX);
-                        ghostPos.add(middleY);
-                        whimStart.add(ghostPos);
-
-                        ghostList.add(value);
-                        countGhost++;
-                    
-                    // Sets the tile as a superfruit tile.
-                    }else if (value.equals("8")){
-                        tile.setAsSuper(true);
-                    }
-                    // Counts the fruits when the value is7 or 8.
-                    if (value.equals("7") || value.equals("8")){
-                        countFruits++;
-                    }
+    private PGraphics drawLayer(PApplet app, PGraphics layer, int flag){
+        if (layer == null){
+            layer = app.createGraphics(cols*tileSize, rows*tileSize);
+        }
 
-                    row.add(tile);
-                    countX+=16;
+        layer.beginDraw();
+        layer.clear();
+        layer.imageMode(PApplet.CENTER);
+        for (int i = 0; i< rows; i++){
+            for (int j = 0; j< cols; j++){
+                int cell = cells.get(i*cols + j);
+                if ((cell & flag) != 0){
+                    PImage sprite = sprites.get(TileType.of(cell).getValue());
+
+                    // Unknown cells are walls without a sprite.
+                    if (sprite != null){
+                        layer.image(sprite, j*tileSize + (tileSize/2), i*tileSize + (tileSize/2));
+                    }
                 }
-                map.add(row);
-                countY+=16;
             }
-            gridHeight = countY;
-        } catch (FileNotFoundException e){
+        }
+        layer.endDraw();
+        return layer;
+    }
+
+    /** 
+    * Parses a txt file into a grid of cells.
+    * The file is memory-mapped and its bytes are scanned straight into the grid,
+    * once to find the number of rows and the widest row, and once to fill the cells,
+    * so no String or Tile is made for the cells. Each byte is one cell, so the file has to be ASCII.
+    * Lines can end with either \n or \r\n, and the blank lines at the end of the file are left out.
+    * A file compiled by MapCompiler is loaded instead of parsed, whatever its name.
+    * The cells of a compiled map are read from the mapped file until the game first changes one of them,
+    * when they are copied, so the file itself is never changed.
+    * @param filename The txt file that will be parsed into a grid, or a compiled map file.
+    */
+    public void parseMap(String filename){
+        ByteBuffer bytes = ByteBuffer.allocate(0);
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)){
+            bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e){
             e.printStackTrace();
         }
-            this.grid = map;
+        parseMap(bytes);
+    }
+
+    /** 
+    * Parses the bytes of a map file into a grid of cells, or loads them if they are a compiled map.
+    * @param bytes The bytes of the map file, from its position to its limit.
+    */
+    void parseMap(ByteBuffer bytes){
+        if (MapCompiler.isCompiled(bytes)){
+            loadCompiled(bytes);
+            return;
+        }
+
+        int start = bytes.position();
+        int end = bytes.limit();
+
+        // The end of the last line that is not blank, since the blank lines at the end of the file are left out.
+        int contentEnd = start;
+        for (int i = end - 1; i >= start; i--){
+            if (!isBlank(bytes.get(i))){
+                contentEnd = i + 1;
+                break;
+            }
+        }
+
+        // The number of rows, and the widest row without its line ending.
+        int rowCount = 0;
+        int width = 0;
+        int lineStart = start;
+        for (int i = start; i < contentEnd; i++){
+            if (bytes.get(i) == '\n'){
+                width = Math.max(width, lineLength(bytes, lineStart, i));
+                rowCount++;
+                lineStart = i + 1;
+            }
+        }
+        if (contentEnd > start){
+            int lineEnd = contentEnd;
+            while (lineEnd < end && bytes.get(lineEnd) != '\n'){
+                lineEnd++;
+            }
+            width = Math.max(width, lineLength(bytes, lineStart, lineEnd));
+            rowCount++;
+        }
+        setSize(rowCount, width);
+
+        // Rows shorter than the widest row are filled with unknown cells, which are walls.
+        int position = start;
+        for (int i = 0; i< rows; i++){
+            int lineEnd = position;
+            while (lineEnd < end && bytes.get(lineEnd) != '\n'){
+                lineEnd++;
+            }
+            int length = lineLength(bytes, position, lineEnd);
+            for (int j = 0; j< cols; j++){
+                int symbol = ' ';
+                if (j < length){
+                    symbol = bytes.get(position + j) & 0xFF;
+                }
+                addCell(i, j, TileType.fromSymbol(symbol));
+            }
+            position = lineEnd + 1;
+        }
+        gridHeight = rows*tileSize;
+        fitChangedCells();
+    }
+
+    // Makes room for every fruit to be eaten before the changed cells are cleared,
+    // so that eating a fruit does not grow the array during a game.
+    private void fitChangedCells(){
+        if (changedCells.length < countFruits){
+            changedCells = new int[countFruits];
+        }
+    }
+
+    // Gets the length of a line without the \r of a \r\n line ending.
+    private static int lineLength(ByteBuffer bytes, int lineStart, int lineEnd){
+        if (lineEnd > lineStart && bytes.get(lineEnd - 1) == '\r'){
+            return lineEnd - 1 - lineStart;
+        }
+        return lineEnd - lineStart;
+    }
+
+    // Checks if a byte is whitespace, which is all a blank line has.
+    private static boolean isBlank(byte b){
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
+    /** 
+    * Loads a map compiled by MapCompiler.
+    * The cells and the open moves are views over the bytes of the file, which are not copied,
+    * and the starting positions are read from the table of spawns instead of by looking at every cell.
+    * @param bytes The bytes of the compiled map, from its position to its limit.
+    */
+    private void loadCompiled(ByteBuffer bytes){
+        int start = bytes.position();
+        int rowCount = bytes.getInt(start + MapCompiler.ROWS_OFFSET);
+        int colCount = bytes.getInt(start + MapCompiler.COLS_OFFSET);
+        int spawnCount = bytes.getInt(start + MapCompiler.SPAWNS_OFFSET);
+        int size = rowCount*colCount;
+        int cellsStart = start + MapCompiler.HEADER_SIZE + spawnCount*4;
+
+        setSize(rowCount, colCount, slice(bytes, cellsStart, size));
+        this.moves = slice(bytes, cellsStart + size, size);
+        this.countFruits = bytes.getInt(start + MapCompiler.FRUITS_OFFSET);
+        for (int i = 0; i < spawnCount; i++){
+            int index = bytes.getInt(start + MapCompiler.HEADER_SIZE + i*4);
+            addSpawn(index / cols, index % cols, TileType.of(cells.get(index)));
+        }
+        gridHeight = rows*tileSize;
+        fitChangedCells();
+    }
+
+    // Gets a buffer that can be changed, which is a copy of it if it is a read-only view of a mapped file.
+    private static ByteBuffer writable(ByteBuffer bytes){
+        if (!bytes.isReadOnly()){
+            return bytes;
+        }
+        ByteBuffer copy = ByteBuffer.allocate(bytes.capacity());
+        copy.put(bytes.duplicate());
+        copy.clear();
+        return copy;
+    }
+
+    // Gets a view of a part of a buffer, without copying it.
+    private static ByteBuffer slice(ByteBuffer bytes, int offset, int length){
+        ByteBuffer view = bytes.duplicate();
+        view.position(offset);
+        view.limit(offset + length);
+        return view.slice();
+    }
+
+    /** 
+    * Allocates an empty grid of a given size.
+    * @param rows The number of rows of the grid.
+    * @param cols The number of columns of the grid.
+    */
+    private void setSize(int rows, int cols){
+        setSize(rows, cols, ByteBuffer.allocate(rows*cols));
+    }
+
+    /** 
+    * Sets the size of the grid and the cells it is made of.
+    * @param rows The number of rows of the grid.
+    * @param cols The number of columns of the grid.
+    * @param cells The cells of the grid, one byte for each, row by row.
+    */
+    private void setSize(int rows, int cols, ByteBuffer cells){
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = cells;
+        this.moves = null;
+        this.tileRows = new Tile[rows][];
+        this.grid = new GridView();
+        this.changedCells = new int[16];
+        this.changedCount = 0;
+        this.cellsCopy = null;
+    }
+
+    /** 
+    * Sets a cell of the grid while parsing, and records the starting positions and fruits.
+    * @param row The row of the cell.
+    * @param col The column of the cell.
+    * @param type The type of the cell.
+    */
+    private void addCell(int row, int col, TileType type){
+        int cell = type.getCell();
+
+        // Adds the starting position of Waka or a ghost.
+        if ((cell & TileType.SPAWN_FLAG) != 0){
+            addSpawn(row, col, type);
+
+        // Sets the tile as a superfruit tile.
+        }else if (type == TileType.SUPERFRUIT){
+            cell |= TileType.SUPERFRUIT_FLAG;
+        }
+
+        // Counts the fruits and superfruits.
+        if ((cell & TileType.FRUIT_FLAG) != 0){
+            countFruits++;
+        }
+
+        cells.put(row*cols + col, (byte) cell);
+    }
+
+    /** 
+    * Records the starting position of Waka or a ghost, in the middle of its cell.
+    * @param row The row of the cell.
+    * @param col The column of the cell.
+    * @param type The type of the cell, which is Waka or a type of ghost.
+    */
+    private void addSpawn(int row, int col, TileType type){
+        int middleX = col*tileSize + (tileSize/2);
+        int middleY = row*tileSize + (tileSize/2);
+
+        // Adds player's starting position coordinates.
+        if (type == TileType.WAKA){
+            wakaStart.add(Long.valueOf(middleX));
+            wakaStart.add(Long.valueOf(middleY));
+
+        // Adds ghosts' starting position coordinates.
+        }else{
+            List <Long> ghostPos = new ArrayList<Long>();
+            ghostPos.add(Long.valueOf(middleX));
+            ghostPos.add(Long.valueOf(middleY));
+            getGhostStart(type.getValue()).add(ghostPos);
+
+            ghostList.add(type.getValue());
+            countGhost++;
+        }
+    }
+
+    // Read-only List view of the rows of the grid.
+    private class GridView extends AbstractList <List<Tile>>{
+        private List <Tile>[] rowViews;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        GridView(){
+            rowViews = new List[rows];
+        }
+
+        public List <Tile> get(int row){
+            if (rowViews[row] == null){
+                rowViews[row] = new RowView(row);
+            }
+            return rowViews[row];
+        }
+
+        public int size(){
+            return rows;
+        }
+    }
+
+    // Read-only List view of the Tiles in a row of the grid.
+    private class RowView extends AbstractList <Tile>{
+        private int row;
+
+        RowView(int row){
+            this.row = row;
+        }
+
+        public Tile get(int col){
+            return getTile(row, col);
+        }
+
+        public int size(){
+            return cols;
+        }
     }
 
-}
\ No newline at end of file
+}
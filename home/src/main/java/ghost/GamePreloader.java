@@ -0,0 +1,112 @@
+package ghost;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/** 
+* Loads the next game on a background thread while the current game or its end screen is still drawn.
+* The sprites are loaded and the map is parsed and validated off the drawing thread, so when the
+* current game ends the next one is handed over already set up, instead of stalling the frames.
+* The sketch is never touched by the background thread: what the game needs of it is read on the
+* drawing thread and passed in, and the camera is set by the app once it has taken the game.
+* Only one game is loaded at a time, and a game that is loaded again replaces the one before it.
+*/
+public class GamePreloader{
+
+    private ExecutorService executor;
+    private Future <Game> next;
+
+    /** 
+    * Constructor of GamePreloader, whose thread does not keep the app running when it is closed.
+    */
+    public GamePreloader(){
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** 
+    * Starts loading a game on the background thread.
+    * The game is given the cache of the app, since nothing in the cache depends on the game.
+    * @param config The config of the game, such as the config of its level.
+    * @param assets The cache of the fonts, texts and sprites of the app.
+    * @param frameCount The frame of the app, read on the drawing thread, which the game is set up in.
+    * @param hasSprites If the sprites of the game are loaded, which they are not for a game run on its own thread.
+    */
+    public void preload(GameConfig config, AssetCache assets, int frameCount, boolean hasSprites){
+        cancel();
+        next = executor.submit(() -> {
+            Game game = new Game(config);
+            game.setAssets(assets);
+            if (hasSprites){
+                game.loadSprites();
+            }
+            game.setUp(frameCount);
+            return game;
+        });
+    }
+
+    /** 
+    * Tells if a game is being loaded or has been loaded.
+    * @return If there is a game to take.
+    */
+    public boolean hasNext(){
+        return next != null;
+    }
+
+    /** 
+    * Tells if the game has finished loading, so that taking it does not wait.
+    * @return If the game is ready to be taken.
+    */
+    public boolean isReady(){
+        return next != null && next.isDone();
+    }
+
+    /** 
+    * Takes the game that has been loaded, waiting for it if it is still being loaded.
+    * @return The game, which has been set up.
+    * @throws IllegalStateException If no game is being loaded.
+    * @throws IllegalArgumentException If the game could not be set up, such as when its map cannot be played.
+    */
+    public Game take(){
+        if (next == null){
+            throw new IllegalStateException("No game is being loaded");
+        }
+        Future <Game> loading = next;
+        next = null;
+        try{
+            return loading.get();
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while the game was loaded", e);
+        } catch (ExecutionException e){
+            // The error of the background thread is thrown again on the thread that takes the game.
+            if (e.getCause() instanceof RuntimeException){
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("The game could not be loaded", e.getCause());
+        }
+    }
+
+    /** 
+    * Stops loading the game, if there is one, which is then thrown away.
+    */
+    public void cancel(){
+        if (next != null){
+            next.cancel(true);
+            next = null;
+        }
+    }
+
+    /** 
+    * Stops the background thread, after which no more games can be loaded.
+    */
+    public void close(){
+        cancel();
+        executor.shutdownNow();
+    }
+}
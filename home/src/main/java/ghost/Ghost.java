@@ -7,8 +7,6 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.lang.Math;
-import java.util.Iterator;
-import java.util.Random;
 
 // Enum of the ghost's modes, which comprises of Chase and Scatter.
 enum Mode {
@@ -51,64 +49,24 @@ public abstract class Ghost extends Creature{
     protected Waka player;
 
     /** 
-    * The mode lengths of Chase and Scatter.
+    * The state shared by all ghosts of the game, such as the mode and frightened state.
     */
-    protected static List <Long> modeLengths;
-
-    /** 
-    * The current mode of the ghost in the game.
-    */
-    protected static Mode ghostMode;
-
-    /** 
-    * The number of changes of mode in the game.
-    */
-    protected static int countMode;
-
-    /** 
-    * The frame in which the mode should be changed.
-    */
-    protected static Long targetFrame;
-
-    /** 
-    * The frame in which a frightened state should end.
-    */
-    protected static Long tempTargetFrame;
-
-    /** 
-    * The iterator that iterates through mode lengths.
-    */
-    protected static Iterator<Long> modeIterator;
-
-   /** 
-    * If ghost is in frightened state or not.
-    */
-    protected static boolean isFrightened;
-
-   /** 
-    * The length of the frightened state of ghosts.
-    */
-    protected Long frightenedLength;
+    protected GhostCoordinator coordinator;
 
    /** 
     * If the ghost has been eaten by Waka or not.
     */
     protected boolean isInvisible;
 
-   /** 
-    * If a ghost in the game has collide with Waka.
-    */
-    protected static boolean hasCollide;
-
-   /** 
-    * If the space key is pressed.
+    /** 
+    * The target Tile of the ghost in its last tick.
     */
-    protected static boolean spaceIsPressed;
+    protected Tile targetTile;
 
     /** 
-    * If the game is in debug mode.
+    * The next Tile the ghost heads towards in its last tick.
     */
-    protected static boolean isDebugging;
+    protected Tile nextTile;
 
     /** 
     * Overloaded constructor of Ghost that does not receive any sprites. 
@@ -120,20 +78,22 @@ public abstract class Ghost extends Creature{
     * @param frightenedLength The length for frightened state.
     */
     public Ghost(GameMap map, Long speed, Waka player, List <Long> modeLengths, Long frightenedLength){
+        this(map, speed, player, new GhostCoordinator(modeLengths, frightenedLength));
+    }
+
+    /** 
+    * Overloaded constructor of Ghost that does not receive any sprites
+    * and shares its mode and frightened state with the other ghosts of a game.
+    * @param map The map of the game.
+    * @param speed The speed of a ghost when moving.
+    * @param player The player as Waka.
+    * @param coordinator The state shared by all ghosts of the game.
+    */
+    public Ghost(GameMap map, Long speed, Waka player, GhostCoordinator coordinator){
         super(map, speed);
         this.player = player;
-        this.ghostMode = Mode.SCATTER;
-        this.modeLengths= modeLengths;
-        this.countMode = 0;
-        this.modeIterator =modeLengths.iterator();
-        this.targetFrame = 0L;
-        this.isFrightened =false;
-        this.frightenedLength = frightenedLength;
-        this.tempTargetFrame = 0L;
+        this.coordinator = coordinator;
         this.isInvisible = false;
-        this.hasCollide = false;
-        this.spaceIsPressed = false;
-        this.isDebugging = false;
     }    
         
     /** 
@@ -153,6 +113,22 @@ public abstract class Ghost extends Creature{
         this.sprite = sprite;
         this.frightenedSprite = frightenedSprite;
     }
+
+    /** 
+    * Overloaded constructor of Ghost that receives sprites
+    * and shares its mode and frightened state with the other ghosts of a game.
+    * @param map The map of the game.
+    * @param speed The speed of a ghost when moving.
+    * @param sprite The sprite of a ghost.
+    * @param player The player as Waka.
+    * @param coordinator The state shared by all ghosts of the game.
+    * @param frightenedSprite The frightened sprite.
+    */
+    public Ghost(GameMap map, Long speed, PImage sprite, Waka player, GhostCoordinator coordinator, PImage frightenedSprite){
+        this(map, speed, player, coordinator);
+        this.sprite = sprite;
+        this.frightenedSprite = frightenedSprite;
+    }
     
     /** 
     * Abstract method of ghost going back to its starting position.
@@ -167,32 +143,41 @@ public abstract class Ghost extends Creature{
     
     /** 
     * Drives the whole logic of a ghost.
-    * This includes checking the modes of ghost, turning on and off debug mode,
-    * moving the ghost, and changing its state, such as frightened or getting eaten by Waka.
-    * @param app Used to get framecount to alter the modes of ghost.
+    * This includes moving the ghost, and changing its state, such as getting eaten by Waka.
+    * @param app Used to get framecount of the game.
     */
     public void tick(PApplet app){
+        tick(app.frameCount);
+    }
+
+    /** 
+    * Drives the whole logic of a ghost without a sketch.
+    * This includes moving the ghost, and changing its state, such as getting eaten by Waka.
+    * Its mode and frightened state are changed by the scheduler of the game, once per frame for all ghosts.
+    * It does not allocate, so that many games can share a heap without pauses.
+    * @param frameCount The current frame of the game to alter the modes of ghost.
+    */
+    public void tick(int frameCount){
         Tile[] currentTiles = getCurrentTiles();
-        List <Tile> availableTiles = getAvailableTiles(currentTiles);
+        int availableMoves = getAvailableMoves(currentTiles);
         Tile currentTile = currentTiles[0];
-        Tile targetTile = getTargetTile();
-        Tile nextTile = getNextTile(availableTiles, targetTile);
-        Direction nextDirection= getNextDirection(nextTile);
-
-        checkMode(app);
-        checkDebug(app);
-        if (isDebugging){
-            debugMode(app, targetTile, nextTile);
+        targetTile = getTargetTile();
+        int nextMove = getNextMove(availableMoves, currentTiles, targetTile);
+        Direction nextDirection = Direction.NEUTRAL;
+        nextTile = null;
+        if (nextMove >= 0){
+            nextTile = currentTiles[nextMove];
+            nextDirection = Direction.of(nextMove);
         }
 
         moveGhost(currentTile, nextDirection);
-        if(isFrightened){
+        if(coordinator.isFrightened()){
             if (isCollide()){
                 backToStart();
                 isInvisible = true;
             }
         }else{
-            if (hasCollide){
+            if (coordinator.hasCollide()){
                 isInvisible = false;
                 backToStart();
             }
@@ -206,38 +191,54 @@ public abstract class Ghost extends Creature{
     * @param frameCount The current frameCount of the game.
     */
     public void setTargetFrame(int frameCount){
-        targetFrame = frameCount + modeIterator.next()*60;
+        coordinator.setTargetFrame(frameCount);
     }
 
     /** 
-    * Sets debug mode on or off.
-    * @param debug If debug mode is on or off.
+    * To get the Tile the ghost targeted in its last tick.
+    * @return The target Tile of the last tick, or null if it has not ticked yet.
     */
-    public void setDebug(boolean debug){
-        isDebugging = debug;
+    public Tile getLastTargetTile(){
+        return targetTile;
     }
 
     /** 
-    * Checks if the space key has been pressed.
-    * @param app To check for space inputs.
+    * To get the Tile the ghost headed towards in its last tick.
+    * @return The next Tile of the last tick, or null if it had no move.
     */
-    public void checkDebug(PApplet app){
+    public Tile getLastNextTile(){
+        return nextTile;
+    }
 
-        // Means the space bar is being pressed;
-        if (app.keyPressed && app.key== ' '){
-            spaceIsPressed = true;
-        
-        }else{
-            spaceIsPressed = false;
-        }
+    /** 
+    * To get which direction the ghost is moving and facing.
+    * @return The direction the ghost is moving and facing.
+    */
+    public Direction getMoveDirection(){
+        return facing;
+    }
+
+    /** 
+    * To get the state shared by all ghosts of the game.
+    * @return The state shared by all ghosts of the game.
+    */
+    public GhostCoordinator getCoordinator(){
+        return coordinator;
+    }
 
+    /** 
+    * To get the current mode of the ghost.
+    * @return The current mode of the ghost.
+    */
+    public Mode getMode(){
+        return coordinator.getMode();
     }
 
     /** 
     * Changes mode from Chase to Scatter or vice versa.
     */
     public void changeMode(){
-        ghostMode = ghostMode.alter();
+        coordinator.changeMode();
     }
 
     /** 
@@ -245,7 +246,7 @@ public abstract class Ghost extends Creature{
     * @param collide If a ghost in the game has collided with player.
     */
     public void setHasCollide(boolean collide){
-        hasCollide = collide;
+        coordinator.setHasCollide(collide);
     }
 
     /** 
@@ -254,15 +255,16 @@ public abstract class Ghost extends Creature{
     * @param app To count the frameCount of the game.
     */
     public void checkFrightened(PApplet app){
-        // If player eats super fruit and ghost has not been frightened already, 
-        // then the tempTargetFrame is set as countdown of frightened mode.
-        if (player.eatSuperfruit()){
-            if (!isFrightened){
-                tempTargetFrame = app.frameCount + (frightenedLength*60);
-                targetFrame += (frightenedLength*60);
-                isFrightened = true;
-            }
-        }
+        checkFrightened(app.frameCount);
+    }
+
+    /** 
+    * Checks if the ghost should be frightened or not.
+    * If a superfruit has been eaten by player, it becomes frightened.
+    * @param frameCount The current frame of the game.
+    */
+    public void checkFrightened(int frameCount){
+        coordinator.checkFrightened(frameCount, player);
     }
 
     /** 
@@ -274,6 +276,14 @@ public abstract class Ghost extends Creature{
         isInvisible = invisibility;
     }
 
+    /** 
+    * Tells if the ghost is invisible, after being eaten by player.
+    * @return If the ghost is invisible or not.
+    */
+    public boolean isInvisible(){
+        return isInvisible;
+    }
+
     /** 
     * Sets which direction the ghost is facing as it moves.
     * @param facing The direction that is set to where the ghost is facing as it moves.
@@ -287,7 +297,7 @@ public abstract class Ghost extends Creature{
     * @param frightened If ghost becomes frightened or not.
     */
     public void setFrightened(boolean frightened){
-        this.isFrightened = frightened; 
+        coordinator.setFrightened(frightened);
     }
 
     /** 
@@ -295,22 +305,7 @@ public abstract class Ghost extends Creature{
     * @return If ghost is frightened or not.
     */
     public boolean isFrightened(){
-        return isFrightened;
-    }
-
-    /** 
-    * Tells if the space key has been pressed or not.
-    * @return If the space key has been pressed or not.
-    */
-    public boolean spaceIsPressed(){
-        return spaceIsPressed;
-    }
-
-    /** 
-    * Tells if the space key has not been pressed.
-    */
-    public void spaceNotPressed(){
-        spaceIsPressed = false;
+        return coordinator.isFrightened();
     }
 
     /** 
@@ -319,27 +314,16 @@ public abstract class Ghost extends Creature{
     * @param app To count the frameCount.
     */
     public void checkMode(PApplet app){
-        checkFrightened(app);
-
-        if (isFrightened){
-            // After 7 seconds it becomes not frightened again.
-            if (app.frameCount == tempTargetFrame){
-                isFrightened = false;
-            }
-
-        }else{
-            // Changes mode according to modeLengths.
-            if (app.frameCount == targetFrame){
-                changeMode();
-                countMode++;
-                targetFrame += modeIterator.next()*60;
-            }
-        }
+        checkMode(app.frameCount);
+    }
 
-        // Reiterates through modeLengths after it has been iterated until the end.
-        if (countMode+1 == modeLengths.size()){
-            modeIterator = modeLengths.iterator();
-        }
+    /** 
+    * Checks if a mode should be changed in the frame the game is currently at.
+    * Also checks if ghost has been frightened.
+    * @param frameCount The current frame of the game.
+    */
+    public void checkMode(int frameCount){
+        coordinator.checkMode(frameCount, player);
     }
 
     /** 
@@ -350,15 +334,15 @@ public abstract class Ghost extends Creature{
     * @param nextTile To draw the line to next tile it lands when frightened.
     */
     public void debugMode(PApplet app, Tile targetTile, Tile nextTile){
-        Long targetPosX = 0L;
-        Long targetPosY = 0L;
+        int targetPosX = 0;
+        int targetPosY = 0;
 
-        if (isFrightened){
-            targetPosX = nextTile.getPosX();
-            targetPosY = nextTile.getPosY();
+        if (coordinator.isFrightened()){
+            targetPosX = nextTile.getPixelX();
+            targetPosY = nextTile.getPixelY();
         }else{
-            targetPosX = targetTile.getPosX();
-            targetPosY = targetTile.getPosY();
+            targetPosX = targetTile.getPixelX();
+            targetPosY = targetTile.getPixelY();
         }
 
         // Draws a white line.
@@ -377,9 +361,7 @@ public abstract class Ghost extends Creature{
 
             // If it is invisible, the ghost will not move.
             if (!isInvisible){
-                Long tilePosX = currentTile.getPosX();
-                Long tilePosY = currentTile.getPosY();
-                boolean isMidPoint = tilePosX.equals(this.x) && tilePosY.equals(this.y);
+                boolean isMidPoint = isAtMidPoint(currentTile);
 
                 //If it has not reach the mid point of the tile,
                 // the ghost will not move to the next
@@ -406,26 +388,25 @@ public abstract class Ghost extends Creature{
         Tile nextTile = null;
 
         if (availableTiles != null && target != null){
-            double shortest = 0.0d;
-            Long targetRow = target.getRow();
-            Long targetCol = target.getCol();
+            long shortest = 0;
+            int targetRow = target.getRowIndex();
+            int targetCol = target.getColIndex();
 
             // If it is frightened the next tile is random.
-            if (isFrightened){
-                Random randomObj = new Random();
+            if (coordinator.isFrightened()){
                 int max = availableTiles.size()-1;
                 int min = 0;
-                int randomNum = randomObj.nextInt((max-min)+1) + min;
+                int randomNum = coordinator.getRandom().nextInt((max-min)+1) + min;
                 nextTile = availableTiles.get(randomNum);
 
             // If not frightened it finds the tile with closest distance to target.
             }else{
                 for (int i= 0; i< availableTiles.size(); i++){
                     Tile potentialTile = availableTiles.get(i);
-                    Long tileRow = potentialTile.getRow();
-                    Long tileCol = potentialTile.getCol();
+                    int tileRow = potentialTile.getRowIndex();
+                    int tileCol = potentialTile.getColIndex();
         
-                    double currentDistance = getDistance(targetCol, targetRow, tileCol, tileRow);
+                    long currentDistance = getSquaredDistance(targetCol, targetRow, tileCol, tileRow);
         
                     if (nextTile != null){
                         if (currentDistance<shortest){
@@ -445,6 +426,56 @@ public abstract class Ghost extends Creature{
         return nextTile;
     }
 
+    /** 
+    * To get the next move of the ghost from its available moves.
+    * If it is not frightened, then it is the move to the Tile with closest distance to target.
+    * If it is frightened, the move is chosen randomly from the available moves.
+    * @param availableMoves The available moves as a bitmask, from getAvailableMoves.
+    * @param currentTiles The current tile the ghost occupies and its surrounding tiles.
+    * @param target The target Tile.
+    * @return The index in currentTiles of the next Tile, which is also the value of its Direction,
+    *         or -1 if there is no move.
+    */
+    public int getNextMove(int availableMoves, Tile[] currentTiles, Tile target){
+        int nextMove = -1;
+
+        if (availableMoves != 0 && target != null){
+
+            // If it is frightened the next move is random.
+            if (coordinator.isFrightened()){
+                int randomNum = coordinator.getRandom().nextInt(Integer.bitCount(availableMoves));
+                for (int i = 0; i<currentTiles.length && nextMove < 0; i++){
+                    if ((availableMoves & (1 << i)) != 0){
+                        if (randomNum == 0){
+                            nextMove = i;
+                        }
+                        randomNum--;
+                    }
+                }
+
+            // If not frightened it finds the move with closest distance to target.
+            }else{
+                long shortest = 0;
+                int targetRow = target.getRowIndex();
+                int targetCol = target.getColIndex();
+
+                for (int i = 0; i<currentTiles.length; i++){
+                    if ((availableMoves & (1 << i)) != 0){
+                        Tile potentialTile = currentTiles[i];
+                        long currentDistance = getSquaredDistance(targetCol, targetRow, potentialTile.getColIndex(), potentialTile.getRowIndex());
+
+                        if (nextMove < 0 || currentDistance<shortest){
+                            shortest = currentDistance;
+                            nextMove = i;
+                        }
+                    }
+                }
+            }
+        }
+
+        return nextMove;
+    }
+
     /** 
     * Sets the direction according to the next Tile.
     * @param next The next tile the ghost is heading towards.
@@ -456,13 +487,13 @@ public abstract class Ghost extends Creature{
         Direction nextDirection = Direction.NEUTRAL;
 
         if (nextTile!= null){
-            if(nextTile.getRow()>currentTile.getRow()){
+            if(nextTile.getRowIndex()>currentTile.getRowIndex()){
                 nextDirection = Direction.DOWN;
-            }else if (nextTile.getRow()<currentTile.getRow()){
+            }else if (nextTile.getRowIndex()<currentTile.getRowIndex()){
                 nextDirection = Direction.UP;
-            } else if(nextTile.getCol()>currentTile.getCol()){
+            } else if(nextTile.getColIndex()>currentTile.getColIndex()){
                 nextDirection = Direction.RIGHT;
-            } else if(nextTile.getCol()<currentTile.getCol()){
+            } else if(nextTile.getColIndex()<currentTile.getColIndex()){
                 nextDirection = Direction.LEFT;
             }
         }
@@ -478,9 +509,9 @@ public abstract class Ghost extends Creature{
     * @param posY the y-axis of second point (ghost current location).
     * @return The distance between two points.
     */
-    public double getDistance(Long targetX, Long targetY, Long posX, Long posY){
-            double base = Math.abs(targetX.doubleValue() - posX.doubleValue());
-            double altitude = Math.abs(targetY.doubleValue()-posY.doubleValue());
+    public double getDistance(long targetX, long targetY, long posX, long posY){
+            double base = Math.abs((double) targetX - posX);
+            double altitude = Math.abs((double) targetY - posY);
 
             double distance = Math.sqrt(Math.pow(base, 2) + Math.pow(altitude, 2));
 
@@ -489,41 +520,65 @@ public abstract class Ghost extends Creature{
     }
 
     /** 
-    * To get the available tiles that surrounds the ghost as a potential for the next Tile it is heading.
-    * @param currentTiles The current tile the ghost occupies and its surrounding tiles.
-    * @return List of available tiles
+    * To get the squared distance between two points, which orders points the same as the distance.
+    * @param targetX the x-axis of first point (target tile).
+    * @param targetY the y-axis of first point (target tile).
+    * @param posX the x-axis of second point (ghost current location).
+    * @param posY the y-axis of second point (ghost current location).
+    * @return The squared distance between two points.
     */
-    public List<Tile> getAvailableTiles(Tile[] currentTiles){
+    public long getSquaredDistance(long targetX, long targetY, long posX, long posY){
+        long base = targetX - posX;
+        long altitude = targetY - posY;
 
-        List <Tile> availableTiles = new ArrayList<Tile>();
+        return base*base + altitude*altitude;
+    }
+
+    /** 
+    * To get the available moves of the ghost as a bitmask, where the move to a surrounding Tile
+    * is the bit of its index in currentTiles, which is also the value of its Direction.
+    * A move is available if it is not into a wall and not the opposite direction the ghost is facing,
+    * unless that is the only way left.
+    * @param currentTiles The current tile the ghost occupies and its surrounding tiles.
+    * @return The bitmask of the available moves.
+    */
+    public int getAvailableMoves(Tile[] currentTiles){
+        int availableMoves = 0;
         if (currentTiles != null){
-            int countAvailable = 0;
+            int opposite = facing.opposite().getValue();
 
-            // Check for available tiles(available moves) from current Tile.
+            // Check for available moves from current Tile.
             for (int i = 1; i<currentTiles.length; i++){
 
-                // The tile is available if it is not a wall and not the opposite direction it is currently facing.
                 // But if its not currently moving, the only thing to avoid is wall.
-                if (!(currentTiles[i].isWall())){
-                    if (isMoving && !(facing.opposite().getValue() == i)){
-                        availableTiles.add(currentTiles[i]);
-                        countAvailable++;
-                    }else if (!isMoving){
-                        availableTiles.add(currentTiles[i]);
-                        countAvailable++;
-                    }
-       
+                if (!(currentTiles[i].isWall()) && (!isMoving || i != opposite)){
+                    availableMoves |= 1 << i;
                 }
-            
             }
-            
+
             // Last resort when stuck and the only way is the opposite direction, 
             // then it moves to the opposite direction.
-            if (countAvailable == 0){
-                if (!currentTiles[facing.opposite().getValue()].isWall()){
-                    availableTiles.add(currentTiles[facing.opposite().getValue()]);
-                }
+            if (availableMoves == 0 && !currentTiles[opposite].isWall()){
+                availableMoves |= 1 << opposite;
+            }
+        }
+
+        return availableMoves;
+    }
 
+    /** 
+    * To get the available tiles that surrounds the ghost as a potential for the next Tile it is heading.
+    * @param currentTiles The current tile the ghost occupies and its surrounding tiles.
+    * @return List of available tiles
+    */
+    public List<Tile> getAvailableTiles(Tile[] currentTiles){
+        List <Tile> availableTiles = new ArrayList<Tile>();
+        int availableMoves = getAvailableMoves(currentTiles);
+
+        for (int i = 0; availableMoves != 0; i++){
+            if ((availableMoves & (1 << i)) != 0){
+                availableTiles.add(currentTiles[i]);
+                availableMoves &= ~(1 << i);
             }
         }
 
@@ -538,23 +593,23 @@ public abstract class Ghost extends Creature{
     */
     public boolean isCollide(){
         if (!isInvisible){
-            Long playerX = player.getX();
-            Long playerY = player.getY();
-            Long playerHeight = player.getHeight();
-            Long playerWidth = player.getWidth();
-            Long ghostHeight = 28L;
-            Long ghostWidth = 28L;
+            int playerX = player.getPixelX();
+            int playerY = player.getPixelY();
+            int playerHeight = player.getPixelHeight();
+            int playerWidth = player.getPixelWidth();
+            int ghostHeight = 28;
+            int ghostWidth = 28;
 
             // Make sure the sprite is the same size of default width and height;
             if (sprite != null){
-                ghostHeight = Long.valueOf(sprite.height);
-                ghostWidth = Long.valueOf(sprite.width);
+                ghostHeight = sprite.height;
+                ghostWidth = sprite.width;
             }
 
-            Long distanceX = playerWidth/2 + ghostWidth/2;
-            Long distanceY = playerHeight/2 + ghostHeight/2;
-            Long currentDistX = Math.abs(playerX - this.x);
-            Long currentDistY = Math.abs(playerY - this.y);
+            int distanceX = playerWidth/2 + ghostWidth/2;
+            int distanceY = playerHeight/2 + ghostHeight/2;
+            int currentDistX = Math.abs(playerX - this.x);
+            int currentDistY = Math.abs(playerY - this.y);
             
             // The distance between player and ghost is less than the height and width of both,
             // then it is colliding.
@@ -571,16 +626,28 @@ public abstract class Ghost extends Creature{
     /** 
     * Draws the ghost.
     * When ghost is invisible, it is not drawn.
+    * In debug mode, the line to its target is drawn by the debug overlay of the game.
     * @param app To draw the sprite.
     */
     public void draw(PApplet app){
+        draw(app, 1);
+    }
+
+    /** 
+    * Draws the ghost between its last two positions.
+    * When ghost is invisible, it is not drawn.
+    * In debug mode, the line to its target is drawn by the debug overlay of the game.
+    * @param app To draw the sprite.
+    * @param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    */
+    public void draw(PApplet app, float alpha){
         if (!isInvisible){
 
             // Different sprites for when the ghost is frightened and not frightened.
-            if (isFrightened){
-                app.image(frightenedSprite, this.x, this.y);
+            if (coordinator.isFrightened()){
+                app.image(frightenedSprite, getDrawX(alpha), getDrawY(alpha));
             }else{
-                app.image(sprite, this.x, this.y);
+                app.image(sprite, getDrawX(alpha), getDrawY(alpha));
             }
         }
     }
@@ -0,0 +1,154 @@
+package ghost;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/** 
+* Coordinator class of the state that all ghosts of one game share.
+* It keeps the mode and the frightened state of the ghosts,
+* so that each game has its own and many games can run side by side.
+* The changes of mode and the end of the frightened state are fired by its ModeScheduler.
+*/
+public class GhostCoordinator{
+
+    private Mode ghostMode;
+    private ModeScheduler scheduler;
+    private boolean isFrightened;
+    private boolean hasCollide;
+    private SplittableRandom random;
+
+    /** 
+    * Overloaded constructor of GhostCoordinator with random numbers that are not seeded.
+    * The ghosts start in Scatter mode and are not frightened.
+    * @param modeLengths The mode lengths of Chase and Scatter.
+    * @param frightenedLength The length for frightened state.
+    * @throws IllegalArgumentException If there are no mode lengths, or a mode length is less than 1.
+    */
+    public GhostCoordinator(List <Long> modeLengths, Long frightenedLength){
+        this(modeLengths, frightenedLength, new SplittableRandom());
+    }
+
+    /** 
+    * Overloaded constructor of GhostCoordinator with the random numbers of a game.
+    * The ghosts start in Scatter mode and are not frightened.
+    * @param modeLengths The mode lengths of Chase and Scatter.
+    * @param frightenedLength The length for frightened state.
+    * @param random The random numbers the ghosts use to move while frightened.
+    * @throws IllegalArgumentException If there are no mode lengths, or a mode length is less than 1.
+    */
+    public GhostCoordinator(List <Long> modeLengths, Long frightenedLength, SplittableRandom random){
+        this(ModeScheduler.toArray(modeLengths), frightenedLength.intValue(), ModeScheduler.FRAMES_PER_SECOND, random);
+    }
+
+    /** 
+    * Overloaded constructor of GhostCoordinator for a game made from a typed config.
+    * The ghosts start in Scatter mode and are not frightened.
+    * @param modeLengths The mode lengths of Chase and Scatter in seconds, which must not be changed.
+    * @param frightenedLength The length for frightened state in seconds.
+    * @param tickRate The number of ticks of the game in a second.
+    * @param random The random numbers the ghosts use to move while frightened.
+    * @throws IllegalArgumentException If there are no mode lengths, a mode length is less than 1,
+    *                                  or the tick rate is less than 1.
+    */
+    public GhostCoordinator(long[] modeLengths, int frightenedLength, int tickRate, SplittableRandom random){
+        this.ghostMode = Mode.SCATTER;
+        this.scheduler = new ModeScheduler(this, modeLengths, frightenedLength, tickRate);
+        this.isFrightened = false;
+        this.hasCollide = false;
+        this.random = random;
+    }
+
+    /** 
+    * Sets the target frame when mode needs to be changed, which starts the scheduler.
+    * @param frameCount The current frameCount of the game.
+    */
+    public void setTargetFrame(int frameCount){
+        scheduler.start(frameCount);
+    }
+
+    /** 
+    * To get the scheduler of the changes of mode and the end of the frightened state.
+    * @return The scheduler of the ghosts' transitions.
+    */
+    public ModeScheduler getScheduler(){
+        return scheduler;
+    }
+
+    /** 
+    * To get the current mode of the ghosts.
+    * @return The current mode of the ghosts.
+    */
+    public Mode getMode(){
+        return ghostMode;
+    }
+
+    /** 
+    * Changes mode from Chase to Scatter or vice versa.
+    */
+    public void changeMode(){
+        ghostMode = ghostMode.alter();
+    }
+
+    /** 
+    * Checks if the ghosts should be frightened or not.
+    * If a superfruit has been eaten by player, they become frightened.
+    * @param frameCount The current frame of the game.
+    * @param player The player as Waka.
+    */
+    public void checkFrightened(int frameCount, Waka player){
+        if (player.eatSuperfruit()){
+            scheduler.frighten(frameCount);
+        }
+    }
+
+    /** 
+    * Checks if the ghosts have been frightened, and fires the transitions 
+    * that are due up to the frame the game is currently at.
+    * @param frameCount The current frame of the game.
+    * @param player The player as Waka.
+    */
+    public void checkMode(int frameCount, Waka player){
+        checkFrightened(frameCount, player);
+        scheduler.advance(frameCount);
+    }
+
+    /** 
+    * Turns the ghosts into frightened state or the other way around.
+    * @param frightened If the ghosts become frightened or not.
+    */
+    public void setFrightened(boolean frightened){
+        isFrightened = frightened;
+    }
+
+    /** 
+    * Tells if the ghosts are frightened or not.
+    * @return If the ghosts are frightened or not.
+    */
+    public boolean isFrightened(){
+        return isFrightened;
+    }
+
+    /** 
+    * Sets if a ghost in the game has collided with player.
+    * @param collide If a ghost in the game has collided with player.
+    */
+    public void setHasCollide(boolean collide){
+        hasCollide = collide;
+    }
+
+    /** 
+    * Tells if a ghost in the game has collided with player.
+    * @return If a ghost in the game has collided with player.
+    */
+    public boolean hasCollide(){
+        return hasCollide;
+    }
+
+    /** 
+    * To get the random number generator the ghosts use to move while frightened.
+    * @return The random number generator of the ghosts.
+    */
+    public SplittableRandom getRandom(){
+        return random;
+    }
+}
@@ -25,8 +25,8 @@ public class Ignorant extends Ghost{
     */
     public Ignorant(GameMap map, Long speed, Waka player, List <Long> modeLengths, int num, Long frightenedLength){
         super(map, speed, player, modeLengths, frightenedLength);
-        this.x = map.getGhostStart("i").get(num).get(0);
-        this.y = map.getGhostStart("i").get(num).get(1);
+        List <Long> start = map.getGhostStart("i").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
@@ -43,16 +43,34 @@ public class Ignorant extends Ghost{
     */
     public Ignorant(GameMap map, Long speed, PImage sprite, Waka player, List <Long> modeLengths, int num, Long frightenedLength, PImage frightenedSprite){
         super(map, speed, sprite, player, modeLengths, frightenedLength, frightenedSprite);
-        this.x = map.getGhostStart("i").get(num).get(0);
-        this.y = map.getGhostStart("i").get(num).get(1);
+        List <Long> start = map.getGhostStart("i").get(num);
+        setLocation(start.get(0), start.get(1));
+    }
+
+    /** 
+    * Overloaded constructor of Ignorant that receives sprites and shares its mode 
+    * and frightened state with the other ghosts of a game.
+    * Used when Ignorant is part of a Game.
+    * @param map The map of the game.
+    * @param speed The speed of Ignorant when moving.
+    * @param sprite The sprite of Ignorant.
+    * @param player The player as Waka.
+    * @param coordinator The state shared by all ghosts of the game.
+    * @param num The number of the Ignorant ghost to differentiate between multiple Ignorants (if there are more than one).
+    * @param frightenedSprite The frightened sprite.
+    */
+    public Ignorant(GameMap map, Long speed, PImage sprite, Waka player, GhostCoordinator coordinator, int num, PImage frightenedSprite){
+        super(map, speed, sprite, player, coordinator, frightenedSprite);
+        List <Long> start = map.getGhostStart("i").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
     * Makes Ignorant goes back to its starting position.
     */
     public void backToStart(){
-        x = map.getGhostStart("i").get(num).get(0);
-        y = map.getGhostStart("i").get(num).get(1);
+        List <Long> start = map.getGhostStart("i").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
@@ -64,7 +82,7 @@ public class Ignorant extends Ghost{
         Tile[] playerTiles = player.getCurrentTiles();
         Tile targetTile = playerTiles[0];
         
-        if (isWithinBoundary() || super.ghostMode == Mode.SCATTER ){
+        if (isWithinBoundary() || getMode() == Mode.SCATTER ){
             targetTile = map.getBottomLeftCorner();
         }
 
@@ -77,15 +95,16 @@ public class Ignorant extends Ghost{
     * @return If Ignorant is within a radius of 8 tiles away from the player.
     */
     public boolean isWithinBoundary(){
-        Long playerPosX = player.getX();
-        Long playerPosY = player.getY();
-        Long currentPosX = this.getX();
-        Long currentPosY = this.getY();
+        int playerPosX = player.getPixelX();
+        int playerPosY = player.getPixelY();
+        int currentPosX = this.getPixelX();
+        int currentPosY = this.getPixelY();
 
-        double distanceToPlayer = getDistance(playerPosX, playerPosY, currentPosX, currentPosY);
-        double playerRadius = 8* map.getTileSize();
+        // Squared distances are compared so that no square root is needed.
+        long distanceToPlayer = getSquaredDistance(playerPosX, playerPosY, currentPosX, currentPosY);
+        long playerRadius = 8* map.getTileSize().intValue();
 
-        if (distanceToPlayer<= playerRadius){
+        if (distanceToPlayer<= playerRadius*playerRadius){
             return true;
         }else{
             return false;
@@ -0,0 +1,14 @@
+package ghost;
+
+/** 
+* Source of key inputs for a headless game of Waka Waka, such as a recorded replay or a bot.
+*/
+public interface InputSource{
+
+    /** 
+    * Gives the direction key that is pressed and released in a frame.
+    * @param frameCount The current frame of the game.
+    * @return The direction of the key input, or null if there is no key input in the frame.
+    */
+    Direction getInput(int frameCount);
+}
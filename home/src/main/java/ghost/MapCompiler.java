@@ -0,0 +1,128 @@
+package ghost;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/** 
+* Compiles map txt files into a binary format that GameMap loads by mapping the file, without parsing it.
+* All the numbers are big-endian ints, and the format is:
+* <pre>
+* magic "WAKM", version, rows, cols, fruits, spawns
+* the index (row*cols + col) of each starting position of Waka and the ghosts, in the order of the txt file
+* the cells of the grid, one byte each, row by row
+* the open moves of each cell, one byte each, as given by GameMap.getOpenMoves
+* </pre>
+* The type of each starting position, such as Waka or a type of ghost, is the type of its cell.
+*/
+public class MapCompiler{
+
+    /** 
+    * The first four bytes of a compiled map, which are "WAKM".
+    */
+    public static final int MAGIC = 0x57414B4D;
+
+    /** 
+    * The version of the format, which is changed when the format changes.
+    */
+    public static final int VERSION = 1;
+
+    static final int VERSION_OFFSET = 4;
+    static final int ROWS_OFFSET = 8;
+    static final int COLS_OFFSET = 12;
+    static final int FRUITS_OFFSET = 16;
+    static final int SPAWNS_OFFSET = 20;
+    static final int HEADER_SIZE = 24;
+
+    /** 
+    * Tells if some bytes are a map compiled in this version of the format.
+    * @param bytes The bytes of a map file, from its position.
+    * @return If the bytes are a compiled map.
+    */
+    public static boolean isCompiled(ByteBuffer bytes){
+        int start = bytes.position();
+        return bytes.limit() - start >= HEADER_SIZE && bytes.getInt(start) == MAGIC
+            && bytes.getInt(start + VERSION_OFFSET) == VERSION;
+    }
+
+    /** 
+    * Compiles a map that has just been parsed, before the game has changed any of its cells.
+    * @param map The parsed map.
+    * @return The bytes of the compiled map, from position 0 to the limit.
+    */
+    public static ByteBuffer compile(GameMap map){
+        int rows = map.getRowNum();
+        int cols = map.getColNum();
+        int size = rows*cols;
+
+        // The starting positions are the cells with the spawn flag.
+        int spawns = 0;
+        for (int i = 0; i < size; i++){
+            if ((map.getCell(i) & TileType.SPAWN_FLAG) != 0){
+                spawns++;
+            }
+        }
+
+        ByteBuffer bytes = ByteBuffer.allocate(HEADER_SIZE + spawns*4 + size*2);
+        bytes.putInt(MAGIC);
+        bytes.putInt(VERSION);
+        bytes.putInt(rows);
+        bytes.putInt(cols);
+        bytes.putInt(map.getTotalFruitCount());
+        bytes.putInt(spawns);
+        for (int i = 0; i < size; i++){
+            if ((map.getCell(i) & TileType.SPAWN_FLAG) != 0){
+                bytes.putInt(i);
+            }
+        }
+        for (int i = 0; i < size; i++){
+            bytes.put(map.getCell(i));
+        }
+        for (int i = 0; i < size; i++){
+            bytes.put((byte) map.getOpenMoves(i));
+        }
+        bytes.flip();
+        return bytes;
+    }
+
+    /** 
+    * Compiles a map txt file into a compiled map file, once it has been validated.
+    * @param textFile The map txt file.
+    * @param output The file the compiled map is written into.
+    * @throws IOException If the compiled map cannot be written.
+    * @throws IllegalArgumentException If the map cannot be played, in which case nothing is written.
+    */
+    public static void compile(String textFile, File output) throws IOException{
+        GameMap map = new GameMap();
+        map.parseMap(textFile);
+        MapReport report = map.validate();
+        if (!report.isValid()){
+            throw new IllegalArgumentException("The map " + textFile + " cannot be played:\n" + report);
+        }
+        ByteBuffer bytes = compile(map);
+        try (FileChannel channel = new FileOutputStream(output).getChannel()){
+            while (bytes.hasRemaining()){
+                channel.write(bytes);
+            }
+        }
+    }
+
+    /** 
+    * Compiles a map txt file, so that config.json can name the compiled file as its map.
+    * @param args The map txt file and the file the compiled map is written into.
+    */
+    public static void main(String[] args){
+        if (args.length != 2){
+            System.err.println("Usage: MapCompiler <map txt file> <output file>");
+            System.exit(1);
+        }
+        try{
+            compile(args[0], new File(args[1]));
+        } catch (IOException | IllegalArgumentException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package ghost;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/** 
+* Report of the validation and analysis of a map, made by GameMap.validate before a game starts.
+* Errors are problems that would break the game, such as a fruit that Waka can never reach,
+* and warnings are problems that the game can still be played with, such as a ghost that can never reach Waka.
+* The dead ends are the cells Waka can reach that have only one way out.
+*/
+public class MapReport{
+
+    private List <String> errors;
+    private List <String> warnings;
+    private int[] deadEnds;
+    private int deadEndCount;
+    private int reachableCount;
+
+    /** 
+    * Constructor of MapReport, which has no errors, warnings or dead ends yet.
+    */
+    public MapReport(){
+        this.errors = new ArrayList <String>();
+        this.warnings = new ArrayList <String>();
+        this.deadEnds = new int[16];
+        this.deadEndCount = 0;
+        this.reachableCount = 0;
+    }
+
+    /** 
+    * Adds a problem that would break the game.
+    * @param error The description of the problem.
+    */
+    public void addError(String error){
+        errors.add(error);
+    }
+
+    /** 
+    * Adds a problem that the game can still be played with.
+    * @param warning The description of the problem.
+    */
+    public void addWarning(String warning){
+        warnings.add(warning);
+    }
+
+    /** 
+    * Adds a dead end, which is a cell Waka can reach that has only one way out.
+    * @param index The index of the cell, which is row*cols + col.
+    */
+    public void addDeadEnd(int index){
+        if (deadEndCount == deadEnds.length){
+            deadEnds = Arrays.copyOf(deadEnds, deadEndCount*2);
+        }
+        deadEnds[deadEndCount] = index;
+        deadEndCount++;
+    }
+
+    /** 
+    * Sets the number of cells Waka can reach from where it starts.
+    * @param count The number of cells Waka can reach.
+    */
+    public void setReachableCount(int count){
+        this.reachableCount = count;
+    }
+
+    /** 
+    * Tells if a game can be played on the map, which is when there are no errors.
+    * @return If the map has no errors.
+    */
+    public boolean isValid(){
+        return errors.isEmpty();
+    }
+
+    /** 
+    * To get the problems that would break the game.
+    * @return The descriptions of the errors.
+    */
+    public List <String> getErrors(){
+        return errors;
+    }
+
+    /** 
+    * To get the problems that the game can still be played with.
+    * @return The descriptions of the warnings.
+    */
+    public List <String> getWarnings(){
+        return warnings;
+    }
+
+    /** 
+    * To get the number of dead ends.
+    * @return The number of cells Waka can reach that have only one way out.
+    */
+    public int getDeadEndCount(){
+        return deadEndCount;
+    }
+
+    /** 
+    * To get a dead end.
+    * @param i The order of the dead end, row by row.
+    * @return The index of the cell of the dead end, which is row*cols + col.
+    */
+    public int getDeadEnd(int i){
+        return deadEnds[i];
+    }
+
+    /** 
+    * To get the number of cells Waka can reach from where it starts.
+    * @return The number of cells Waka can reach.
+    */
+    public int getReachableCount(){
+        return reachableCount;
+    }
+
+    /** 
+    * Describes the errors and warnings, one on each line.
+    * @return The errors and warnings.
+    */
+    public String toString(){
+        StringBuilder text = new StringBuilder();
+        for (String error : errors){
+            text.append("Error: ").append(error).append('\n');
+        }
+        for (String warning : warnings){
+            text.append("Warning: ").append(warning).append('\n');
+        }
+        text.append(deadEndCount).append(" dead ends, ").append(reachableCount).append(" reachable cells");
+        return text.toString();
+    }
+}
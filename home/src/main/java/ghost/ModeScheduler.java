@@ -0,0 +1,185 @@
+package ghost;
+
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Enum of the transitions of the ghosts' state that are scheduled for a frame.
+// When two are due in the same frame, the end of the frightened state fires first.
+enum Transition{
+    FRIGHTENED_END,
+    MODE_CHANGE;
+}
+
+/** 
+* Scheduler of the changes of mode and the end of the frightened state of the ghosts of a game.
+* Instead of every ghost checking the frame on every tick, each transition is queued for the frame
+* it is due in, and fires exactly once when the game reaches that frame.
+*/
+public class ModeScheduler{
+
+    /** 
+    * The number of frames in a second when the config does not set a tick rate,
+    * which the mode and frightened lengths are given in.
+    */
+    public static final int FRAMES_PER_SECOND = 60;
+
+    private GhostCoordinator ghostState;
+    private long[] modeLengths;
+    private int modeIndex;
+    private int frightenedLength;
+    private int framesPerSecond;
+    private PriorityQueue <ScheduledTransition> queue;
+    private ScheduledTransition modeChange;
+    private ScheduledTransition frightenedEnd;
+
+    /** 
+    * Constructor of ModeScheduler.
+    * Nothing is scheduled until the scheduler is started.
+    * @param ghostState The state of the ghosts that the transitions change.
+    * @param modeLengths The mode lengths of Chase and Scatter in seconds, which are repeated after the last one.
+    * @param frightenedLength The length for frightened state in seconds.
+    * @throws IllegalArgumentException If there are no mode lengths, or a mode length is less than 1.
+    */
+    public ModeScheduler(GhostCoordinator ghostState, List <Long> modeLengths, int frightenedLength){
+        this(ghostState, toArray(modeLengths), frightenedLength, FRAMES_PER_SECOND);
+    }
+
+    /** 
+    * Constructor of ModeScheduler for a game that runs at its own number of ticks in a second.
+    * Nothing is scheduled until the scheduler is started.
+    * @param ghostState The state of the ghosts that the transitions change.
+    * @param modeLengths The mode lengths of Chase and Scatter in seconds, which are repeated after the last one.
+    *                    The array is not copied, so it must not be changed.
+    * @param frightenedLength The length for frightened state in seconds.
+    * @param framesPerSecond The number of ticks of the game in a second.
+    * @throws IllegalArgumentException If there are no mode lengths, a mode length is less than 1,
+    *                                  or the number of ticks in a second is less than 1.
+    */
+    public ModeScheduler(GhostCoordinator ghostState, long[] modeLengths, int frightenedLength, int framesPerSecond){
+        // A mode that never ends would make advance loop forever, and no modes would divide by zero.
+        if (modeLengths.length == 0){
+            throw new IllegalArgumentException("There must be at least one mode length");
+        }
+        for (long modeLength : modeLengths){
+            if (modeLength < 1){
+                throw new IllegalArgumentException("Mode length is " + modeLength + ", but must be at least 1");
+            }
+        }
+        if (framesPerSecond < 1){
+            throw new IllegalArgumentException("Tick rate is " + framesPerSecond + ", but must be at least 1");
+        }
+
+        this.ghostState = ghostState;
+        this.modeLengths = modeLengths;
+        this.modeIndex = 0;
+        this.frightenedLength = frightenedLength;
+        this.framesPerSecond = framesPerSecond;
+        this.queue = new PriorityQueue <ScheduledTransition>();
+        this.modeChange = new ScheduledTransition(Transition.MODE_CHANGE);
+        this.frightenedEnd = new ScheduledTransition(Transition.FRIGHTENED_END);
+    }
+
+    /** 
+    * Starts the scheduler by scheduling the end of the first mode.
+    * @param frameCount The current frame of the game.
+    */
+    public void start(int frameCount){
+        queue.remove(modeChange);
+        modeChange.frame = frameCount + nextModeLength()*framesPerSecond;
+        queue.add(modeChange);
+    }
+
+    /** 
+    * Makes the ghosts frightened, if they are not already.
+    * The end of the frightened state is scheduled, and the next change of mode is put off
+    * by the frightened length, since the mode does not run while the ghosts are frightened.
+    * @param frameCount The current frame of the game.
+    * @return If the ghosts have become frightened.
+    */
+    public boolean frighten(int frameCount){
+        if (ghostState.isFrightened()){
+            return false;
+        }
+        ghostState.setFrightened(true);
+
+        long length = (long) frightenedLength*framesPerSecond;
+        queue.remove(frightenedEnd);
+        frightenedEnd.frame = frameCount + length;
+        queue.add(frightenedEnd);
+        if (queue.remove(modeChange)){
+            modeChange.frame += length;
+            queue.add(modeChange);
+        }
+        return true;
+    }
+
+    /** 
+    * Fires every transition that is due up to and including a frame, in the order they are due.
+    * @param frameCount The current frame of the game.
+    */
+    public void advance(int frameCount){
+        while (!queue.isEmpty() && queue.peek().frame <= frameCount){
+            ScheduledTransition due = queue.poll();
+
+            if (due.transition == Transition.MODE_CHANGE){
+                ghostState.changeMode();
+                due.frame += nextModeLength()*framesPerSecond;
+                queue.add(due);
+            }else if (due.transition == Transition.FRIGHTENED_END){
+                ghostState.setFrightened(false);
+            }
+        }
+    }
+
+    /** 
+    * To get the frame of the next scheduled transition.
+    * @return The frame of the next transition, or Long.MAX_VALUE if nothing is scheduled.
+    */
+    public long getNextFrame(){
+        if (queue.isEmpty()){
+            return Long.MAX_VALUE;
+        }
+        return queue.peek().frame;
+    }
+
+    /** 
+    * To get the number of ticks in a second the mode and frightened lengths are counted in.
+    * @return The number of ticks of the game in a second.
+    */
+    public int getFramesPerSecond(){
+        return framesPerSecond;
+    }
+
+    // Gets the next mode length, going back to the first after the last one.
+    private long nextModeLength(){
+        long modeLength = modeLengths[modeIndex];
+        modeIndex = (modeIndex + 1) % modeLengths.length;
+        return modeLength;
+    }
+
+    // Copies the mode lengths into an array, so they are not unboxed every time the mode changes.
+    static long[] toArray(List <Long> modeLengths){
+        long[] lengths = new long[modeLengths.size()];
+        for (int i = 0; i < lengths.length; i++){
+            lengths[i] = modeLengths.get(i);
+        }
+        return lengths;
+    }
+
+    // A transition and the frame it is due in. Each transition has one of these that is queued again when rescheduled.
+    private static class ScheduledTransition implements Comparable <ScheduledTransition>{
+        private final Transition transition;
+        private long frame;
+
+        ScheduledTransition(Transition transition){
+            this.transition = transition;
+        }
+
+        public int compareTo(ScheduledTransition other){
+            if (frame != other.frame){
+                return Long.compare(frame, other.frame);
+            }
+            return transition.compareTo(other.transition);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package ghost;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/** 
+* Runs the logic of a game on its own thread, apart from the thread that draws it.
+* After every tick a snapshot of the game is published, and the drawing thread only ever draws the latest one,
+* so a slow frame does not hold up the game and a slow tick does not hold up the frames.
+* The snapshots and key inputs are handed over without locks: the game thread is the only one that publishes
+* snapshots and reads key inputs, and the drawing thread is the only one that reads snapshots and gives key inputs.
+*/
+public class SimulationThread implements InputSource{
+
+    private Engine engine;
+    private FixedTimestep timestep;
+    private AtomicReference <WorldSnapshot> latest;
+    private ConcurrentLinkedQueue <Direction> keyInputs;
+    private AtomicBoolean debugToggled;
+    private volatile boolean isRunning;
+    private Thread thread;
+
+    /** 
+    * Constructor of SimulationThread, which sets up the game and publishes its first snapshot.
+    * The game must not be used by any other thread once it is given to the simulation.
+    * @param game The game to be run.
+    * @param tickRate The number of ticks of the game in a second.
+    */
+    public SimulationThread(Game game, int tickRate){
+        this.keyInputs = new ConcurrentLinkedQueue <Direction>();
+        this.debugToggled = new AtomicBoolean(false);
+        this.engine = new Engine(game, this);
+        this.timestep = new FixedTimestep(tickRate);
+        this.latest = new AtomicReference <WorldSnapshot>(new WorldSnapshot(game, 0));
+        this.isRunning = false;
+    }
+
+    /** 
+    * Starts running the game on its own thread, until it is won or lost or the simulation is stopped.
+    */
+    public void start(){
+        isRunning = true;
+        thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** 
+    * Stops the game and waits for its thread to finish.
+    */
+    public void stop(){
+        isRunning = false;
+        if (thread != null){
+            try{
+                thread.join();
+            } catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** 
+    * Tells if the game is still being run on its thread.
+    * @return If the game is still being run.
+    */
+    public boolean isRunning(){
+        return thread != null && thread.isAlive();
+    }
+
+    /** 
+    * To get the latest snapshot of the game, which is what the drawing thread draws.
+    * @return The snapshot of the game after its latest tick.
+    */
+    public WorldSnapshot getSnapshot(){
+        return latest.get();
+    }
+
+    /** 
+    * Gives a direction key from the drawing thread, which Waka takes in the next tick.
+    * @param direction The direction of the key input.
+    */
+    public void keyReleased(Direction direction){
+        keyInputs.add(direction);
+    }
+
+    /** 
+    * Turns debug mode on or off from the drawing thread in the next tick.
+    */
+    public void toggleDebug(){
+        debugToggled.set(true);
+    }
+
+    /** 
+    * Gives the game the next direction key, which is called by the engine on the game thread.
+    * @param frameCount The current frame of the game.
+    * @return The direction of the next key input, or null if there is none.
+    */
+    public Direction getInput(int frameCount){
+        if (debugToggled.getAndSet(false)){
+            engine.getGame().getDebugOverlay().toggle();
+        }
+        return keyInputs.poll();
+    }
+
+    // The loop of the game thread, which runs the ticks that are due and then sleeps until the next one.
+    private void run(){
+        Game game = engine.getGame();
+        while (isRunning && game.getStatus() == Status.PLAYING){
+            int ticks = timestep.advance(System.nanoTime());
+            for (int i = 0; i < ticks && game.getStatus() == Status.PLAYING; i++){
+                engine.step();
+            }
+
+            if (ticks > 0){
+                latest.set(new WorldSnapshot(game, engine.getFrameCount()));
+            }else{
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+
+        // The snapshot after the last tick, so the drawing thread sees the game has ended.
+        latest.set(new WorldSnapshot(game, engine.getFrameCount()));
+    }
+}
@@ -0,0 +1,183 @@
+package ghost;
+
+import processing.core.PConstants;
+import processing.core.PImage;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Set;
+
+/** 
+* The sprites of Waka Waka, cut out of the atlas that AtlasPacker packs them into at build time.
+* The atlas is decoded once from the classpath, so the game can be started from any directory.
+*/
+public class SpriteAtlas{
+
+    /** 
+    * The name of the atlas image on the classpath.
+    */
+    public static final String IMAGE = "atlas.png";
+
+    /** 
+    * The name of the index of the atlas on the classpath.
+    */
+    public static final String INDEX = "atlas.txt";
+
+    private HashMap <String, PImage> sprites;
+    private boolean isLazy;
+
+    /** 
+    * Cuts the sprites out of an atlas.
+    * @param image The atlas image as a png.
+    * @param index The index of the atlas, which has a line of "x y width height name" for each sprite.
+    * @throws IOException If the atlas or index cannot be read.
+    */
+    public SpriteAtlas(InputStream image, InputStream index) throws IOException{
+        BufferedImage atlas = ImageIO.read(image);
+        if (atlas == null){
+            throw new IOException("The atlas is not an image");
+        }
+        this.sprites = new HashMap <String, PImage>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(index, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null){
+            if (line.isEmpty()){
+                continue;
+            }
+
+            // The name is last, since it can have spaces.
+            String[] fields = line.split(" ", 5);
+            if (fields.length != 5){
+                throw new IOException("Bad line in the atlas index: " + line);
+            }
+            int x = Integer.parseInt(fields[0]);
+            int y = Integer.parseInt(fields[1]);
+            int width = Integer.parseInt(fields[2]);
+            int height = Integer.parseInt(fields[3]);
+
+            PImage sprite = new PImage(width, height, PConstants.ARGB);
+            atlas.getRGB(x, y, width, height, sprite.pixels, 0, width);
+            sprites.put(fields[4], sprite);
+        }
+    }
+
+    // Atlas of sprites that have already been loaded.
+    private SpriteAtlas(HashMap <String, PImage> sprites){
+        this.sprites = sprites;
+    }
+
+    /** 
+    * Loads every png file of a directory as a sprite, named after the file without ".png",
+    * for when the atlas has not been packed.
+    * @param directory The directory of the png files.
+    * @return The sprites of the directory.
+    * @throws IOException If a png file cannot be read.
+    */
+    public static SpriteAtlas fromDirectory(File directory) throws IOException{
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(".png"));
+        if (files == null){
+            throw new IOException("Cannot list the sprites in " + directory);
+        }
+
+        HashMap <String, PImage> sprites = new HashMap <String, PImage>();
+        for (File file : files){
+            BufferedImage image = ImageIO.read(file);
+            if (image == null){
+                throw new IOException("Cannot read the sprite " + file);
+            }
+            String name = file.getName();
+            sprites.put(name.substring(0, name.length() - ".png".length()), toSprite(image));
+        }
+        return new SpriteAtlas(sprites);
+    }
+
+    /** 
+    * Loads the atlas that has been packed at build time from the classpath.
+    * @return The atlas, or null if it has not been packed.
+    */
+    public static SpriteAtlas load(){
+        try (InputStream image = SpriteAtlas.class.getClassLoader().getResourceAsStream(IMAGE);
+             InputStream index = SpriteAtlas.class.getClassLoader().getResourceAsStream(INDEX)){
+            if (image == null || index == null){
+                return null;
+            }
+            return new SpriteAtlas(image, index);
+        } catch (IOException e){
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /** 
+    * Loads the atlas that has been packed at build time from the classpath, or, if it has not been packed,
+    * an atlas that loads each sprite from its own png file on the classpath the first time it is asked for.
+    * Either way the sprites are found however the game is started, and not from the working directory.
+    * @return The sprites.
+    */
+    public static SpriteAtlas fromClasspath(){
+        SpriteAtlas atlas = load();
+        if (atlas == null){
+            atlas = new SpriteAtlas(new HashMap <String, PImage>());
+            atlas.isLazy = true;
+        }
+        return atlas;
+    }
+
+    /** 
+    * Loads a sprite from its own png file on the classpath, for when the atlas does not have it.
+    * @param name The name of the sprite, which is the name of its png file without ".png".
+    * @return The sprite, or null if there is no such file or it cannot be read.
+    */
+    public static PImage loadSprite(String name){
+        try (InputStream file = SpriteAtlas.class.getClassLoader().getResourceAsStream(name + ".png")){
+            if (file == null){
+                return null;
+            }
+            BufferedImage image = ImageIO.read(file);
+            return image == null ? null : toSprite(image);
+        } catch (IOException e){
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    // Copies a decoded image into a sprite.
+    private static PImage toSprite(BufferedImage image){
+        PImage sprite = new PImage(image.getWidth(), image.getHeight(), PConstants.ARGB);
+        image.getRGB(0, 0, image.getWidth(), image.getHeight(), sprite.pixels, 0, image.getWidth());
+        return sprite;
+    }
+
+    /** 
+    * To get a sprite by its name, which is the name of its png file without ".png".
+    * An atlas that has not been packed loads the sprite from the classpath the first time.
+    * @param name The name of the sprite.
+    * @return The sprite, or null if the atlas does not have it.
+    */
+    public synchronized PImage get(String name){
+        PImage sprite = sprites.get(name);
+        if (sprite == null && isLazy){
+            sprite = loadSprite(name);
+            if (sprite != null){
+                sprites.put(name, sprite);
+            }
+        }
+        return sprite;
+    }
+
+    /** 
+    * To get the names of all the sprites in the atlas.
+    * @return The names of the sprites, which are only those loaded so far for an atlas that has not been packed.
+    */
+    public Set <String> getNames(){
+        return sprites.keySet();
+    }
+}
@@ -3,15 +3,102 @@ package ghost;
 import processing.core.PImage;
 import processing.core.PApplet;
 
+// Enum for the types of cells in the map, stored as one byte per cell.
+// The lower four bits of a cell hold the type, and the upper four bits hold its flags.
+enum TileType {
+    EMPTY("0", 0),
+    HORIZONTAL("1", TileType.WALL_FLAG),
+    VERTICAL("2", TileType.WALL_FLAG),
+    UP_LEFT("3", TileType.WALL_FLAG),
+    UP_RIGHT("4", TileType.WALL_FLAG),
+    DOWN_LEFT("5", TileType.WALL_FLAG),
+    DOWN_RIGHT("6", TileType.WALL_FLAG),
+    FRUIT("7", TileType.FRUIT_FLAG),
+    SUPERFRUIT("8", TileType.FRUIT_FLAG),
+    WAKA("p", TileType.SPAWN_FLAG),
+    AMBUSHER("a", TileType.SPAWN_FLAG),
+    CHASER("c", TileType.SPAWN_FLAG),
+    IGNORANT("i", TileType.SPAWN_FLAG),
+    WHIM("w", TileType.SPAWN_FLAG),
+    OTHER(" ", TileType.WALL_FLAG);
+
+    // Flag of a cell that cannot be walked through.
+    static final int WALL_FLAG = 0x10;
+    // Flag of a cell that has a fruit or a superfruit to be eaten.
+    static final int FRUIT_FLAG = 0x20;
+    // Flag of a cell that still has its superfruit effect, kept apart from the type.
+    static final int SUPERFRUIT_FLAG = 0x40;
+    // Flag of a cell that is a starting position of Waka or a ghost.
+    static final int SPAWN_FLAG = 0x80;
+    // Mask of the type in a cell.
+    static final int TYPE_MASK = 0x0F;
+
+    private static final TileType[] types = values();
+    private static final TileType[] bySymbol = new TileType[128];
+
+    static {
+        for (TileType type : types){
+            if (type != OTHER){
+                bySymbol[type.value.charAt(0)] = type;
+            }
+        }
+    }
+
+    private final String value;
+    private final byte cell;
+
+    private TileType(String value, int flags) {
+        this.value = value;
+        this.cell = (byte) (ordinal() | flags);
+    }
+
+    // The value of the type, as written in a map file.
+    public String getValue(){
+        return value;
+    }
+
+    // The cell of the type with its flags, without the superfruit flag.
+    public byte getCell(){
+        return cell;
+    }
+
+    // Returns the type of a cell.
+    public static TileType of(int cell){
+        return types[cell & TYPE_MASK];
+    }
+
+    // Returns the type of a character in a map file, where any unknown character is OTHER.
+    public static TileType fromSymbol(int symbol){
+        if (symbol >= 0 && symbol < bySymbol.length && bySymbol[symbol] != null){
+            return bySymbol[symbol];
+        }
+        return OTHER;
+    }
+
+    // Returns the type of a value of a Tile, where any unknown value is OTHER.
+    public static TileType fromValue(String value){
+        if (value == null || value.length() != 1){
+            return OTHER;
+        }
+        return fromSymbol(value.charAt(0));
+    }
+}
+
 /** 
 * Tile class of type for the map in Waka Waka.
+* A Tile of a map is a view over one byte of the map's grid,
+* and a Tile created on its own keeps its byte by itself.
 */
 public class Tile{
-    private Long size;
-    private String value;
-    private Long x;
-    private Long y;
-    private boolean isSuper;
+    private int size;
+    private int x;
+    private int y;
+    private int row;
+    private int col;
+    private GameMap map;
+    private int index;
+    private byte cell;
+    private Tile[] neighbours;
 
     /** 
     * Constructor for Tile class.
@@ -21,21 +108,94 @@ public class Tile{
     * @param x The position of the Tile in x-axis.
     * @param y The position of the Tile in y-axis.
     */
-    public Tile (Long size, String value, Long x, Long y){
+    public Tile (int size, String value, int x, int y){
         this.size = size;
-        this.value = value;
         this.x = x;
         this.y = y;
-        this.isSuper= false;
+        this.row = toIndex(y, size);
+        this.col = toIndex(x, size);
+        this.cell = TileType.fromValue(value).getCell();
 
     }
 
+    /** 
+    * Overloaded constructor for Tile class that receives boxed values.
+    * A missing size or position is taken as 0.
+    * @param size The size of the Tile.
+    * @param value The value of the Tile.
+    * @param x The position of the Tile in x-axis.
+    * @param y The position of the Tile in y-axis.
+    */
+    public Tile (Long size, String value, Long x, Long y){
+        this(toInt(size), value, toInt(x), toInt(y));
+    }
+
+    /** 
+    * Constructor for a Tile that is a view over a cell of a map's grid.
+    * @param map The map that holds the cell.
+    * @param row The row of the cell.
+    * @param col The column of the cell.
+    */
+    Tile (GameMap map, int row, int col){
+        int size = map.getTileSize().intValue();
+        this.size = size;
+        this.x = col*size + size/2;
+        this.y = row*size + size/2;
+        this.row = row;
+        this.col = col;
+        this.map = map;
+        this.index = row*map.getColNum() + col;
+    }
+
+    /** 
+    * Converts a position in pixels into the row or column of the Tile that contains it.
+    * A position on the edge between two Tiles belongs to the Tile before it.
+    * @param pos The position in pixels.
+    * @param size The size of the Tiles.
+    * @return The row or column of the Tile that contains the position.
+    */
+    public static int toIndex(int pos, int size){
+        if (size <= 0 || pos <= size){
+            return 0;
+        }
+        return (pos - 1)/size;
+    }
+
+    // Unboxes a value, where null is taken as 0.
+    private static int toInt(Long value){
+        if (value == null){
+            return 0;
+        }
+        return value.intValue();
+    }
+
+    // Gets the byte of the Tile, from the map's grid if it is part of a map.
+    private int getCell(){
+        if (map != null){
+            return map.getCell(index);
+        }
+        return cell;
+    }
+
+    // Sets the byte of the Tile, into the map's grid if it is part of a map.
+    private void setCell(int newCell){
+        if (map != null){
+            map.setCell(index, (byte) newCell);
+        }else{
+            cell = (byte) newCell;
+        }
+    }
+
     /** 
     * Sets the Tile to have a superfruit or not.
     * @param isSuper If the Tile has a superfruit or not
     */
     public void setAsSuper(boolean isSuper){
-        this.isSuper = isSuper;
+        if (isSuper){
+            setCell(getCell() | TileType.SUPERFRUIT_FLAG);
+        }else{
+            setCell(getCell() & ~TileType.SUPERFRUIT_FLAG);
+        }
     }
 
     /** 
@@ -43,7 +203,7 @@ public class Tile{
     * @return The position of the Tile in x-axis.
     */
     public Long getPosX(){
-        return x;
+        return Long.valueOf(x);
     }
 
     /** 
@@ -51,6 +211,22 @@ public class Tile{
     * @return The position of the Tile in y-axis.
     */
     public Long getPosY(){
+        return Long.valueOf(y);
+    }
+
+    /** 
+    * Getter method for the position of the Tile in x-axis as a primitive.
+    * @return The position of the Tile in x-axis in pixels.
+    */
+    public int getPixelX(){
+        return x;
+    }
+
+    /** 
+    * Getter method for the position of the Tile in y-axis as a primitive.
+    * @return The position of the Tile in y-axis in pixels.
+    */
+    public int getPixelY(){
         return y;
     }
 
@@ -59,7 +235,15 @@ public class Tile{
     * @return The value of the Tile.
     */
     public String getValue(){
-        return value;
+        return TileType.of(getCell()).getValue();
+    }
+
+    /** 
+    * Getter method to get the type of the Tile.
+    * @return The type of the Tile.
+    */
+    public TileType getType(){
+        return TileType.of(getCell());
     }
 
     /** 
@@ -67,15 +251,16 @@ public class Tile{
     * @return The size of the Tile.
     */
     public Long getSize(){
-        return size;
+        return Long.valueOf(size);
     }
 
     /** 
     * Setter method to set the value of the Tile.
+    * The superfruit state of the Tile is kept as it is.
     * @param value The value of the Tile.
     */
     public void setValue(String value){
-        this.value = value;
+        setCell((getCell() & TileType.SUPERFRUIT_FLAG) | TileType.fromValue(value).getCell());
     }
 
     /** 
@@ -83,13 +268,7 @@ public class Tile{
     * @return the row the Tile currently occupies.
     */
     public Long getRow(){
-        Long row = 0L;
-        Long posY = this.y;
-        while (posY> this.size){
-            posY-= this.size;
-            row++;
-        }
-        return row;
+        return Long.valueOf(getRowIndex());
     }
 
     /** 
@@ -97,30 +276,54 @@ public class Tile{
     * @return the column the Tile currently occupies.
     */
     public Long getCol(){
-        Long col = 0L;
-        Long posX = this.x;
-        while (posX> this.size){
-            posX-= this.size;
-            col++;
-        }
+        return Long.valueOf(getColIndex());
+    }
+
+    /** 
+    * Getter method to get the row the Tile currently occupies as a primitive.
+    * @return the row the Tile currently occupies.
+    */
+    public int getRowIndex(){
+        return row;
+    }
+
+    /** 
+    * Getter method to get the column the Tile currently occupies as a primitive.
+    * @return the column the Tile currently occupies.
+    */
+    public int getColIndex(){
         return col;
     }
 
+    /** 
+    * Sets the Tile itself and its surrounding Tiles.
+    * @param neighbours The Tile itself and the Tiles above, below, left and right,
+    *                   with null for a Tile outside of the map.
+    */
+    public void setNeighbours(Tile[] neighbours){
+        this.neighbours = neighbours;
+    }
+
+    /** 
+    * Getter method to get the Tile itself and its surrounding Tiles.
+    * The array is indexed by the value of Direction, and is shared so it must not be modified.
+    * For a Tile of a map, it is worked out from the grid the first time it is needed.
+    * @return The Tile itself and the Tiles above, below, left and right,
+    *         or null if the Tile is not part of a map.
+    */
+    public Tile[] getNeighbours(){
+        if (neighbours == null && map != null){
+            neighbours = map.getNeighbours(row, col);
+        }
+        return neighbours;
+    }
+
     /** 
     * Checks if the Tile is of a wall Tile.
     * @return If the Tile is a wall or not.
     */
     public boolean isWall(){
-        boolean isEmptyCell = value.equals("0");
-        boolean isFruitCell = value.equals("7") || value.equals("8");
-        boolean isWakaStart = value.equals("p");
-        boolean isGhostStart = (value.equals("a") || value.equals("c") || value.equals("i") || value.equals("w"));
-
-        if (isEmptyCell || isFruitCell || isWakaStart || isGhostStart){
-            return false;
-        }else{
-            return true;
-        }
+        return (getCell() & TileType.WALL_FLAG) != 0;
     }
 
     /** 
@@ -128,11 +331,7 @@ public class Tile{
     * @return If the Tile has superfruit or not.
     */
     public boolean isSuperfruit(){
-        if (isSuper){
-            return true;
-        }else{
-            return false;
-        }
+        return (getCell() & TileType.SUPERFRUIT_FLAG) != 0;
     }
 
     /** 
@@ -140,10 +339,6 @@ public class Tile{
     * @return If the Tile has fruit or not.
     */
     public boolean hasFruit(){
-        if(value.equals("7") ||value.equals("8") ){
-            return true;
-        }else{
-            return false;
-        }
+        return (getCell() & TileType.FRUIT_FLAG) != 0;
     }
-}
\ No newline at end of file
+}
@@ -12,13 +12,13 @@ import java.util.HashMap;
 */
 public class Waka extends Creature{
 
-    private Long lives;
+    private int lives;
     private Direction face;
     private Direction keyQueue;
     private HashMap <Direction, PImage> sprites;
-    private Long livesLeft;
+    private int livesLeft;
     private boolean hasWon;
-    private Long fruitsEaten;
+    private int fruitsEaten;
     private boolean keyIsReleased;
 
     /** 
@@ -30,13 +30,12 @@ public class Waka extends Creature{
     */
     public Waka(Long lives, Long speed, GameMap map){
         super(map, speed);
-        this.lives = lives;
+        this.lives = lives.intValue();
         this.face = Direction.RIGHT;
-        this.x = map.getWakaStart().get(0);
-        this.y = map.getWakaStart().get(1);
+        setLocation(map.getWakaStart().get(0), map.getWakaStart().get(1));
         this.hasWon = false;
-        this.fruitsEaten = 0L;
-        this.livesLeft = lives;
+        this.fruitsEaten = 0;
+        this.livesLeft = this.lives;
         this.keyQueue = Direction.NEUTRAL;
         this.keyIsReleased = false;
     }
@@ -61,8 +60,7 @@ public class Waka extends Creature{
     * This method is called when player hits a ghost.
     */
     public void backToStart(){
-        x = map.getWakaStart().get(0);
-        y = map.getWakaStart().get(1);
+        setLocation(map.getWakaStart().get(0), map.getWakaStart().get(1));
         isMoving = false;
         facing = Direction.RIGHT;
         keyQueue = Direction.NEUTRAL;
@@ -77,12 +75,21 @@ public class Waka extends Creature{
     * @param app Used to get framecount to alter the images of open and closing mouth.
     */
     public void tick(PApplet app){
-        moveMouth(app);
+        setKeyQueue(app);
+        tick(app.frameCount);
+    }
+
+    /** 
+    * Drives the whole logic of Waka without reading any key input from a sketch.
+    * The key input is given beforehand through setKeyQueue and setKeyIsReleased.
+    * @param frameCount Used to alter the images of open and closing mouth.
+    */
+    public void tick(int frameCount){
+        moveMouth(frameCount);
         Tile[] currentTiles = getCurrentTiles();
         Tile currentTile = currentTiles[0];
 
         // If keyboard is pressed and released, then Waka moves.
-        setKeyQueue(app);
         if (keyIsReleased){
             moveWaka();
         }
@@ -109,9 +116,7 @@ public class Waka extends Creature{
     public boolean eatSuperfruit(){
         Tile[] currentTiles = getCurrentTiles();
         Tile currentTile = currentTiles[0];
-        Long tilePosX = currentTile.getPosX();
-        Long tilePosY = currentTile.getPosY();
-        boolean isMidPoint = tilePosX.equals(this.x) && tilePosY.equals(this.y);
+        boolean isMidPoint = isAtMidPoint(currentTile);
 
         // If player is in a Tile that has a superfruit and has reached the midpoint of the tile.
         if (currentTile.isSuperfruit() && isMidPoint){
@@ -135,7 +140,7 @@ public class Waka extends Creature{
     *@return the lives left that Waka has.
     */
     public Long getLivesLeft(){
-        return livesLeft;
+        return Long.valueOf(livesLeft);
     }
 
     /** 
@@ -143,12 +148,37 @@ public class Waka extends Creature{
     *@param app To draw the image of sprites.
     */
     public void draw(PApplet app){
+        draw(app, 1);
+    }
+
+    /** 
+    * Draws the sprites of Waka between its last two positions, and also the sprites that portrays the lives left.
+    *@param app To draw the image of sprites.
+    *@param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    */
+    public void draw(PApplet app, float alpha){
+        drawSprite(app, alpha);
+        drawLives(app, getLivesY());
+    }
 
-        // Draws the sprite of player.
+    /** 
+    * Draws only the sprite of Waka between its last two positions, without the lives left.
+    *@param app To draw the image of sprites.
+    *@param alpha How far the game is between its last tick and the next one, from 0 to 1.
+    */
+    public void drawSprite(PApplet app, float alpha){
         PImage sprite = sprites.get(face);
-        app.image(sprite, this.x, this.y);
-        Long lifePosY = map.getGridHeight() - (map.getTileSize() + map.getTileSize() + map.getTileSize()/2)/2;
-        Long lifePosX = map.getTileSize();
+        app.image(sprite, getDrawX(alpha), getDrawY(alpha));
+    }
+
+    /** 
+    * Draws the sprites that portrays the lives left in a row, 
+    * which is at the bottom of the map, or at the bottom of the window when the map is larger than it.
+    *@param app To draw the image of sprites.
+    *@param lifePosY The y-axis of the middle of the sprites of the lives left.
+    */
+    public void drawLives(PApplet app, int lifePosY){
+        int lifePosX = map.getTileSize().intValue();
 
         // Draws the sprites that portrays the lives left that Waka has.
         for(int i = 0; i<livesLeft; i++){
@@ -158,6 +188,23 @@ public class Waka extends Creature{
         }
     }
 
+    /** 
+    * Getter method for the y-axis of the middle of the sprites that portrays the lives left.
+    *@return The y-axis of the lives left in pixels.
+    */
+    public int getLivesY(){
+        int tileSize = map.getTileSize().intValue();
+        return map.getGridHeight().intValue() - (tileSize + tileSize + tileSize/2)/2;
+    }
+
+    /** 
+    * Getter method for the face of Waka that is drawn, which is closed when its mouth is shut.
+    *@return The direction of the sprite of Waka that is drawn.
+    */
+    public Direction getFace(){
+        return face;
+    }
+
     /** 
     * Getter method for which direction Waka is moving.
     *@return The direction that Waka is moving and facing.
@@ -171,14 +218,21 @@ public class Waka extends Creature{
     *@return The height of the player's sprite.
     */
     public Long getHeight(){
+        return Long.valueOf(getPixelHeight());
+    }
+
+    /** 
+    * Getter method for the height of the player's sprite as a primitive.
+    *@return The height of the player's sprite in pixels.
+    */
+    public int getPixelHeight(){
 
         //Default height when there is no sprite.
-        Long spriteHeight =26L;
+        int spriteHeight = 26;
     
         if (sprites!= null){
             PImage sprite = sprites.get(Direction.RIGHT);
-            int height = sprite.height;
-            spriteHeight = Long.valueOf(height);
+            spriteHeight = sprite.height;
         }
 
         return spriteHeight;
@@ -189,14 +243,21 @@ public class Waka extends Creature{
     *@return The width of the player's sprite.
     */
     public Long getWidth(){
+        return Long.valueOf(getPixelWidth());
+    }
+
+    /** 
+    * Getter method for the width of the player's sprite as a primitive.
+    *@return The width of the player's sprite in pixels.
+    */
+    public int getPixelWidth(){
 
         //Default width when there is no sprite.
-        Long spriteWidth = 24L;
+        int spriteWidth = 24;
 
         if (sprites != null){
             PImage sprite = sprites.get(Direction.RIGHT);
-            int width = sprite.width;
-            spriteWidth = Long.valueOf(width);
+            spriteWidth = sprite.width;
         }
 
         return spriteWidth;
@@ -315,13 +376,13 @@ public class Waka extends Creature{
         if (availableTiles != null && currentTile != null){
             for (int i = 0; i<availableTiles.size(); i++){
                 Tile nextTile = availableTiles.get(i);
-                if(nextTile.getRow()>currentTile.getRow()){
+                if(nextTile.getRowIndex()>currentTile.getRowIndex()){
                     availableDirections.add(2);
-                }else if (nextTile.getRow()<currentTile.getRow()){
+                }else if (nextTile.getRowIndex()<currentTile.getRowIndex()){
                     availableDirections.add(1);
-                } else if(nextTile.getCol()>currentTile.getCol()){
+                } else if(nextTile.getColIndex()>currentTile.getColIndex()){
                     availableDirections.add(4);
-                } else if(nextTile.getCol()<currentTile.getCol()){
+                } else if(nextTile.getColIndex()<currentTile.getColIndex()){
                     availableDirections.add(3);
                 }
             }
@@ -330,21 +391,57 @@ public class Waka extends Creature{
         return availableDirections;
     }
 
+    /** 
+    * To get the available moves of Waka as a bitmask, where the move to a surrounding Tile
+    * is the bit of its index in currentTiles, which is also the value of its Direction.
+    * A move is available if it is not into a wall.
+    * @param currentTiles The current tile Waka occupies and its surrounding tiles.
+    * @return The bitmask of the available moves.
+    */
+    public int getAvailableMoves(Tile[] currentTiles){
+        int availableMoves = 0;
+        if (currentTiles != null){
+            for (int i = 1; i<currentTiles.length; i++){
+                if (!(currentTiles[i].isWall())){
+                    availableMoves |= 1 << i;
+                }
+            }
+        }
+
+        return availableMoves;
+    }
+
+    /** 
+    * Checks if the movement of Waka can still be continued, from the bitmask of its available moves.
+    * @param availableMoves The available moves as a bitmask, from getAvailableMoves.
+    * @return Boolean if the movement of Waka can still be continued.
+    */
+    public boolean checkMoveIsValid(int availableMoves){
+        return (availableMoves & (1 << facing.getValue())) != 0;
+    }
+
+    /** 
+    * Checks if the key input can be take account to Waka's movement, from the bitmask of its available moves.
+    * @param availableMoves The available moves as a bitmask, from getAvailableMoves.
+    * @return Boolean if the key input can be take account to Waka's movement.
+    */
+    public boolean checkKeyIsValid(int availableMoves){
+        return (availableMoves & (1 << keyQueue.getValue())) != 0;
+    }
+
     /** 
     * Moves waka according to current movement or key input.
+    * The available moves are a bitmask, so that moving does not allocate.
     */
     public void moveWaka(){
         Tile[] currentTiles = getCurrentTiles();
         Tile currentTile = currentTiles[0];
-        List<Tile> availableTiles = getAvailableTiles(currentTiles);
-        List <Integer> availableDirections = getAvailableDirections(availableTiles, currentTile);
+        int availableMoves = getAvailableMoves(currentTiles);
 
-        Long tilePosX = currentTile.getPosX();
-        Long tilePosY = currentTile.getPosY();
-        boolean isMidPoint = tilePosX.equals(this.x) && tilePosY.equals(this.y);
+        boolean isMidPoint = isAtMidPoint(currentTile);
 
-        boolean moveIsValid= checkMoveIsValid(availableDirections);
-        boolean keyIsValid = checkKeyisValid(availableDirections);
+        boolean moveIsValid= checkMoveIsValid(availableMoves);
+        boolean keyIsValid = checkKeyIsValid(availableMoves);
 
         boolean keyIsVertical = keyQueue.isVertical();
         boolean keyIsHorizontal = keyQueue.isHorizontal();
@@ -400,9 +497,7 @@ public class Waka extends Creature{
     * @param currentTile The current tile player occupies.
     */
     public void eatFruit(Tile currentTile){
-        Long tilePosX = currentTile.getPosX();
-        Long tilePosY = currentTile.getPosY();
-        boolean isMidPoint = tilePosX.equals(this.x) && tilePosY.equals(this.y);
+        boolean isMidPoint = isAtMidPoint(currentTile);
 
         // Waka only eats when it reaches the middle of Tile, where the fruit is currently situated.
         if(isMidPoint){
@@ -417,7 +512,7 @@ public class Waka extends Creature{
     public void checkPlayerHasWon(){
 
         // If Waka has eaten all fruit, then player wins.
-        if (fruitsEaten.equals(map.getTotalFruits())){
+        if (fruitsEaten == map.getTotalFruitCount()){
             hasWon = true;
         }
     }
@@ -427,7 +522,15 @@ public class Waka extends Creature{
     * @param app To count the frames.
     */
     public void moveMouth(PApplet app){
-        if ((app.frameCount) % 8 == 0){
+        moveMouth(app.frameCount);
+    }
+
+    /** 
+    * Alters the mouth of Waka for every 8 frames.
+    * @param frameCount The current frame of the game.
+    */
+    public void moveMouth(int frameCount){
+        if (frameCount % 8 == 0){
             if (!(face.equals(Direction.NEUTRAL))){
                 face = Direction.NEUTRAL;
             }else{
@@ -28,8 +28,8 @@ public class Whim extends Ghost{
     public Whim(GameMap map, Long speed, Waka player, List <Long> modeLengths, int num, Chaser chaser, Long frightenedLength){
         super(map, speed, player, modeLengths, frightenedLength);
         this.chaser = chaser;
-        this.x = map.getGhostStart("w").get(num).get(0);
-        this.y = map.getGhostStart("w").get(num).get(1);
+        List <Long> start = map.getGhostStart("w").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
@@ -48,16 +48,36 @@ public class Whim extends Ghost{
     public Whim(GameMap map, Long speed, PImage sprite, Waka player, List <Long> modeLengths, int num,  Chaser chaser, Long frightenedLength, PImage frightenedSprite){
         super(map, speed, sprite, player, modeLengths, frightenedLength, frightenedSprite);
         this.chaser = chaser;
-        this.x = map.getGhostStart("w").get(num).get(0);
-        this.y = map.getGhostStart("w").get(num).get(1);
+        List <Long> start = map.getGhostStart("w").get(num);
+        setLocation(start.get(0), start.get(1));
+    }
+
+    /** 
+    * Overloaded constructor of Whim that receives sprites and shares its mode 
+    * and frightened state with the other ghosts of a game.
+    * Used when Whim is part of a Game.
+    * @param map The map of the game.
+    * @param speed The speed of Whim when moving.
+    * @param sprite The sprite of Whim.
+    * @param player The player as Waka.
+    * @param coordinator The state shared by all ghosts of the game.
+    * @param num The number of the Whim ghost to differentiate between multiple Whims (if there are more than one).
+    * @param chaser A chaser in the game that Whim uses to acquire its target.
+    * @param frightenedSprite The frightened sprite.
+    */
+    public Whim(GameMap map, Long speed, PImage sprite, Waka player, GhostCoordinator coordinator, int num, Chaser chaser, PImage frightenedSprite){
+        super(map, speed, sprite, player, coordinator, frightenedSprite);
+        this.chaser = chaser;
+        List <Long> start = map.getGhostStart("w").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
     * Makes Whim goes back to its starting position.
     */
     public void backToStart(){
-        x = map.getGhostStart("w").get(num).get(0);
-        y = map.getGhostStart("w").get(num).get(1);
+        List <Long> start = map.getGhostStart("w").get(num);
+        setLocation(start.get(0), start.get(1));
     }
 
     /** 
@@ -68,21 +88,18 @@ public class Whim extends Ghost{
     public Tile getTargetTile(){
         Tile targetTile = null;
 
-        if (super.ghostMode == Mode.CHASE){
+        if (getMode() == Mode.CHASE){
             Tile wakaTarget = getWakaTarget();
             Tile chaserPos = getChaserPos();
-            Long chaserPosX = chaserPos.getRow();
-            Long chaserPosY = chaserPos.getCol();
-            Long wakaPosX = wakaTarget.getRow();
-            Long wakaPosY = wakaTarget.getCol();
-    
-            Long vectorX = wakaPosX - chaserPosX;
-            Long vectorY = wakaPosY - chaserPosY;
-            Long targetX = wakaPosX + vectorX;
-            Long targetY = wakaPosY + vectorY;
+            int chaserPosX = chaserPos.getRowIndex();
+            int chaserPosY = chaserPos.getColIndex();
+            int wakaPosX = wakaTarget.getRowIndex();
+            int wakaPosY = wakaTarget.getColIndex();
     
-            int targetPosX = targetX.intValue();
-            int targetPosY = targetY.intValue();
+            int vectorX = wakaPosX - chaserPosX;
+            int vectorY = wakaPosY - chaserPosY;
+            int targetPosX = wakaPosX + vectorX;
+            int targetPosY = wakaPosY + vectorY;
             
             // Checks if the target is out of bounds or not.
             // If it is, the target position will be the nearest existent Tile.
@@ -97,8 +114,8 @@ public class Whim extends Ghost{
             }else if (targetPosY <0){
                 targetPosY = 0;
             }
-            targetTile = this.map.getGrid().get(targetPosX).get(targetPosY);
-        }else if (ghostMode == Mode.SCATTER){
+            targetTile = this.map.getTile(targetPosX, targetPosY);
+        }else if (getMode() == Mode.SCATTER){
             targetTile = map.getBottomRightCorner();
         }
 
@@ -123,32 +140,32 @@ public class Whim extends Ghost{
         Tile[] playerTiles = player.getCurrentTiles();
         Tile targetTile = playerTiles[0];
         Direction direction = player.getMoveDirection();
-        int row = targetTile.getRow().intValue();
-        int col = targetTile.getCol().intValue();
+        int row = targetTile.getRowIndex();
+        int col = targetTile.getColIndex();
 
         if (direction.equals(Direction.UP)){
 
             // Makes sure that it is not out of upper bounds.
-            if (targetTile.getRow()-2 >0){
-                targetTile =this.map.getGrid().get(row-2).get(col);
+            if (row-2 >0){
+                targetTile =this.map.getTile(row-2, col);
             }
         } else if (direction.equals(Direction.DOWN)){
 
             // Makes sure that it is not out of lower bounds.
-            if (targetTile.getRow()+2 <=map.getRowNum()-1){
-                targetTile =this.map.getGrid().get(row+2).get(col);
+            if (row+2 <=map.getRowNum()-1){
+                targetTile =this.map.getTile(row+2, col);
             }
         } else if (direction.equals(Direction.RIGHT)){
 
             // Makes sure that it is not out of right bounds.
-            if (targetTile.getCol()+2 <=map.getColNum()-1){
-                targetTile =this.map.getGrid().get(row).get(col+2);
+            if (col+2 <=map.getColNum()-1){
+                targetTile =this.map.getTile(row, col+2);
             }
         } else if (direction.equals(Direction.LEFT)){
 
             // Makes sure that it is not out of left bounds.
-            if (targetTile.getCol()-2 >0){
-                targetTile =this.map.getGrid().get(row).get(col-2);
+            if (col-2 >0){
+                targetTile =this.map.getTile(row, col-2);
             }
         }
 
@@ -0,0 +1,230 @@
+package ghost;
+
+import java.util.List;
+
+/** 
+* Copy of everything that is drawn of a game in a frame: the cells of the map, Waka and the ghosts,
+* and also the mode of the ghosts and the status of the game.
+* It does not change once it is taken, so it can be drawn on another thread while the game keeps running.
+* The cells of the map are copied only when they have changed since the last snapshot of the game.
+*/
+public class WorldSnapshot{
+
+    private final int frame;
+    private final int rows;
+    private final int cols;
+    private final int tileSize;
+    private final byte[] cells;
+    private final int playerX;
+    private final int playerY;
+    private final Direction playerFace;
+    private final int lives;
+    private final int livesY;
+    private final char[] ghostTypes;
+    private final int[] ghostX;
+    private final int[] ghostY;
+    private final boolean[] ghostInvisible;
+    private final boolean isFrightened;
+    private final Mode mode;
+    private final Status status;
+
+    /** 
+    * Takes a snapshot of a game as it is after its last step.
+    * @param game The game to take the snapshot of.
+    * @param frame The frame of the game the snapshot is taken in.
+    */
+    public WorldSnapshot(Game game, int frame){
+        GameMap map = game.getMap();
+        Waka player = game.getPlayer();
+        List <Ghost> ghosts = game.getGhosts();
+
+        this.frame = frame;
+        this.rows = map.getRowNum();
+        this.cols = map.getColNum();
+        this.tileSize = map.getTileSize().intValue();
+        // The cells are shared with the snapshots before it until a fruit is eaten, since neither changes them.
+        this.cells = map.getCellsCopy();
+
+        this.playerX = player.getPixelX();
+        this.playerY = player.getPixelY();
+        this.playerFace = player.getFace();
+        this.lives = player.getLivesLeft().intValue();
+        this.livesY = player.getLivesY();
+
+        this.ghostTypes = new char[ghosts.size()];
+        this.ghostX = new int[ghosts.size()];
+        this.ghostY = new int[ghosts.size()];
+        this.ghostInvisible = new boolean[ghosts.size()];
+        for (int i = 0; i < ghosts.size(); i++){
+            Ghost ghost = ghosts.get(i);
+            ghostTypes[i] = getType(ghost);
+            ghostX[i] = ghost.getPixelX();
+            ghostY[i] = ghost.getPixelY();
+            ghostInvisible[i] = ghost.isInvisible();
+        }
+        this.isFrightened = game.getGhostState().isFrightened();
+        this.mode = game.getGhostState().getMode();
+        this.status = game.getStatus();
+    }
+
+    // Gets the letter of the type of a ghost, as written in a map file.
+    private static char getType(Ghost ghost){
+        if (ghost instanceof Ambusher){
+            return 'a';
+        }else if (ghost instanceof Chaser){
+            return 'c';
+        }else if (ghost instanceof Ignorant){
+            return 'i';
+        }
+        return 'w';
+    }
+
+    /** 
+    * To get the frame of the game the snapshot was taken in.
+    * @return The frame of the snapshot.
+    */
+    public int getFrame(){
+        return frame;
+    }
+
+    /** 
+    * To get the number of rows of the map.
+    * @return The number of rows of the map.
+    */
+    public int getRowNum(){
+        return rows;
+    }
+
+    /** 
+    * To get the number of columns of the map.
+    * @return The number of columns of the map.
+    */
+    public int getColNum(){
+        return cols;
+    }
+
+    /** 
+    * To get the size of the Tiles of the map.
+    * @return The size of the Tiles in pixels.
+    */
+    public int getTileSize(){
+        return tileSize;
+    }
+
+    /** 
+    * To get the cell of the map at an index, which is row*cols + col.
+    * @param index The index of the cell.
+    * @return The type and flags of the cell.
+    */
+    public byte getCell(int index){
+        return cells[index];
+    }
+
+    /** 
+    * To get the coordinates of x-axis of Waka.
+    * @return The coordinates of x-axis of Waka in pixels.
+    */
+    public int getPlayerX(){
+        return playerX;
+    }
+
+    /** 
+    * To get the coordinates of y-axis of Waka.
+    * @return The coordinates of y-axis of Waka in pixels.
+    */
+    public int getPlayerY(){
+        return playerY;
+    }
+
+    /** 
+    * To get the face of Waka that is drawn.
+    * @return The direction of the sprite of Waka.
+    */
+    public Direction getPlayerFace(){
+        return playerFace;
+    }
+
+    /** 
+    * To get the lives left of Waka.
+    * @return The lives left of Waka.
+    */
+    public int getLives(){
+        return lives;
+    }
+
+    /** 
+    * To get the y-axis of the middle of the sprites of the lives left.
+    * @return The y-axis of the lives left in pixels.
+    */
+    public int getLivesY(){
+        return livesY;
+    }
+
+    /** 
+    * To get the number of ghosts.
+    * @return The number of ghosts.
+    */
+    public int getGhostCount(){
+        return ghostTypes.length;
+    }
+
+    /** 
+    * To get the type of a ghost, as written in a map file.
+    * @param i The index of the ghost.
+    * @return The letter of the type of the ghost, which is a, c, i or w.
+    */
+    public char getGhostType(int i){
+        return ghostTypes[i];
+    }
+
+    /** 
+    * To get the coordinates of x-axis of a ghost.
+    * @param i The index of the ghost.
+    * @return The coordinates of x-axis of the ghost in pixels.
+    */
+    public int getGhostX(int i){
+        return ghostX[i];
+    }
+
+    /** 
+    * To get the coordinates of y-axis of a ghost.
+    * @param i The index of the ghost.
+    * @return The coordinates of y-axis of the ghost in pixels.
+    */
+    public int getGhostY(int i){
+        return ghostY[i];
+    }
+
+    /** 
+    * Tells if a ghost is invisible, after being eaten by Waka.
+    * @param i The index of the ghost.
+    * @return If the ghost is invisible.
+    */
+    public boolean isGhostInvisible(int i){
+        return ghostInvisible[i];
+    }
+
+    /** 
+    * Tells if the ghosts are frightened.
+    * @return If the ghosts are frightened.
+    */
+    public boolean isFrightened(){
+        return isFrightened;
+    }
+
+    /** 
+    * To get the mode of the ghosts.
+    * @return The mode of the ghosts, which is chase or scatter.
+    */
+    public Mode getMode(){
+        return mode;
+    }
+
+    /** 
+    * To get the status of the game.
+    * @return The status of the game, whether it is playing, win, or lose.
+    */
+    public Status getStatus(){
+        return status;
+    }
+}
@@ -0,0 +1,25 @@
+package ghost;
+
+import java.lang.management.ManagementFactory;
+
+// Measures the heap bytes allocated by the current thread, used by tests on the allocation-free paths.
+class AllocationMeter{
+    private static final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Gives the average number of bytes allocated by one run of the task, after warming it up.
+    static long bytesPerRun(Runnable task, int runs){
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i<runs; i++){
+            task.run();
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i<runs; i++){
+            task.run();
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+
+        return (after - before)/runs;
+    }
+}
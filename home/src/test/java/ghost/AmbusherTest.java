@@ -610,13 +610,31 @@ class AmbusherTest{
         assertFalse(actual);
     }
 
-    // Tests when a space key is pressed.
+    // Tests a tick of the ghost in Scatter and Chase mode does not allocate on the heap.
     @Test
-    public void spacePressed(){
-        testAmbusher.spaceNotPressed();
-        Boolean actual = testAmbusher.spaceIsPressed();
-        assertFalse(actual);
+    public void tickDoesNotAllocate(){
+        int[] frame = {0};
+        testAmbusher.setTargetFrame(0);
+        long actual = AllocationMeter.bytesPerRun(() -> {
+            frame[0]++;
+            testAmbusher.checkMode(frame[0]);
+            testAmbusher.tick(frame[0]);
+        }, 100000);
+        assertEquals(0L, actual);
     }
 
-}
+    // Tests a tick of the ghost while frightened does not allocate on the heap.
+    @Test
+    public void frightenedTickDoesNotAllocate(){
+        int[] frame = {0};
+        testAmbusher.setTargetFrame(0);
+        testAmbusher.setFrightened(true);
+        long actual = AllocationMeter.bytesPerRun(() -> {
+            frame[0]++;
+            testAmbusher.tick(frame[0]);
+        }, 100000);
+        assertEquals(0L, actual);
+        assertTrue(testAmbusher.isFrightened());
+    }
 
+}
@@ -0,0 +1,229 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import processing.core.PApplet;
+import processing.core.PFont;
+import processing.core.PGraphics;
+import processing.core.PImage;
+
+import java.awt.Font;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.io.TempDir;
+
+class AssetCacheTest{
+    private AssetCache testAssets;
+    private CountingApp testApp;
+
+    // Sketch that counts the fonts and images it creates or loads, and creates them without a display.
+    private static class CountingApp extends PApplet{
+        private int fontsCreated;
+        private int imagesCreated;
+        private int imagesLoaded;
+
+        public PImage loadImage(String filename){
+            imagesLoaded++;
+            return new PImage(16, 16, ARGB);
+        }
+
+        CountingApp(){
+            g = new PGraphics();
+            g.setParent(this);
+        }
+
+        public PFont createFont(String name, float size){
+            fontsCreated++;
+            return new PFont(new Font(Font.MONOSPACED, Font.PLAIN, (int) size), true);
+        }
+
+        public PGraphics createGraphics(int w, int h){
+            imagesCreated++;
+            PGraphics image = new PGraphics();
+            image.setParent(this);
+            image.setPrimary(false);
+            image.setSize(w, h);
+            return image;
+        }
+    }
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testAssets = new AssetCache();
+        testApp = new CountingApp();
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testAssets = null;
+        testApp = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new AssetCache());
+        assertEquals(0, testAssets.size());
+    }
+
+    // Tests a font is loaded only the first time it is asked for.
+    @Test
+    public void testFontLoadedOnce(){
+        PFont font = testAssets.getFont(testApp, "PressStart2P-Regular.ttf", 32);
+        for (int i = 0; i < 600; i++){
+            assertSame(font, testAssets.getFont(testApp, "PressStart2P-Regular.ttf", 32));
+        }
+        assertEquals(1, testApp.fontsCreated);
+    }
+
+    // Tests each size of a font is loaded on its own.
+    @Test
+    public void testFontSizes(){
+        PFont small = testAssets.getFont(testApp, "PressStart2P-Regular.ttf", 16);
+        PFont big = testAssets.getFont(testApp, "PressStart2P-Regular.ttf", 32);
+        assertNotSame(small, big);
+        assertEquals(2, testApp.fontsCreated);
+    }
+
+    // Tests a text is drawn only the first time it is asked for, into an image big enough for it.
+    @Test
+    public void testTextDrawnOnce(){
+        PImage text = testAssets.getText(testApp, "PressStart2P-Regular.ttf", 32, "YOU WIN");
+        for (int i = 0; i < 600; i++){
+            assertSame(text, testAssets.getText(testApp, "PressStart2P-Regular.ttf", 32, "YOU WIN"));
+        }
+        assertEquals(1, testApp.imagesCreated);
+        assertEquals(1, testApp.fontsCreated);
+        assertTrue(text.width > text.height);
+    }
+
+    // Tests different texts are drawn into different images with the same font.
+    @Test
+    public void testDifferentTexts(){
+        PImage win = testAssets.getText(testApp, "PressStart2P-Regular.ttf", 32, "YOU WIN");
+        PImage lose = testAssets.getText(testApp, "PressStart2P-Regular.ttf", 32, "GAME OVER");
+        assertNotSame(win, lose);
+        assertEquals(2, testApp.imagesCreated);
+        assertEquals(1, testApp.fontsCreated);
+        assertEquals(3, testAssets.size());
+    }
+
+    // Tests emptying the cache.
+    @Test
+    public void testClear(){
+        testAssets.getText(testApp, "PressStart2P-Regular.ttf", 32, "YOU WIN");
+        testAssets.clear();
+        assertEquals(0, testAssets.size());
+        testAssets.getText(testApp, "PressStart2P-Regular.ttf", 32, "YOU WIN");
+        assertEquals(2, testApp.imagesCreated);
+    }
+
+    // Tests the games share the cache that is given to them.
+    @Test
+    public void testSharedByGames(){
+        Game game = new Game(new ConfigReader());
+        assertNotNull(game.getAssets());
+        game.setAssets(testAssets);
+        assertSame(testAssets, game.getAssets());
+    }
+
+    // Tests a sprite is decoded only the first time it is asked for.
+    @Test
+    public void testSpriteLoadedOnce(){
+        PImage sprite = testAssets.getSprite("fruit");
+        assertNotNull(sprite);
+        for (int i = 0; i < 10; i++){
+            assertSame(sprite, testAssets.getSprite("fruit"));
+        }
+        assertEquals(1, testAssets.size());
+    }
+
+    // Tests the games share the sprites of the cache.
+    @Test
+    public void testSpritesSharedByGames(){
+        Game first = new Game(new ConfigReader());
+        Game second = new Game(new ConfigReader());
+        first.setAssets(testAssets);
+        second.setAssets(testAssets);
+        first.loadSprites(testApp);
+        second.loadSprites(testApp);
+        assertEquals(18, testAssets.size());
+
+        // The sprites are loaded from the classpath, and not through the sketch from the working directory.
+        assertEquals(0, testApp.imagesLoaded);
+    }
+
+    // Tests a map is parsed into a template only the first time it is asked for.
+    @Test
+    public void testMapTemplate(){
+        ByteBuffer template = testAssets.getMapTemplate("map.txt");
+        assertTrue(template.isReadOnly());
+        assertTrue(MapCompiler.isCompiled(template));
+        assertEquals(template, testAssets.getMapTemplate("map.txt"));
+        assertNotSame(template, testAssets.getMapTemplate("map.txt"));
+        assertEquals(1, testAssets.size());
+    }
+
+    // Tests the games loaded from a template each have their own cells.
+    @Test
+    public void testMapTemplateSharedByGames(){
+        Game first = new Game(new ConfigReader());
+        Game second = new Game(new ConfigReader());
+        first.setAssets(testAssets);
+        second.setAssets(testAssets);
+        first.setUp(0);
+        second.setUp(0);
+
+        int fruit = -1;
+        GameMap map = first.getMap();
+        for (int i = 0; i < map.getRowNum()*map.getColNum() && fruit < 0; i++){
+            if (TileType.of(map.getCell(i)) == TileType.FRUIT){
+                fruit = i;
+            }
+        }
+        map.setCell(fruit, TileType.EMPTY.getCell());
+        assertEquals(TileType.EMPTY, TileType.of(first.getMap().getCell(fruit)));
+        assertEquals(TileType.FRUIT, TileType.of(second.getMap().getCell(fruit)));
+        assertEquals(TileType.FRUIT, TileType.of(testAssets.getMapTemplate("map.txt").get(
+            MapCompiler.HEADER_SIZE + 4*(map.getCountGhost() + 1) + fruit)));
+    }
+
+    // Tests a map that cannot be played is rejected every time it is asked for.
+    @Test
+    public void testBrokenMapTemplate(){
+        assertThrows(IllegalArgumentException.class, () -> testAssets.getMapTemplate("map copy.txt"));
+        assertThrows(IllegalArgumentException.class, () -> testAssets.getMapTemplate("map copy.txt"));
+        assertEquals(0, testAssets.size());
+    }
+
+    // Tests a map is parsed again when its file changes.
+    @Test
+    public void testChangedMapTemplate(@TempDir Path folder) throws IOException{
+        Path mapFile = folder.resolve("map.txt");
+        Files.copy(Paths.get("map.txt"), mapFile);
+        Files.setLastModifiedTime(mapFile, FileTime.fromMillis(1000));
+        ByteBuffer first = testAssets.getMapTemplate(mapFile.toString());
+
+        Files.copy(Paths.get("testMap1.txt"), mapFile, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(mapFile, FileTime.fromMillis(2000));
+        ByteBuffer second = testAssets.getMapTemplate(mapFile.toString());
+        assertNotEquals(first, second);
+        assertEquals(1, testAssets.size());
+    }
+
+    // Tests the process has one cache, which games use unless they are given their own.
+    @Test
+    public void testShared(){
+        assertSame(AssetCache.shared(), AssetCache.shared());
+        assertSame(AssetCache.shared(), new Game(new ConfigReader()).getAssets());
+    }
+}
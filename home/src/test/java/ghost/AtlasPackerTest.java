@@ -0,0 +1,92 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+class AtlasPackerTest{
+    private AtlasPacker testPacker;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testPacker = new AtlasPacker();
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testPacker = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new AtlasPacker());
+        assertEquals(1, testPacker.pack().getHeight());
+        assertTrue(testPacker.getIndex().isEmpty());
+    }
+
+    // Tests every sprite of the game is in the index, and none of them overlap.
+    @Test
+    public void testPackResources() throws IOException{
+        testPacker.addDirectory(new File("src/main/resources"));
+        BufferedImage atlas = testPacker.pack();
+        List <String> index = testPacker.getIndex();
+        assertEquals(new File("src/main/resources").list((dir, name) -> name.endsWith(".png")).length, index.size());
+
+        for (int i = 0; i < index.size(); i++){
+            String[] a = index.get(i).split(" ", 5);
+            assertTrue(Integer.parseInt(a[0]) + Integer.parseInt(a[2]) <= atlas.getWidth());
+            assertTrue(Integer.parseInt(a[1]) + Integer.parseInt(a[3]) <= atlas.getHeight());
+            for (int j = i + 1; j < index.size(); j++){
+                String[] b = index.get(j).split(" ", 5);
+                boolean apart = Integer.parseInt(a[0]) + Integer.parseInt(a[2]) <= Integer.parseInt(b[0]) ||
+                                Integer.parseInt(b[0]) + Integer.parseInt(b[2]) <= Integer.parseInt(a[0]) ||
+                                Integer.parseInt(a[1]) + Integer.parseInt(a[3]) <= Integer.parseInt(b[1]) ||
+                                Integer.parseInt(b[1]) + Integer.parseInt(b[3]) <= Integer.parseInt(a[1]);
+                assertTrue(apart, a[4] + " overlaps " + b[4]);
+            }
+        }
+    }
+
+    // Tests the sprites are packed into a new shelf when a row is full.
+    @Test
+    public void testShelves(){
+        for (int i = 0; i < 10; i++){
+            testPacker.add("sprite" + i, new BufferedImage(50, 10, BufferedImage.TYPE_INT_ARGB));
+        }
+        assertEquals(21, testPacker.pack().getHeight());
+    }
+
+    // Tests a sprite wider than the atlas cannot be packed.
+    @Test
+    public void testTooWide(){
+        testPacker.add("wide", new BufferedImage(AtlasPacker.WIDTH + 1, 10, BufferedImage.TYPE_INT_ARGB));
+        assertThrows(IllegalArgumentException.class, () -> testPacker.pack());
+    }
+
+    // Tests writing the atlas and its index into a directory.
+    @Test
+    public void testWrite() throws IOException{
+        File directory = Files.createTempDirectory("atlas").toFile();
+        testPacker.addDirectory(new File("src/main/resources"));
+        testPacker.write(directory);
+
+        File image = new File(directory, SpriteAtlas.IMAGE);
+        File index = new File(directory, SpriteAtlas.INDEX);
+        assertNotNull(ImageIO.read(image));
+        assertEquals(testPacker.getIndex(), Files.readAllLines(index.toPath()));
+        image.delete();
+        index.delete();
+        directory.delete();
+    }
+}
@@ -0,0 +1,94 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+class CameraTest{
+    private Camera testCamera;
+
+    // Setting the objects, which is a view of 448x576 over a map of 100x100 Tiles of 16 pixels.
+    @BeforeEach
+    public void setUp(){
+        testCamera = new Camera(448, 576, 1600, 1600);
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testCamera = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new Camera(448, 576, 448, 576));
+        assertEquals(0, testCamera.getX());
+        assertEquals(0, testCamera.getY());
+        assertEquals(448, testCamera.getViewWidth());
+        assertEquals(576, testCamera.getViewHeight());
+    }
+
+    // Tests the view only moves when the map is larger than it.
+    @Test
+    public void testIsScrolling(){
+        assertTrue(testCamera.isScrolling());
+        assertTrue(new Camera(448, 576, 449, 576).isScrolling());
+        assertFalse(new Camera(448, 576, 448, 576).isScrolling());
+
+        Camera smallMap = new Camera(448, 576, 320, 320);
+        smallMap.follow(300, 300);
+        assertEquals(0, smallMap.getX());
+        assertEquals(0, smallMap.getY());
+    }
+
+    // Tests the view keeps the point it follows in its middle.
+    @Test
+    public void testFollow(){
+        testCamera.follow(800, 800);
+        assertEquals(800 - 224, testCamera.getX());
+        assertEquals(800 - 288, testCamera.getY());
+    }
+
+    // Tests the view does not go outside of the map.
+    @Test
+    public void testFollowEdges(){
+        testCamera.follow(8, 8);
+        assertEquals(0, testCamera.getX());
+        assertEquals(0, testCamera.getY());
+
+        testCamera.follow(1592, 1592);
+        assertEquals(1600 - 448, testCamera.getX());
+        assertEquals(1600 - 576, testCamera.getY());
+    }
+
+    // Tests the Tiles in the view, including the ones it only partly covers.
+    @Test
+    public void testVisibleTiles(){
+        testCamera.follow(800, 800);
+        assertEquals(576/16, testCamera.getFirstCol(16));
+        assertEquals((576 + 448 + 15)/16, testCamera.getEndCol(16, 100));
+        assertEquals(512/16, testCamera.getFirstRow(16));
+        assertEquals(1088/16, testCamera.getEndRow(16, 100));
+
+        testCamera.follow(803, 803);
+        assertEquals(36, testCamera.getFirstCol(16));
+        assertEquals(65, testCamera.getEndCol(16, 100));
+
+        testCamera.follow(1600, 1600);
+        assertEquals(100, testCamera.getEndCol(16, 100));
+        assertEquals(100, testCamera.getEndRow(16, 100));
+    }
+
+    // Tests a sprite can be seen when any of it is in the view.
+    @Test
+    public void testIsVisible(){
+        testCamera.follow(800, 800);
+        assertTrue(testCamera.isVisible(800, 800, 32));
+        assertTrue(testCamera.isVisible(576 - 15, 800, 32));
+        assertFalse(testCamera.isVisible(576 - 16, 800, 32));
+        assertFalse(testCamera.isVisible(800, 512 + 576 + 16, 32));
+        assertFalse(testCamera.isVisible(0, 0, 32));
+    }
+}
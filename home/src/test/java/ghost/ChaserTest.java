@@ -531,13 +531,44 @@ class ChaserTest{
         assertFalse(actual);
     }
 
-    // Tests when a space key is pressed.
+    // Tests moving and checking collision with player do not allocate on the heap.
     @Test
-    public void spacePressed(){
-        testChaser.spaceNotPressed();
-        Boolean actual = testChaser.spaceIsPressed();
-        assertFalse(actual);
+    public void moveAndCollideDoNotAllocate(){
+        Tile current = testMap.getGrid().get(21).get(1);
+        long actual = AllocationMeter.bytesPerRun(() -> {
+            testChaser.move(Direction.UP);
+            testChaser.move(Direction.DOWN);
+            testChaser.isAtMidPoint(current);
+            testChaser.isCollide();
+        }, 100000);
+        assertEquals(0L, actual);
+    }
+
+    // Tests a tick of the ghost in Scatter and Chase mode does not allocate on the heap.
+    @Test
+    public void tickDoesNotAllocate(){
+        int[] frame = {0};
+        testChaser.setTargetFrame(0);
+        long actual = AllocationMeter.bytesPerRun(() -> {
+            frame[0]++;
+            testChaser.checkMode(frame[0]);
+            testChaser.tick(frame[0]);
+        }, 100000);
+        assertEquals(0L, actual);
     }
 
+    // Tests a tick of the ghost while frightened does not allocate on the heap.
+    @Test
+    public void frightenedTickDoesNotAllocate(){
+        int[] frame = {0};
+        testChaser.setTargetFrame(0);
+        testChaser.setFrightened(true);
+        long actual = AllocationMeter.bytesPerRun(() -> {
+            frame[0]++;
+            testChaser.tick(frame[0]);
+        }, 100000);
+        assertEquals(0L, actual);
+        assertTrue(testChaser.isFrightened());
+    }
 
-}
\ No newline at end of file
+}
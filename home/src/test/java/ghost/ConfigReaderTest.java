@@ -88,6 +88,87 @@ class ConfigReaderTest{
 
     }
 
+    // Tests getting the seed from the config file.
+    @Test
+    public void parseSeed(){
+        normalconfigFile= "testConfig.json";
+        testConfig.parseJSON(normalconfigFile);
+        Long expectedSeed = 42L;
+        Long actualSeed = testConfig.getSeed();
+
+        assertEquals(expectedSeed, actualSeed);
+    }
+
+    // Tests the seed is optional in the config file.
+    @Test
+    public void parseNoSeed(){
+        testConfig.parseJSON("config.json");
+        assertNull(testConfig.getSeed());
+    }
+
+    // Tests getting whether only the changed regions are repainted from the config file.
+    @Test
+    public void parseDirtyRendering(){
+        testConfig.parseJSON("testDirtyConfig.json");
+        assertTrue(testConfig.isDirtyRendering());
+    }
+
+    // Tests the whole screen is repainted when the config file does not say otherwise.
+    @Test
+    public void parseNoDirtyRendering(){
+        testConfig.parseJSON("config.json");
+        assertFalse(testConfig.isDirtyRendering());
+    }
+
+    // Tests the game is run on the drawing thread when the config file does not ask for its own thread.
+    @Test
+    public void parseNoSimulationThread(){
+        testConfig.parseJSON("config.json");
+        assertFalse(testConfig.isSimulationThread());
+    }
+
+    // Tests the mode lengths are replaced, not added to, when the reader parses a file again.
+    @Test
+    public void parseTwice(){
+        testConfig.parseJSON("testConfig.json");
+        testConfig.parseJSON("testConfig.json");
+        assertEquals(8, testConfig.getModeLengths().size());
+    }
+
+    // Tests whether the reader has parsed a file.
+    @Test
+    public void parseIsParsed(){
+        assertFalse(testConfig.isParsed());
+        testConfig.parseJSON("testConfig.json");
+        assertTrue(testConfig.isParsed());
+        testConfig.parseJSON("notExist.json");
+        assertFalse(testConfig.isParsed());
+    }
+
+    // Tests getting the tick rate, ghost speeds and levels from the config file.
+    @Test
+    public void parseLevels(){
+        testConfig.parseJSON("testLevelsConfig.json");
+        assertEquals(Long.valueOf(30), testConfig.getTickRate());
+        assertEquals(Long.valueOf(2), testConfig.getGhostSpeeds().get("ambusher"));
+        assertEquals(2, testConfig.getLevels().size());
+
+        ConfigReader level = testConfig.getLevels().get(1);
+        assertEquals("testMap1.txt", level.getMapFile());
+        assertEquals(Long.valueOf(4), level.getGhostSpeeds().get("chaser"));
+        assertNull(level.getLives());
+        assertTrue(testConfig.getLevels().get(0).getModeLengths().isEmpty());
+    }
+
+    // Tests the tick rate, ghost speeds and levels are optional in the config file.
+    @Test
+    public void parseNoLevels(){
+        testConfig.parseJSON("config.json");
+        assertNull(testConfig.getTickRate());
+        assertTrue(testConfig.getGhostSpeeds().isEmpty());
+        assertTrue(testConfig.getLevels().isEmpty());
+    }
+
     // Tests nonexistent config file.
     @Test
     public void parseNonExistentConfigFile(){
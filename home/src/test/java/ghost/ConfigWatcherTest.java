@@ -0,0 +1,105 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+class ConfigWatcherTest{
+    @TempDir
+    Path folder;
+    private Path configFile;
+    private ConfigWatcher testWatcher;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp() throws IOException{
+        configFile = folder.resolve("config.json");
+        Files.copy(Paths.get("config.json"), configFile);
+        testWatcher = new ConfigWatcher(configFile.toString());
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testWatcher.stop();
+        testWatcher = null;
+    }
+
+    // Writes a config with some lives into the watched file.
+    private void writeLives(int lives) throws IOException{
+        String config = new String(Files.readAllBytes(Paths.get("config.json")));
+        Files.write(configFile, config.replace("\"lives\": 3", "\"lives\": " + lives).getBytes());
+    }
+
+    // Tests the constructor parses the file.
+    @Test
+    public void testConstructor(){
+        assertEquals(3, testWatcher.get().getLives());
+        assertFalse(testWatcher.isRunning());
+        assertThrows(IllegalArgumentException.class, () -> new ConfigWatcher("notExist.json"));
+    }
+
+    // Tests the same snapshot is given until the file is parsed again.
+    @Test
+    public void testGet(){
+        assertSame(testWatcher.get(), testWatcher.get());
+    }
+
+    // Tests reloading the file after it changes.
+    @Test
+    public void testReload() throws IOException{
+        GameConfig first = testWatcher.get();
+        writeLives(5);
+        assertTrue(testWatcher.reload());
+        assertEquals(5, testWatcher.get().getLives());
+        assertEquals(3, first.getLives());
+    }
+
+    // Tests the last snapshot is kept when the changed file cannot be parsed.
+    @Test
+    public void testReloadBrokenFile() throws IOException{
+        GameConfig first = testWatcher.get();
+        Files.write(configFile, "{\"map\": ".getBytes());
+        assertFalse(testWatcher.reload());
+        assertSame(first, testWatcher.get());
+
+        Files.write(configFile, "{\"map\": \"map.txt\"}".getBytes());
+        assertFalse(testWatcher.reload());
+        assertSame(first, testWatcher.get());
+    }
+
+    // Tests the file is parsed again on its own thread when it changes.
+    @Test
+    public void testWatch() throws IOException, InterruptedException{
+        testWatcher.start();
+        assertTrue(testWatcher.isRunning());
+        writeLives(4);
+
+        // The change is seen by the watching thread within a few seconds.
+        long deadline = System.currentTimeMillis() + 10000;
+        while (testWatcher.get().getLives() != 4 && System.currentTimeMillis() < deadline){
+            Thread.sleep(10);
+        }
+        assertEquals(4, testWatcher.get().getLives());
+
+        testWatcher.stop();
+        assertFalse(testWatcher.isRunning());
+    }
+
+    // Tests a game is made from the latest snapshot.
+    @Test
+    public void testNewGame() throws IOException{
+        writeLives(2);
+        testWatcher.reload();
+        Game game = new Game(testWatcher.get());
+        game.setUp(0);
+        assertEquals(Long.valueOf(2), game.getPlayer().getLivesLeft());
+    }
+}
@@ -0,0 +1,130 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import processing.core.PApplet;
+
+class DebugOverlayTest{
+    private Game testGame;
+    private Engine testEngine;
+    private DebugOverlay testOverlay;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testGame = new Game(new ConfigReader());
+        testEngine = new Engine(testGame, null);
+        testOverlay = testGame.getDebugOverlay();
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testGame = null;
+        testEngine = null;
+        testOverlay = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new DebugOverlay(testGame));
+        assertNotNull(testOverlay);
+        assertFalse(testOverlay.isEnabled());
+        assertEquals(0, testOverlay.getTickNanos(0));
+    }
+
+    // Tests the overlay is turned on and off, which is the debug mode of the game.
+    @Test
+    public void testToggle(){
+        testOverlay.toggle();
+        assertTrue(testOverlay.isEnabled());
+
+        testOverlay.toggle();
+        assertFalse(testOverlay.isEnabled());
+
+        testOverlay.setEnabled(true);
+        assertTrue(testOverlay.isEnabled());
+    }
+
+    // Tests the space key turns the overlay on and off, and other keys do not.
+    @Test
+    public void testSpaceKey(){
+        PApplet app = new PApplet();
+        app.key = ' ';
+        testGame.keyReleased(app);
+        assertTrue(testOverlay.isEnabled());
+
+        app.key = 'a';
+        testGame.keyReleased(app);
+        assertTrue(testOverlay.isEnabled());
+
+        app.key = ' ';
+        testGame.keyReleased(app);
+        assertFalse(testOverlay.isEnabled());
+    }
+
+    // Tests the ticks of the ghosts are only timed while the overlay is on.
+    @Test
+    public void testTickTimes(){
+        testEngine.run(10);
+        for (int i = 0; i < testGame.getGhosts().size(); i++){
+            assertEquals(0, testOverlay.getTickNanos(i));
+        }
+
+        testOverlay.setEnabled(true);
+        testEngine.run(10);
+        for (int i = 0; i < testGame.getGhosts().size(); i++){
+            assertTrue(testOverlay.getTickNanos(i) > 0);
+        }
+    }
+
+    // Tests the recorded tick times of ghosts.
+    @Test
+    public void testRecordTick(){
+        testOverlay.recordTick(5, 1234);
+        assertEquals(1234, testOverlay.getTickNanos(5));
+        assertEquals(0, testOverlay.getTickNanos(4));
+        testOverlay.recordTick(5, 99);
+        assertEquals(99, testOverlay.getTickNanos(5));
+    }
+
+    // Tests the planned path of a ghost goes through neighbouring Tiles that are not walls.
+    @Test
+    public void testPlanPath(){
+        Tile[] path = new Tile[DebugOverlay.PATH_LENGTH];
+        Ghost ghost = testGame.getGhosts().get(0);
+        assertEquals(0, testOverlay.planPath(ghost, path));
+
+        testEngine.run(30);
+        int count = testOverlay.planPath(ghost, path);
+        assertTrue(count > 0);
+
+        Tile previous = ghost.getCurrentTiles()[0];
+        for (int i = 0; i < count; i++){
+            assertFalse(path[i].isWall());
+            int steps = Math.abs(path[i].getRowIndex() - previous.getRowIndex()) + Math.abs(path[i].getColIndex() - previous.getColIndex());
+            assertEquals(1, steps);
+            previous = path[i];
+        }
+        assertTrue(count == DebugOverlay.PATH_LENGTH || path[count - 1] == ghost.getLastTargetTile());
+    }
+
+    // Tests the first Tile of the planned path is the Tile the ghost moves to next.
+    @Test
+    public void testPlanPathNextTile(){
+        testEngine.run(30);
+        Tile[] path = new Tile[DebugOverlay.PATH_LENGTH];
+        for (Ghost ghost : testGame.getGhosts()){
+            Tile current = ghost.getCurrentTiles()[0];
+            Tile[] currentTiles = ghost.getCurrentTiles();
+            int nextMove = ghost.getNextMove(ghost.getAvailableMoves(currentTiles), currentTiles, ghost.getLastTargetTile());
+            if (nextMove >= 0 && current != ghost.getLastTargetTile()){
+                assertTrue(testOverlay.planPath(ghost, path) > 0);
+                assertSame(currentTiles[nextMove], path[0]);
+            }
+        }
+    }
+}
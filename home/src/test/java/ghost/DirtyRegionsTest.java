@@ -0,0 +1,93 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+class DirtyRegionsTest{
+    private DirtyRegions testRegions;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testRegions = new DirtyRegions(448, 576);
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testRegions = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new DirtyRegions(448, 576));
+        assertEquals(0, testRegions.size());
+        assertEquals(0, testRegions.getArea());
+    }
+
+    // Tests rectangles that are apart are kept apart.
+    @Test
+    public void testAddApart(){
+        testRegions.add(0, 0, 32, 32);
+        testRegions.add(100, 100, 32, 32);
+        assertEquals(2, testRegions.size());
+        assertEquals(2*32*32, testRegions.getArea());
+    }
+
+    // Tests rectangles that overlap are merged into their bounding box.
+    @Test
+    public void testAddOverlapping(){
+        testRegions.add(0, 0, 32, 32);
+        testRegions.add(16, 8, 32, 32);
+        assertEquals(1, testRegions.size());
+        assertEquals(0, testRegions.getX(0));
+        assertEquals(0, testRegions.getY(0));
+        assertEquals(48, testRegions.getWidth(0));
+        assertEquals(40, testRegions.getHeight(0));
+    }
+
+    // Tests a rectangle that joins two others merges all three.
+    @Test
+    public void testAddJoining(){
+        testRegions.add(0, 0, 32, 32);
+        testRegions.add(64, 0, 32, 32);
+        testRegions.add(16, 0, 64, 32);
+        assertEquals(1, testRegions.size());
+        assertEquals(96, testRegions.getWidth(0));
+    }
+
+    // Tests rectangles are kept inside the screen, and ones outside of it are left out.
+    @Test
+    public void testAddClamped(){
+        testRegions.add(-16, 560, 32, 32);
+        testRegions.add(500, 0, 32, 32);
+        assertEquals(1, testRegions.size());
+        assertEquals(0, testRegions.getX(0));
+        assertEquals(560, testRegions.getY(0));
+        assertEquals(16, testRegions.getWidth(0));
+        assertEquals(16, testRegions.getHeight(0));
+    }
+
+    // Tests adding the whole screen.
+    @Test
+    public void testAddAll(){
+        testRegions.add(0, 0, 32, 32);
+        testRegions.addAll();
+        assertEquals(1, testRegions.size());
+        assertEquals(448*576, testRegions.getArea());
+    }
+
+    // Tests there is room for more rectangles than at the start.
+    @Test
+    public void testManyRegions(){
+        for (int i = 0; i < 50; i++){
+            testRegions.add((i % 10)*40, (i / 10)*40, 8, 8);
+        }
+        assertEquals(50, testRegions.size());
+        testRegions.clear();
+        assertEquals(0, testRegions.size());
+    }
+}
@@ -0,0 +1,197 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import processing.core.PApplet;
+import processing.core.PGraphics;
+import processing.core.PImage;
+
+class DirtyRendererTest{
+    // Sketch that counts the images and parts of images it draws, and draws nothing, so it needs no display.
+    private static class CountingApp extends PApplet{
+        private int imagesDrawn;
+        private int partsDrawn;
+
+        CountingApp(){
+            g = new PGraphics();
+            g.setParent(this);
+        }
+
+        public PGraphics createGraphics(int w, int h){
+            PGraphics layer = new PGraphics();
+            layer.setParent(this);
+            layer.setSize(w, h);
+            return layer;
+        }
+
+        public void image(PImage img, float a, float b){
+            imagesDrawn++;
+        }
+
+        public void image(PImage img, float a, float b, float c, float d, int u1, int v1, int u2, int v2){
+            partsDrawn++;
+        }
+
+        public void clip(float a, float b, float c, float d){
+        }
+
+        public void noClip(){
+        }
+
+        public void rect(float a, float b, float c, float d){
+        }
+    }
+
+    private ConfigReader testConfig;
+    private Game testGame;
+    private Engine testEngine;
+    private DirtyRenderer testRenderer;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testConfig = new ConfigReader();
+        testGame = new Game(testConfig);
+        testEngine = new Engine(testGame, null);
+        testRenderer = new DirtyRenderer(testGame);
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testConfig = null;
+        testGame = null;
+        testEngine = null;
+        testRenderer = null;
+    }
+
+    // Checks if a rectangle is inside one of the regions.
+    private boolean covers(DirtyRegions regions, int x, int y, int w, int h){
+        for (int i = 0; i < regions.size(); i++){
+            if (regions.getX(i) <= x && regions.getY(i) <= y && 
+                x + w <= regions.getX(i) + regions.getWidth(i) && y + h <= regions.getY(i) + regions.getHeight(i)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new DirtyRenderer(testGame));
+    }
+
+    // Tests the whole screen is repainted in the first frame.
+    @Test
+    public void testFirstFrame(){
+        DirtyRegions regions = testRenderer.collect();
+        assertEquals(1, regions.size());
+        assertEquals(448*576, regions.getArea());
+    }
+
+    // Tests only the creatures are repainted after a frame, where they were and where they are.
+    @Test
+    public void testCreaturesOnly(){
+        testRenderer.collect();
+        Ghost ghost = testGame.getGhosts().get(0);
+        int lastX = ghost.getPixelX();
+        int lastY = ghost.getPixelY();
+        testEngine.step();
+
+        DirtyRegions regions = testRenderer.collect();
+        assertTrue(regions.getArea() < 448*576/4);
+        assertTrue(covers(regions, lastX - 14, lastY - 14, 28, 28));
+        assertTrue(covers(regions, ghost.getPixelX() - 14, ghost.getPixelY() - 14, 28, 28));
+        Waka player = testGame.getPlayer();
+        assertTrue(covers(regions, player.getPixelX() - 12, player.getPixelY() - 13, 24, 26));
+    }
+
+    // Tests the Tile of an eaten fruit is repainted.
+    @Test
+    public void testEatenFruit(){
+        testRenderer.collect();
+        testGame.getMap().getTile(4, 1).setValue("0");
+
+        assertTrue(covers(testRenderer.collect(), 16, 64, 16, 16));
+        assertFalse(covers(testRenderer.collect(), 16, 64, 16, 16));
+    }
+
+    // Tests the lives left are repainted when a life is lost.
+    @Test
+    public void testLifeLost(){
+        testRenderer.collect();
+        Waka player = testGame.getPlayer();
+        player.loseLife();
+
+        assertTrue(covers(testRenderer.collect(), 0, player.getLivesY() - 13, 448, 26));
+    }
+
+    // Tests the whole screen is repainted again after being invalidated.
+    @Test
+    public void testInvalidate(){
+        testRenderer.collect();
+        testRenderer.invalidate();
+        assertEquals(448*576, testRenderer.collect().getArea());
+    }
+
+    // Tests the whole screen is repainted in debug mode, and in the frame after it is turned off.
+    @Test
+    public void testDebugging(){
+        testRenderer.collect();
+        testGame.getDebugOverlay().setEnabled(true);
+        assertEquals(448*576, testRenderer.collect().getArea());
+        testGame.getDebugOverlay().setEnabled(false);
+        assertEquals(448*576, testRenderer.collect().getArea());
+        assertTrue(testRenderer.collect().getArea() < 448*576);
+    }
+
+    // Tests only the parts of the layers and the creatures inside the changed regions are drawn.
+    @Test
+    public void testRenderRegions(){
+        CountingApp app = new CountingApp();
+        testGame = new Game(testConfig);
+        testGame.setAssets(new AssetCache());
+        testGame.loadSprites(app);
+        testEngine = new Engine(testGame, null);
+        testRenderer = new DirtyRenderer(testGame);
+        int creatures = testGame.getGhosts().size() + 1;
+        int lives = testGame.getPlayer().getLivesLeft().intValue();
+
+        // The whole screen is one region, in which everything is drawn once.
+        testRenderer.render(app);
+        assertEquals(2, app.partsDrawn);
+        assertEquals(creatures + lives, app.imagesDrawn);
+
+        // Each region draws only the creatures inside it, and not the lives left.
+        app.imagesDrawn = 0;
+        app.partsDrawn = 0;
+        testEngine.step();
+        testRenderer.render(app);
+        int regions = app.partsDrawn/2;
+        assertTrue(regions > 1);
+        assertTrue(app.imagesDrawn >= creatures);
+        assertTrue(app.imagesDrawn < regions*creatures);
+    }
+
+    // Tests a region away from the creatures and the lives left draws only the part of the map inside it.
+    @Test
+    public void testRenderEmptyRegion(){
+        CountingApp app = new CountingApp();
+        testGame.renderRegion(app, 1, 0, 0, 16, 16);
+        assertEquals(2, app.partsDrawn);
+        assertEquals(0, app.imagesDrawn);
+    }
+
+    // Tests the game makes a renderer only when it is asked to.
+    @Test
+    public void testGameDirtyRendering(){
+        assertFalse(testGame.isDirtyRendering());
+        assertNull(testGame.getDirtyRenderer());
+        testGame.setDirtyRendering(true);
+        assertTrue(testGame.isDirtyRendering());
+        assertNotNull(testGame.getDirtyRenderer());
+    }
+}
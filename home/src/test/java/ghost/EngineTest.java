@@ -0,0 +1,260 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+class EngineTest{
+    private ConfigReader testConfig;
+    private Game testGame;
+    private Engine testEngine;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testConfig = new ConfigReader();
+        testGame = new Game(testConfig);
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testConfig = null;
+        testGame = null;
+        testEngine = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new Engine(testGame, null));
+    }
+
+    // Tests the game is set up without a sketch.
+    @Test
+    public void testSetUpHeadless(){
+        testEngine = new Engine(testGame, null);
+        assertNotNull(testGame.getPlayer());
+        assertNotNull(testGame.getMap());
+        assertEquals(4, testGame.getGhosts().size());
+    }
+
+    // Tests stepping advances the frame counter.
+    @Test
+    public void testStep(){
+        testEngine = new Engine(testGame, null);
+        testEngine.step();
+        testEngine.step();
+        assertEquals(2, testEngine.getFrameCount());
+    }
+
+    // Tests Waka does not move without any key input.
+    @Test
+    public void testNoInput(){
+        testEngine = new Engine(testGame, null);
+        Long expected = testGame.getPlayer().getX();
+        testEngine.run(10);
+        Long actual = testGame.getPlayer().getX();
+        assertEquals(expected, actual);
+    }
+
+    // Tests Waka moves according to the key input.
+    @Test
+    public void testInput(){
+        testEngine = new Engine(testGame, frameCount -> Direction.LEFT);
+        Long start = testGame.getPlayer().getX();
+        testEngine.run(10);
+        Long expected = start - 10;
+        Long actual = testGame.getPlayer().getX();
+        assertEquals(expected, actual);
+        assertEquals(Direction.LEFT, testGame.getPlayer().getMoveDirection());
+    }
+
+    // Tests the ghosts move without a sketch.
+    @Test
+    public void testGhostsMove(){
+        testEngine = new Engine(testGame, null);
+        Ghost ghost = testGame.getGhosts().get(0);
+        Long startX = ghost.getX();
+        Long startY = ghost.getY();
+        testEngine.run(20);
+        assertFalse(startX.equals(ghost.getX()) && startY.equals(ghost.getY()));
+    }
+
+    // Tests running stops at the maximum number of frames.
+    @Test
+    public void testRun(){
+        testEngine = new Engine(testGame, frameCount -> Direction.RIGHT);
+        int actual = testEngine.run(600);
+        assertTrue(actual <= 600);
+        assertEquals(actual, testEngine.getFrameCount());
+    }
+
+    // Tests fast-forwarding goes straight to the first change of mode.
+    @Test
+    public void testSkipToNextEvent(){
+        testEngine = new Engine(testGame, null);
+        int actual = testEngine.skipToNextEvent(10000);
+        assertEquals(420, actual);
+        assertEquals(420, testEngine.getFrameCount());
+        assertEquals(Mode.CHASE, testGame.getGhosts().get(0).getMode());
+        assertEquals(420L + 20*60, testGame.getNextEventFrame());
+    }
+
+    // Tests fast-forwarding stops at the maximum number of frames.
+    @Test
+    public void testSkipToNextEventLimit(){
+        testEngine = new Engine(testGame, null);
+        int actual = testEngine.skipToNextEvent(100);
+        assertEquals(100, actual);
+        assertEquals(Mode.SCATTER, testGame.getGhosts().get(0).getMode());
+    }
+
+    // Tests fast-forwarding leaves the game the same as running over the same stretch.
+    @Test
+    public void testSkipToNextEventAgainstRun(){
+        Engine skipping = new Engine(new Game(new ConfigReader()), null);
+        Engine running = new Engine(new Game(new ConfigReader()), null);
+
+        int skipped = skipping.skipToNextEvent(10000);
+        assertEquals(skipped, running.run(skipped));
+        assertEquals(running.getFrameCount(), skipping.getFrameCount());
+        assertEquals(running.getGame().getGhosts().get(0).getMode(), skipping.getGame().getGhosts().get(0).getMode());
+        assertEquals(running.getGame().getNextEventFrame(), skipping.getGame().getNextEventFrame());
+        assertEquals(positions(running.getGame()), positions(skipping.getGame()));
+        assertEquals(running.getGame().getPlayer().getLivesLeft(), skipping.getGame().getPlayer().getLivesLeft());
+    }
+
+    // Tests a whole step of the game does not allocate on the heap, once every Tile and its neighbours have been made.
+    @Test
+    public void stepDoesNotAllocate(){
+        testEngine = new Engine(testGame, frameCount -> frameCount % 97 == 0 ? Direction.of(1 + (frameCount/97) % 4) : null);
+        GameMap map = testGame.getMap();
+        for (int i = 0; i < map.getRowNum(); i++){
+            for (int j = 0; j < map.getColNum(); j++){
+                map.getTile(i, j).getNeighbours();
+            }
+        }
+
+        long actual = AllocationMeter.bytesPerRun(testEngine::step, 2000);
+        assertEquals(0L, actual);
+    }
+
+    // Runs a new game for a number of frames and returns the positions of its creatures.
+    private List<Long> runGame(int frames){
+        Engine engine = new Engine(new Game(new ConfigReader()), null);
+        engine.run(frames);
+        return positions(engine.getGame());
+    }
+
+    // Returns the positions of the player and ghosts of a game.
+    private List<Long> positions(Game game){
+        List<Long> positions = new ArrayList<Long>();
+        positions.add(game.getPlayer().getX());
+        positions.add(game.getPlayer().getY());
+        for (Ghost ghost : game.getGhosts()){
+            positions.add(ghost.getX());
+            positions.add(ghost.getY());
+        }
+        return positions;
+    }
+
+    // Runs a game with a seed where Waka eats the superfruit next to it, and returns the positions of its creatures.
+    private List<Long> runSeededGame(long seed, int frames){
+        Game game = new Game(new ConfigReader());
+        game.setSeed(seed);
+        Engine engine = new Engine(game, frameCount -> frameCount < 100 ? Direction.RIGHT : Direction.LEFT);
+        engine.run(100);
+        assertTrue(game.getGhostState().isFrightened());
+        engine.run(frames - 100);
+        return positions(game);
+    }
+
+    // Tests games with the same seed move their frightened ghosts the same way.
+    @Test
+    public void testSameSeed(){
+        assertEquals(runSeededGame(7L, 400), runSeededGame(7L, 400));
+    }
+
+    // Tests games with different seeds move their frightened ghosts differently.
+    @Test
+    public void testDifferentSeed(){
+        assertNotEquals(runSeededGame(7L, 400), runSeededGame(8L, 400));
+    }
+
+    // Tests the seed of the game is kept so that it can be played again.
+    @Test
+    public void testGetSeed(){
+        testGame.setSeed(7L);
+        assertEquals(7L, testGame.getSeed());
+    }
+
+    // Tests two games stepped in turns end up the same as a game run on its own.
+    @Test
+    public void testGamesDoNotInterfere(){
+        List<Long> expected = runGame(900);
+
+        Engine first = new Engine(new Game(new ConfigReader()), null);
+        Engine second = new Engine(new Game(new ConfigReader()), null);
+        for (int i = 0; i < 900; i++){
+            first.step();
+            second.step();
+        }
+        assertEquals(expected, positions(first.getGame()));
+        assertEquals(expected, positions(second.getGame()));
+        assertNotSame(first.getGame().getGhostState(), second.getGame().getGhostState());
+
+        first.getGame().getGhosts().get(0).setFrightened(true);
+        assertFalse(second.getGame().getGhosts().get(0).isFrightened());
+    }
+
+    // Tests many games run on a thread pool end up the same as a game run on its own.
+    @Test
+    public void testGamesOnThreadPool() throws Exception{
+        List<Long> expected = runGame(900);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<List<Long>>> results = new ArrayList<Future<List<Long>>>();
+        for (int i = 0; i < 8; i++){
+            results.add(pool.submit(() -> runGame(900)));
+        }
+        for (Future<List<Long>> result : results){
+            assertEquals(expected, result.get());
+        }
+        pool.shutdown();
+    }
+
+    // Tests the creatures are drawn between where they were before the last step and where they are now.
+    @Test
+    public void testInterpolatedPosition(){
+        testEngine = new Engine(testGame, null);
+        Ghost ghost = testGame.getGhosts().get(0);
+        testEngine.step();
+        int beforeX = ghost.getPixelX();
+        int beforeY = ghost.getPixelY();
+        testEngine.step();
+        int afterX = ghost.getPixelX();
+        int afterY = ghost.getPixelY();
+
+        assertNotEquals(beforeX + beforeY*1000, afterX + afterY*1000);
+        assertEquals(beforeX, ghost.getDrawX(0), 0.001f);
+        assertEquals(beforeY, ghost.getDrawY(0), 0.001f);
+        assertEquals(afterX, ghost.getDrawX(1), 0.001f);
+        assertEquals(afterY, ghost.getDrawY(1), 0.001f);
+        assertEquals((beforeX + afterX)/2f, ghost.getDrawX(0.5f), 0.001f);
+        assertEquals((beforeY + afterY)/2f, ghost.getDrawY(0.5f), 0.001f);
+    }
+
+    // Tests a creature that is moved to a position is not drawn sliding there.
+    @Test
+    public void testSetLocationNotInterpolated(){
+        testEngine = new Engine(testGame, null);
+        Waka player = testGame.getPlayer();
+        player.setLocation(100L, 200L);
+        assertEquals(100f, player.getDrawX(0));
+        assertEquals(200f, player.getDrawY(0));
+    }
+}
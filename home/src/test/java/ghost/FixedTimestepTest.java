@@ -0,0 +1,96 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+class FixedTimestepTest{
+    private FixedTimestep testTimestep;
+    private static final long TICK = 1000000000L/60;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testTimestep = new FixedTimestep(60);
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testTimestep = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new FixedTimestep(60, 5));
+        assertEquals(60, testTimestep.getTickRate());
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0));
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(60, 0));
+    }
+
+    // Tests the first frame only starts the clock.
+    @Test
+    public void testFirstFrame(){
+        assertEquals(0, testTimestep.advance(123456789L));
+        assertEquals(0f, testTimestep.getAlpha());
+    }
+
+    // Tests a tick is run every frame when the frames are drawn at the tick rate.
+    @Test
+    public void testSteadyFrames(){
+        long now = 0;
+        testTimestep.advance(now);
+        int ticks = 0;
+        for (int i = 0; i < 600; i++){
+            now += 1000000000L/60;
+            ticks += testTimestep.advance(now);
+        }
+        assertEquals(599, ticks);
+        assertEquals(600, ticks + (int) (testTimestep.getAlpha() + 0.5f));
+    }
+
+    // Tests the game runs at the same speed when the frames are drawn slower or faster than the tick rate.
+    @Test
+    public void testSameSpeed(){
+        int slow = 0;
+        testTimestep.advance(0);
+        for (int i = 1; i <= 20; i++){
+            slow += testTimestep.advance(i*50000000L);
+        }
+
+        FixedTimestep fast = new FixedTimestep(60);
+        int quick = 0;
+        fast.advance(0);
+        for (int i = 1; i <= 250; i++){
+            quick += fast.advance(i*4000000L);
+        }
+        assertEquals(60, slow);
+        assertEquals(60, quick);
+    }
+
+    // Tests the ticks of dropped frames are caught up in the next frame.
+    @Test
+    public void testCatchUp(){
+        testTimestep.advance(0);
+        assertEquals(4, testTimestep.advance(4*TICK + TICK/2));
+        assertEquals(0.5f, testTimestep.getAlpha(), 0.01f);
+    }
+
+    // Tests the ticks after a long stall are dropped instead of caught up.
+    @Test
+    public void testMaxCatchUp(){
+        testTimestep.advance(0);
+        assertEquals(FixedTimestep.MAX_CATCH_UP, testTimestep.advance(100*TICK));
+        assertEquals(1, testTimestep.advance(101*TICK + 1));
+    }
+
+    // Tests time going backwards does not run any ticks.
+    @Test
+    public void testTimeBackwards(){
+        testTimestep.advance(10*TICK);
+        assertEquals(0, testTimestep.advance(0));
+        assertEquals(1, testTimestep.advance(TICK + 1));
+    }
+}
@@ -0,0 +1,94 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+class FrameExporterTest{
+    private static FrameRasterizer rasterizer;
+    private File testDirectory;
+    private FrameExporter testExporter;
+
+    // Loads the sprites once for all the tests.
+    @BeforeAll
+    public static void loadSprites() throws IOException{
+        rasterizer = new FrameRasterizer(SpriteAtlas.fromDirectory(new File("src/main/resources")), 448, 576);
+    }
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp() throws IOException{
+        testDirectory = Files.createTempDirectory("frames").toFile();
+        testExporter = new FrameExporter(rasterizer, testDirectory, 4);
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testExporter.close();
+        for (File file : testDirectory.listFiles()){
+            file.delete();
+        }
+        testDirectory.delete();
+        testExporter = null;
+        testDirectory = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(testExporter);
+        assertEquals(new File(testDirectory, "frame-000012.png"), testExporter.getFile(12));
+    }
+
+    // Tests every frame of a game is written into its own png file, in order.
+    @Test
+    public void testExport() throws Exception{
+        Engine engine = new Engine(new Game(new ConfigReader()), null);
+        List <File> files = testExporter.export(engine, 40, 1);
+
+        assertEquals(41, files.size());
+        for (int i = 0; i < files.size(); i++){
+            assertEquals(testExporter.getFile(i), files.get(i));
+            assertTrue(files.get(i).isFile());
+        }
+    }
+
+    // Tests only every few frames are written when asked.
+    @Test
+    public void testExportEvery() throws Exception{
+        Engine engine = new Engine(new Game(new ConfigReader()), null);
+        List <File> files = testExporter.export(engine, 40, 10);
+        assertEquals(5, files.size());
+        assertEquals(testExporter.getFile(40), files.get(4));
+    }
+
+    // Tests the frames written by the thread pool are the same as frames drawn in order on one thread.
+    @Test
+    public void testSameAsSequential() throws Exception{
+        Game game = new Game(new ConfigReader());
+        game.setSeed(7L);
+        Engine engine = new Engine(game, null);
+        List <File> files = testExporter.export(engine, 30, 1);
+
+        Game sequential = new Game(new ConfigReader());
+        sequential.setSeed(7L);
+        Engine sequentialEngine = new Engine(sequential, null);
+        for (int frame = 0; frame <= 30; frame++){
+            if (frame > 0){
+                sequentialEngine.step();
+            }
+            int[] expected = rasterizer.rasterize(new WorldSnapshot(sequential, frame));
+            BufferedImage actual = ImageIO.read(files.get(frame));
+            assertArrayEquals(expected, actual.getRGB(0, 0, 448, 576, null, 0, 448), "frame " + frame);
+        }
+    }
+}
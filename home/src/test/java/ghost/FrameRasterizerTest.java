@@ -0,0 +1,142 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+class FrameRasterizerTest{
+    private static SpriteAtlas atlas;
+    private FrameRasterizer testRasterizer;
+    private Game testGame;
+
+    // Loads the sprites once for all the tests.
+    @BeforeAll
+    public static void loadSprites() throws IOException{
+        atlas = SpriteAtlas.fromDirectory(new File("src/main/resources"));
+    }
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testRasterizer = new FrameRasterizer(atlas, 448, 576);
+        testGame = new Game(new ConfigReader());
+        new Engine(testGame, null);
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testRasterizer = null;
+        testGame = null;
+    }
+
+    // Checks if the pixels of a sprite are drawn centred on a point.
+    private void assertSpriteAt(int[] pixels, String name, int centreX, int centreY){
+        processing.core.PImage sprite = atlas.get(name);
+        int left = centreX - sprite.width/2;
+        int top = centreY - sprite.height/2;
+        for (int y = 0; y < sprite.height; y++){
+            for (int x = 0; x < sprite.width; x++){
+                int source = sprite.pixels[y*sprite.width + x];
+                if ((source >>> 24) == 255){
+                    assertEquals(source, pixels[(top + y)*448 + left + x], name + " at " + x + ", " + y);
+                }
+            }
+        }
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new FrameRasterizer(atlas, 10, 10));
+        assertEquals(448, testRasterizer.getWidth());
+        assertEquals(576, testRasterizer.getHeight());
+    }
+
+    // Tests the walls, fruits, Waka and the ghosts are drawn where the game draws them.
+    @Test
+    public void testRasterize(){
+        WorldSnapshot snapshot = new WorldSnapshot(testGame, 0);
+        int[] pixels = testRasterizer.rasterize(snapshot);
+
+        // The top left corner of map.txt is a wall, and the Tile under it a fruit.
+        TileType corner = TileType.of(snapshot.getCell(3*snapshot.getColNum()));
+        assertEquals(TileType.DOWN_RIGHT, corner);
+        assertSpriteAt(pixels, "downRight", 8, 3*16 + 8);
+        assertSpriteAt(pixels, "fruit", 16 + 8, 4*16 + 8);
+
+        assertEquals(Direction.RIGHT, snapshot.getPlayerFace());
+        assertSpriteAt(pixels, "playerRight", snapshot.getPlayerX(), snapshot.getPlayerY());
+        String[] names = {"ambusher", "chaser", "ignorant", "whim"};
+        for (int i = 0; i < snapshot.getGhostCount(); i++){
+            String name = names["aciw".indexOf(snapshot.getGhostType(i))];
+            assertSpriteAt(pixels, name, snapshot.getGhostX(i), snapshot.getGhostY(i));
+        }
+    }
+
+    // Tests the ghosts are drawn frightened, and invisible ghosts are not drawn.
+    @Test
+    public void testFrightenedAndInvisible(){
+        testGame.getGhostState().setFrightened(true);
+        testGame.getGhosts().get(1).setInvisibility(true);
+        WorldSnapshot snapshot = new WorldSnapshot(testGame, 0);
+        int[] pixels = testRasterizer.rasterize(snapshot);
+
+        assertSpriteAt(pixels, "frightened", snapshot.getGhostX(0), snapshot.getGhostY(0));
+        int invisible = snapshot.getGhostY(1)*448 + snapshot.getGhostX(1);
+        assertEquals(0xFF000000, pixels[invisible]);
+    }
+
+    // Tests the lives left are drawn at the bottom of the map.
+    @Test
+    public void testLives(){
+        WorldSnapshot snapshot = new WorldSnapshot(testGame, 0);
+        int[] pixels = testRasterizer.rasterize(snapshot);
+        for (int i = 0; i < 3; i++){
+            assertSpriteAt(pixels, "playerRight", 16 + 26*i, snapshot.getLivesY());
+        }
+    }
+
+    // Tests a buffer of the wrong size is not drawn into.
+    @Test
+    public void testWrongBuffer(){
+        WorldSnapshot snapshot = new WorldSnapshot(testGame, 0);
+        assertThrows(IllegalArgumentException.class, () -> testRasterizer.rasterize(snapshot, new int[10]));
+    }
+
+    // Tests the frame is the same as an image.
+    @Test
+    public void testToImage(){
+        WorldSnapshot snapshot = new WorldSnapshot(testGame, 0);
+        BufferedImage image = testRasterizer.toImage(snapshot);
+        int[] pixels = testRasterizer.rasterize(snapshot);
+        assertEquals(448, image.getWidth());
+        assertEquals(576, image.getHeight());
+        assertEquals(pixels[100*448 + 100], image.getRGB(100, 100));
+    }
+
+    // Tests a frame smaller than the map shows the part of the map around Waka, the same as the whole frame does.
+    @Test
+    public void testScrollingView(){
+        WorldSnapshot snapshot = new WorldSnapshot(testGame, 0);
+        int[] whole = testRasterizer.rasterize(snapshot);
+        FrameRasterizer smallRasterizer = new FrameRasterizer(atlas, 224, 288);
+        int[] view = smallRasterizer.rasterize(snapshot);
+
+        Camera camera = new Camera(224, 288, 448, 576);
+        camera.follow(snapshot.getPlayerX(), snapshot.getPlayerY());
+        assertTrue(camera.isScrolling());
+
+        // The rows above the lives left, which are drawn at the bottom of the smaller frame.
+        for (int y = 0; y < 288 - 48; y++){
+            for (int x = 0; x < 224; x++){
+                assertEquals(whole[(y + camera.getY())*448 + x + camera.getX()], view[y*224 + x], x + ", " + y);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+
+class GameConfigTest{
+    private GameConfig testConfig;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testConfig = GameConfig.load("testConfig.json");
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testConfig = null;
+    }
+
+    // Makes a reader with the values a game needs.
+    private ConfigReader reader(){
+        ConfigReader reader = new ConfigReader();
+        reader.parseJSON("config.json");
+        return reader;
+    }
+
+    // Tests the constructor copies the values of the reader.
+    @Test
+    public void testConstructor(){
+        GameConfig config = new GameConfig(reader());
+
+        assertEquals("map.txt", config.getMapFile());
+        assertEquals(3, config.getLives());
+        assertEquals(1, config.getSpeed());
+        assertEquals(7, config.getFrightenedLength());
+        assertArrayEquals(new long[] {7, 20, 7, 20, 5, 20, 5, 1000}, config.getModeLengths());
+        assertFalse(config.hasSeed());
+        assertFalse(config.isDirtyRendering());
+        assertFalse(config.isSimulationThread());
+        assertEquals(ModeScheduler.FRAMES_PER_SECOND, config.getTickRate());
+        assertEquals(1, config.getLevelCount());
+        assertSame(config, config.getLevel(0));
+    }
+
+    // Tests loading a config file.
+    @Test
+    public void testLoad(){
+        assertEquals("testMap1.txt", testConfig.getMapFile());
+        assertEquals(3, testConfig.getLives());
+        assertEquals(2, testConfig.getSpeed());
+        assertEquals(5, testConfig.getFrightenedLength());
+        assertEquals(8, testConfig.getModeCount());
+        assertEquals(10, testConfig.getModeLength(1));
+        assertTrue(testConfig.hasSeed());
+        assertEquals(42, testConfig.getSeed());
+        assertFalse(testConfig.isDirtyRendering());
+    }
+
+    // Tests loading a config file that repaints only the regions of the screen that have changed.
+    @Test
+    public void testLoadDirtyRendering(){
+        GameConfig config = GameConfig.load("testDirtyConfig.json");
+        assertTrue(config.isDirtyRendering());
+        assertTrue(config.getLevel(0).isDirtyRendering());
+    }
+
+    // Tests a config file that does not exist cannot be loaded.
+    @Test
+    public void testLoadNonExistentFile(){
+        assertThrows(IllegalArgumentException.class, () -> GameConfig.load("notExist.json"));
+    }
+
+    // Tests the snapshot does not change when the reader parses another file, or its mode lengths are changed.
+    @Test
+    public void testSnapshot(){
+        ConfigReader reader = new ConfigReader();
+        reader.parseJSON("testConfig.json");
+        GameConfig config = new GameConfig(reader);
+        reader.parseJSON("config.json");
+
+        assertEquals("testMap1.txt", config.getMapFile());
+        config.getModeLengths()[0] = 100;
+        assertEquals(7, config.getModeLength(0));
+    }
+
+    // Tests a reader that has not parsed a file cannot be made into a config.
+    @Test
+    public void testNotSet(){
+        assertThrows(IllegalArgumentException.class, () -> new GameConfig(new ConfigReader()));
+    }
+
+    // Tests values that cannot be played are rejected.
+    @Test
+    public void testInvalidValues(){
+        GameConfig valid = new GameConfig(reader());
+        assertNotNull(valid);
+
+        ConfigReader reader = reader();
+        reader.getModeLengths().set(0, 0L);
+        assertThrows(IllegalArgumentException.class, () -> new GameConfig(reader));
+
+        reader.getModeLengths().clear();
+        assertThrows(IllegalArgumentException.class, () -> new GameConfig(reader));
+    }
+
+    // Tests speeds that do not divide the size of the Tiles are rejected, since Waka would never stop in the middle of a Tile.
+    @Test
+    public void testInvalidSpeed(){
+        for (long speed : new long[] {1, 2, 4, 8, 16}){
+            ConfigReader reader = reader();
+            reader.getGhostSpeeds().put("whim", speed);
+            assertEquals(speed, new GameConfig(reader).getGhostSpeed("w"));
+        }
+        for (long speed : new long[] {0, 3, 5, 32}){
+            ConfigReader reader = reader();
+            reader.getGhostSpeeds().put("whim", speed);
+            assertThrows(IllegalArgumentException.class, () -> new GameConfig(reader));
+        }
+    }
+
+    // Tests speeds of things that are not ghosts are rejected.
+    @Test
+    public void testInvalidGhostName(){
+        ConfigReader reader = reader();
+        reader.getGhostSpeeds().put("waka", 2L);
+        assertThrows(IllegalArgumentException.class, () -> new GameConfig(reader));
+    }
+
+    // Tests the ghosts without their own speed move at the speed of the game.
+    @Test
+    public void testGhostSpeeds(){
+        GameConfig config = GameConfig.load("testLevelsConfig.json");
+        assertEquals(30, config.getTickRate());
+        assertEquals(2, config.getGhostSpeed("a"));
+        assertEquals(1, config.getGhostSpeed("c"));
+        assertEquals(1, config.getGhostSpeed("i"));
+        assertEquals(1, config.getGhostSpeed("w"));
+        assertEquals(1, config.getSpeed());
+    }
+
+    // Tests each level has the values it changes, and the values of the config it does not.
+    @Test
+    public void testLevels(){
+        GameConfig config = GameConfig.load("testLevelsConfig.json");
+        assertEquals(2, config.getLevelCount());
+
+        GameConfig first = config.getLevel(0);
+        assertEquals("map.txt", first.getMapFile());
+        assertEquals(1, first.getSpeed());
+        assertEquals(7, first.getFrightenedLength());
+        assertArrayEquals(new long[] {7, 20}, first.getModeLengths());
+
+        GameConfig second = config.getLevel(1);
+        assertEquals("testMap1.txt", second.getMapFile());
+        assertEquals(2, second.getSpeed());
+        assertEquals(3, second.getFrightenedLength());
+        assertArrayEquals(new long[] {5, 25}, second.getModeLengths());
+        assertEquals(2, second.getGhostSpeed("a"));
+        assertEquals(4, second.getGhostSpeed("c"));
+        assertEquals(2, second.getGhostSpeed("i"));
+
+        // The values every level shares.
+        assertEquals(3, second.getLives());
+        assertEquals(30, second.getTickRate());
+        assertEquals(1, second.getLevelCount());
+
+        // The levels after the last one are the last one.
+        assertSame(second, config.getLevel(5));
+    }
+
+    // Tests a level that cannot be played is rejected when the config is loaded.
+    @Test
+    public void testInvalidLevel(){
+        ConfigReader reader = new ConfigReader();
+        reader.parseJSON("testLevelsConfig.json");
+        reader.getLevels().get(1).getGhostSpeeds().put("chaser", 3L);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new GameConfig(reader));
+        assertTrue(e.getMessage().startsWith("Level 2"));
+    }
+}
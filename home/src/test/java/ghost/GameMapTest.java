@@ -3,12 +3,31 @@ package ghost;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.*;
+import processing.core.PApplet;
+import processing.core.PGraphics;
+import processing.core.PImage;
 
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.io.FileNotFoundException;
 
 class GameMapTest{
+    // Sketch that counts the images it draws, and draws nothing, so it needs no display.
+    private static class CountingApp extends PApplet{
+        private int imagesDrawn;
+
+        CountingApp(){
+            g = new PGraphics();
+            g.setParent(this);
+        }
+
+        public void image(PImage img, float a, float b){
+            imagesDrawn++;
+        }
+    }
+
     private GameMap testMap;
     private String normalMap;
     private String nonExistentMap;
@@ -238,4 +257,366 @@ class GameMapTest{
         assertEquals(expected, actual);
     }
 
-}
\ No newline at end of file
+    // Tests getting a tile by its row and column.
+    @Test
+    public void testGetTile(){
+        normalMap = "testMap1.txt";
+        testMap.parseMap(normalMap);
+        Tile expected = testMap.getGrid().get(21).get(1);
+        Tile actual = testMap.getTile(21, 1);
+
+        assertEquals(expected, actual);
+    }
+
+    // Tests getting the tile that contains a position in pixels.
+    @Test
+    public void testGetTileAt(){
+        normalMap = "testMap1.txt";
+        testMap.parseMap(normalMap);
+
+        assertEquals(testMap.getGrid().get(21).get(1), testMap.getTileAt(24, 344));
+        assertEquals(testMap.getGrid().get(21).get(1), testMap.getTileAt(32, 352));
+        assertEquals(testMap.getGrid().get(22).get(2), testMap.getTileAt(33, 353));
+    }
+
+    // Tests the precomputed surrounding tiles of a tile.
+    @Test
+    public void testNeighbours(){
+        normalMap = "testMap1.txt";
+        testMap.parseMap(normalMap);
+        Tile[] actual = testMap.getTile(21, 1).getNeighbours();
+
+        assertEquals(testMap.getGrid().get(21).get(1), actual[0]);
+        assertEquals(testMap.getGrid().get(20).get(1), actual[Direction.UP.getValue()]);
+        assertEquals(testMap.getGrid().get(22).get(1), actual[Direction.DOWN.getValue()]);
+        assertEquals(testMap.getGrid().get(21).get(0), actual[Direction.LEFT.getValue()]);
+        assertEquals(testMap.getGrid().get(21).get(2), actual[Direction.RIGHT.getValue()]);
+    }
+
+    // Tests the surrounding tiles outside of the map are null.
+    @Test
+    public void testNeighboursOnBorder(){
+        normalMap = "testMap1.txt";
+        testMap.parseMap(normalMap);
+        Tile[] actual = testMap.getTopLeftCorner().getNeighbours();
+
+        assertNull(actual[Direction.UP.getValue()]);
+        assertNull(actual[Direction.LEFT.getValue()]);
+        assertEquals(testMap.getGrid().get(1).get(0), actual[Direction.DOWN.getValue()]);
+        assertEquals(testMap.getGrid().get(0).get(1), actual[Direction.RIGHT.getValue()]);
+    }
+
+    // Tests the cells of the grid are stored one byte per cell, indexed by row and column.
+    @Test
+    public void testGetCell(){
+        normalMap = "testMap1.txt";
+        testMap.parseMap(normalMap);
+        int cols = testMap.getColNum();
+
+        assertEquals(TileType.HORIZONTAL, TileType.of(testMap.getCell(18*cols + 1)));
+        assertTrue(testMap.isWall(18*cols + 1));
+        assertFalse(testMap.isWall(17*cols + 2));
+        assertEquals(TileType.FRUIT, testMap.getTile(17, 2).getType());
+    }
+
+    // Tests the layers do not need to be redrawn after parsing.
+    @Test
+    public void testLayersUnchanged(){
+        testMap.parseMap("testMap1.txt");
+        assertFalse(testMap.hasFruitsChanged());
+        assertFalse(testMap.hasWallsChanged());
+    }
+
+    // Tests eating a fruit changes the layer of the fruits only.
+    @Test
+    public void testFruitsChanged(){
+        testMap.parseMap("testMap1.txt");
+        testMap.getTile(17, 2).setValue("0");
+        assertTrue(testMap.hasFruitsChanged());
+        assertFalse(testMap.hasWallsChanged());
+    }
+
+    // Tests the superfruit effect being used up does not change how the map is drawn.
+    @Test
+    public void testSuperfruitFlagUnchanged(){
+        testMap.parseMap("testMap1.txt");
+        testMap.getTile(17, 2).setAsSuper(true);
+        testMap.getTile(17, 2).setAsSuper(false);
+        assertFalse(testMap.hasFruitsChanged());
+    }
+
+    // Tests changing a wall changes the layer of the walls only.
+    @Test
+    public void testWallsChanged(){
+        testMap.parseMap("testMap1.txt");
+        testMap.getTile(18, 1).setValue("2");
+        assertTrue(testMap.hasWallsChanged());
+        assertFalse(testMap.hasFruitsChanged());
+    }
+
+    // Tests the cells whose type changes are recorded until they are cleared.
+    @Test
+    public void testChangedCells(){
+        testMap.parseMap("testMap1.txt");
+        assertEquals(0, testMap.getChangedCellCount());
+        testMap.getTile(17, 2).setValue("0");
+        testMap.getTile(17, 2).setAsSuper(true);
+        assertEquals(1, testMap.getChangedCellCount());
+        assertEquals(17*testMap.getColNum() + 2, testMap.getChangedCell(0));
+        testMap.clearChangedCells();
+        assertEquals(0, testMap.getChangedCellCount());
+    }
+
+    // Tests a tile is a view over the cell of the grid.
+    @Test
+    public void testTileIsView(){
+        normalMap = "testMap1.txt";
+        testMap.parseMap(normalMap);
+        int cols = testMap.getColNum();
+        Tile tile = testMap.getTile(17, 2);
+        tile.setValue("0");
+
+        assertEquals(TileType.EMPTY, TileType.of(testMap.getCell(17*cols + 2)));
+        assertSame(tile, testMap.getGrid().get(17).get(2));
+    }
+
+    // Tests getting a tile outside of the map.
+    @Test
+    public void testGetTileOutside(){
+        normalMap = "testMap1.txt";
+        testMap.parseMap(normalMap);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> testMap.getTile(0, testMap.getColNum()));
+        assertThrows(IndexOutOfBoundsException.class, () -> testMap.getTile(-1, 0));
+    }
+
+    // Tests only the walls and fruits a camera can see are drawn.
+    @Test
+    public void testDrawView(){
+        HashMap <String, PImage> sprites = new HashMap <String, PImage>();
+        for (int i = 1; i <= 8; i++){
+            sprites.put(String.valueOf(i), new PImage(16, 16, PApplet.ARGB));
+        }
+        testMap = new GameMap(sprites);
+        testMap.parseMap("map.txt");
+
+        Camera camera = new Camera(64, 64, testMap.getColNum()*16, testMap.getGridHeight().intValue());
+        camera.follow(100, 100);
+        int expected = 0;
+        for (int i = camera.getFirstRow(16); i < camera.getEndRow(16, testMap.getRowNum()); i++){
+            for (int j = camera.getFirstCol(16); j < camera.getEndCol(16, testMap.getColNum()); j++){
+                int cell = testMap.getCell(i*testMap.getColNum() + j);
+                if ((cell & (TileType.WALL_FLAG | TileType.FRUIT_FLAG)) != 0){
+                    expected++;
+                }
+            }
+        }
+
+        CountingApp app = new CountingApp();
+        testMap.draw(app, camera);
+        assertTrue(expected > 0);
+        assertTrue(expected <= 25);
+        assertEquals(expected, app.imagesDrawn);
+    }
+
+    // Tests the copy of the cells is shared until a cell changes, and is not changed with the grid.
+    @Test
+    public void testCellsCopy(){
+        testMap.parseMap("map.txt");
+        byte[] copy = testMap.getCellsCopy();
+        assertEquals(testMap.getRowNum()*testMap.getColNum(), copy.length);
+        assertEquals(testMap.getCell(4*testMap.getColNum() + 1), copy[4*testMap.getColNum() + 1]);
+        assertSame(copy, testMap.getCellsCopy());
+
+        byte cell = copy[4*testMap.getColNum() + 1];
+        testMap.getTile(4, 1).setValue("0");
+        assertEquals(cell, copy[4*testMap.getColNum() + 1]);
+        assertNotSame(copy, testMap.getCellsCopy());
+        assertEquals(testMap.getCell(4*testMap.getColNum() + 1), testMap.getCellsCopy()[4*testMap.getColNum() + 1]);
+    }
+
+    // Tests lines ending with \r\n are parsed the same as lines ending with \n.
+    @Test
+    public void parseWindowsLineEndings(){
+        GameMap unixMap = new GameMap();
+        unixMap.parseMap(ByteBuffer.wrap("1111\n7p 7\n2a82\n".getBytes(StandardCharsets.US_ASCII)));
+        testMap.parseMap(ByteBuffer.wrap("1111\r\n7p 7\r\n2a82\r\n".getBytes(StandardCharsets.US_ASCII)));
+
+        assertEquals(3, testMap.getRowNum());
+        assertEquals(4, testMap.getColNum());
+        for (int i = 0; i < 12; i++){
+            assertEquals(unixMap.getCell(i), testMap.getCell(i));
+        }
+        assertEquals(unixMap.getWakaStart(), testMap.getWakaStart());
+        assertEquals(unixMap.getGhostStart("a"), testMap.getGhostStart("a"));
+        assertEquals(3, testMap.getTotalFruitCount());
+    }
+
+    // Tests the blank lines at the end of a file are left out, but not the ones before the last row.
+    @Test
+    public void parseBlankLines(){
+        testMap.parseMap(ByteBuffer.wrap("\n11\n\n22\n\n  \n\n".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(4, testMap.getRowNum());
+        assertEquals(2, testMap.getColNum());
+        assertTrue(testMap.isWall(0));
+        assertEquals("1", testMap.getTile(1, 1).getValue());
+        assertEquals("2", testMap.getTile(3, 0).getValue());
+    }
+
+    // Tests a file without a line ending at its end, and an empty file.
+    @Test
+    public void parseNoLastLineEnding(){
+        testMap.parseMap(ByteBuffer.wrap("11\n2".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(2, testMap.getRowNum());
+        assertEquals(2, testMap.getColNum());
+        assertTrue(testMap.isWall(3));
+
+        GameMap emptyMap = new GameMap();
+        emptyMap.parseMap(ByteBuffer.allocate(0));
+        assertEquals(0, emptyMap.getRowNum());
+        assertEquals(0, emptyMap.getColNum());
+    }
+
+    // Tests the open moves of the cells to their neighbours that are not walls, and the junctions.
+    @Test
+    public void testOpenMoves(){
+        testMap.parseMap(ByteBuffer.wrap("1111\n1771\n1777\n1171\n".getBytes(StandardCharsets.US_ASCII)));
+        int up = 1 << Direction.UP.getValue();
+        int down = 1 << Direction.DOWN.getValue();
+        int left = 1 << Direction.LEFT.getValue();
+        int right = 1 << Direction.RIGHT.getValue();
+
+        assertEquals(down | right, testMap.getOpenMoves(5));
+        assertEquals(up | down | left | right | GameMap.JUNCTION_FLAG, testMap.getOpenMoves(10));
+        assertTrue(testMap.isJunction(10));
+        assertFalse(testMap.isJunction(5));
+        assertEquals(left, testMap.getOpenMoves(11));
+        assertEquals(up, testMap.getOpenMoves(14));
+        assertEquals(down | left, testMap.getOpenMoves(6));
+
+        // The open moves of the neighbours change when a wall is added.
+        testMap.setCell(10, TileType.HORIZONTAL.getCell());
+        assertEquals(left, testMap.getOpenMoves(6));
+        assertEquals(0, testMap.getOpenMoves(11));
+    }
+
+    // Parses a map from its lines.
+    private void parseLines(String... lines){
+        testMap = new GameMap();
+        testMap.parseMap(ByteBuffer.wrap((String.join("\n", lines) + "\n").getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    // Tests the maps of the game are valid, and a map with a fruit that cannot be reached is not.
+    @Test
+    public void testValidateMapFiles(){
+        testMap.parseMap("map.txt");
+        MapReport report = testMap.validate();
+        assertTrue(report.isValid());
+        assertTrue(report.getWarnings().isEmpty());
+        assertTrue(report.getReachableCount() > 0);
+
+        GameMap brokenMap = new GameMap();
+        brokenMap.parseMap("map copy.txt");
+        assertFalse(brokenMap.validate().isValid());
+    }
+
+    // Tests a small map that can be played, with its dead ends.
+    @Test
+    public void testValidate(){
+        parseLines("61114",
+                   "2p772",
+                   "27112",
+                   "2c7a2",
+                   "51113");
+        MapReport report = testMap.validate();
+        assertTrue(report.isValid());
+        assertTrue(report.getWarnings().isEmpty());
+        assertEquals(7, report.getReachableCount());
+
+        // The dead ends are the ends of the top and bottom corridors.
+        assertEquals(2, report.getDeadEndCount());
+        assertEquals(1*5 + 3, report.getDeadEnd(0));
+        assertEquals(3*5 + 3, report.getDeadEnd(1));
+    }
+
+    // Tests a map without Waka cannot be played.
+    @Test
+    public void testValidateNoWaka(){
+        parseLines("1111",
+                   "2772",
+                   "1111");
+        MapReport report = testMap.validate();
+        assertFalse(report.isValid());
+        assertTrue(report.getErrors().get(0).contains("Waka"));
+    }
+
+    // Tests a map whose border can be walked onto cannot be played, unless the border cannot be reached.
+    @Test
+    public void testValidateBorder(){
+        parseLines("1111",
+                   "2p77",
+                   "1111");
+        MapReport report = testMap.validate();
+        assertFalse(report.isValid());
+        assertTrue(report.getErrors().get(0).contains("row 1, column 3"));
+
+        parseLines("0000",
+                   "1111",
+                   "2p72",
+                   "1111",
+                   "0000");
+        assertTrue(testMap.validate().isValid());
+    }
+
+    // Tests a ghost on the border cannot be played either, even when Waka cannot reach it.
+    @Test
+    public void testValidateGhostBorder(){
+        parseLines("11111",
+                   "2p772",
+                   "11111",
+                   "c7111");
+        MapReport report = testMap.validate();
+        assertFalse(report.isValid());
+        assertEquals(1, report.getWarnings().size());
+    }
+
+    // Tests a map with a fruit that Waka cannot reach cannot be played.
+    @Test
+    public void testValidateUnreachableFruit(){
+        parseLines("111111",
+                   "2p7272",
+                   "111111");
+        MapReport report = testMap.validate();
+        assertFalse(report.isValid());
+        assertTrue(report.getErrors().get(0).startsWith("1 fruits"));
+        assertTrue(report.getErrors().get(0).contains("row 1, column 4"));
+    }
+
+    // Tests a whim needs a chaser to follow.
+    @Test
+    public void testValidateWhimWithoutChaser(){
+        parseLines("11111",
+                   "2p7w2",
+                   "11111");
+        assertFalse(testMap.validate().isValid());
+
+        parseLines("111111",
+                   "2p7wc2",
+                   "111111");
+        assertTrue(testMap.validate().isValid());
+    }
+
+    // Tests a map with more than one Waka, or a ghost that cannot reach Waka, can still be played.
+    @Test
+    public void testValidateWarnings(){
+        parseLines("111111",
+                   "2p7pa2",
+                   "111111",
+                   "2i0002",
+                   "111111");
+        MapReport report = testMap.validate();
+        assertTrue(report.isValid());
+        assertEquals(2, report.getWarnings().size());
+        assertTrue(report.getWarnings().get(1).contains("row 3, column 1"));
+    }
+}
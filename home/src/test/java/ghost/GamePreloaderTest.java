@@ -0,0 +1,141 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+class GamePreloaderTest{
+    private GamePreloader testPreloader;
+    private GameConfig testConfig;
+    private AssetCache testAssets;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testPreloader = new GamePreloader();
+        testConfig = GameConfig.load("config.json");
+        testAssets = new AssetCache();
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testPreloader.close();
+        testPreloader = null;
+        testConfig = null;
+        testAssets = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertFalse(testPreloader.hasNext());
+        assertFalse(testPreloader.isReady());
+    }
+
+    // Tests the game is set up on the background thread and handed over when it is taken.
+    @Test
+    public void testPreload(){
+        testPreloader.preload(testConfig, testAssets, 0, false);
+        assertTrue(testPreloader.hasNext());
+
+        Game game = testPreloader.take();
+        assertTrue(game.isSetUp());
+        assertSame(testConfig, game.getConfig());
+        assertSame(testAssets, game.getAssets());
+        assertEquals(4, game.getGhosts().size());
+        assertFalse(testPreloader.hasNext());
+    }
+
+    // Tests the sprites are loaded in the background from the cache, and the camera is set after the game is taken.
+    @Test
+    public void testPreloadSprites(){
+        testPreloader.preload(testConfig, testAssets, 0, true);
+        Game game = testPreloader.take();
+        assertTrue(game.isSetUp());
+        assertTrue(testAssets.size() >= 18);
+        assertNull(game.getCamera());
+
+        game.setCamera(448, 576);
+        assertNotNull(game.getCamera());
+        assertFalse(game.getCamera().isScrolling());
+    }
+
+    // Tests the game is ready once it has been loaded.
+    @Test
+    public void testIsReady() throws InterruptedException{
+        testPreloader.preload(testConfig, testAssets, 0, false);
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!testPreloader.isReady() && System.currentTimeMillis() < deadline){
+            Thread.sleep(1);
+        }
+        assertTrue(testPreloader.isReady());
+        assertNotNull(testPreloader.take());
+    }
+
+    // Tests a game cannot be taken when none is being loaded.
+    @Test
+    public void testTakeNothing(){
+        assertThrows(IllegalStateException.class, () -> testPreloader.take());
+    }
+
+    // Tests a game loaded again replaces the one before it.
+    @Test
+    public void testPreloadAgain(){
+        GameConfig other = GameConfig.load("testConfig.json");
+        testPreloader.preload(testConfig, testAssets, 0, false);
+        testPreloader.preload(other, testAssets, 0, false);
+        assertSame(other, testPreloader.take().getConfig());
+        assertThrows(IllegalStateException.class, () -> testPreloader.take());
+    }
+
+    // Tests a game that is cancelled cannot be taken.
+    @Test
+    public void testCancel(){
+        testPreloader.preload(testConfig, testAssets, 0, false);
+        testPreloader.cancel();
+        assertFalse(testPreloader.hasNext());
+    }
+
+    // Tests a map that cannot be played is rejected when the game is taken, on the thread that takes it.
+    @Test
+    public void testPreloadBrokenMap(@TempDir Path folder) throws IOException{
+        String config = new String(Files.readAllBytes(Paths.get("config.json")));
+        Path brokenConfig = folder.resolve("config.json");
+        Files.write(brokenConfig, config.replace("map.txt", "map copy.txt").getBytes());
+
+        testPreloader.preload(GameConfig.load(brokenConfig.toString()), testAssets, 0, false);
+        assertThrows(IllegalArgumentException.class, () -> testPreloader.take());
+    }
+
+    // Tests a preloaded game is not set up again by the engine that runs it.
+    @Test
+    public void testEngine(){
+        testPreloader.preload(testConfig, testAssets, 0, false);
+        Game game = testPreloader.take();
+        new Engine(game, null);
+        assertEquals(4, game.getGhosts().size());
+    }
+
+    // Tests a game preloaded in a later frame of the app changes mode on time when run by an engine.
+    @Test
+    public void testEngineAfterFrame(){
+        testPreloader.preload(testConfig, testAssets, 5000, false);
+        Game game = testPreloader.take();
+        Engine engine = new Engine(game, null);
+        assertEquals(5000, engine.getFrameCount());
+
+        int firstMode = (int) testConfig.getModeLength(0)*testConfig.getTickRate();
+        engine.run(firstMode - 1);
+        assertEquals(Mode.SCATTER, game.getGhostState().getMode());
+        engine.step();
+        assertEquals(Mode.CHASE, game.getGhostState().getMode());
+    }
+}
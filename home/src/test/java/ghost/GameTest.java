@@ -35,6 +35,50 @@ class GameTest{
         assertNotNull(new Game(testConfig));
     }
 
+    // Tests a game made from a reader that has parsed a file uses that file, not config.json.
+    @Test
+    public void testParsedConfig(){
+        ConfigReader parsed = new ConfigReader();
+        parsed.parseJSON("testConfig.json");
+        Game game = new Game(parsed);
+        assertEquals("testMap1.txt", game.getConfig().getMapFile());
+        assertEquals(42L, game.getSeed());
+    }
+
+    // Tests the ghosts move at the speed of their type in the config.
+    @Test
+    public void testGhostSpeeds(){
+        Game game = new Game(GameConfig.load("testLevelsConfig.json").getLevel(1));
+        game.setUp(0);
+        for (Ghost ghost : game.getGhosts()){
+            int x = ghost.getX().intValue();
+            int y = ghost.getY().intValue();
+            ghost.move(Direction.RIGHT);
+            int expected = ghost instanceof Chaser ? 4 : 2;
+            assertEquals(expected, ghost.getX().intValue() - x + ghost.getY().intValue() - y);
+        }
+        assertEquals(30, game.getGhostState().getScheduler().getFramesPerSecond());
+    }
+
+    // Tests a game made from a snapshot of the config.
+    @Test
+    public void testGameConfig(){
+        GameConfig config = GameConfig.load("testDirtyConfig.json");
+        Game game = new Game(config);
+        assertSame(config, game.getConfig());
+        assertTrue(game.isDirtyRendering());
+        game.setUp(0);
+        assertEquals(Long.valueOf(3), game.getPlayer().getLivesLeft());
+    }
+
+    // Tests whether the game has been set up.
+    @Test
+    public void testIsSetUp(){
+        assertFalse(testGame.isSetUp());
+        testGame.setUp(0);
+        assertTrue(testGame.isSetUp());
+    }
+
     // Tests setting up the game.
     @Test
     public void testLoadSprites(){
@@ -54,4 +98,10 @@ class GameTest{
         assertEquals(expected, actual);
     }
 
-}
\ No newline at end of file
+    // Tests a game is not set up on a map that cannot be played.
+    @Test
+    public void testSetUpBrokenMap(){
+        testGame.setMapFile("map copy.txt");
+        assertThrows(IllegalArgumentException.class, () -> testGame.setUp(0));
+    }
+}
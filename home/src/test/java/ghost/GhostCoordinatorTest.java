@@ -0,0 +1,122 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+class GhostCoordinatorTest{
+    private GhostCoordinator testCoordinator;
+    private Waka testPlayer;
+    private GameMap testMap;
+    private List<Long> testModeLengths;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testMap = new GameMap();
+        testMap.parseMap("mapChaserTest.txt");
+        testModeLengths = Arrays.asList(2L, 3L);
+        testPlayer = new Waka (3L, 1L, testMap);
+        testCoordinator = new GhostCoordinator(testModeLengths, 3L);
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testMap = null;
+        testModeLengths = null;
+        testPlayer = null;
+        testCoordinator = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new GhostCoordinator(testModeLengths, 3L));
+        assertEquals(Mode.SCATTER, testCoordinator.getMode());
+        assertFalse(testCoordinator.isFrightened());
+        assertFalse(testCoordinator.hasCollide());
+    }
+
+    // Tests the constructors reject mode lengths that would hang or break the scheduler.
+    @Test
+    public void testInvalidModeLengths(){
+        assertThrows(IllegalArgumentException.class, () -> new GhostCoordinator(new ArrayList<Long>(), 3L));
+        assertThrows(IllegalArgumentException.class, () -> new GhostCoordinator(Arrays.asList(0L), 3L));
+        assertThrows(IllegalArgumentException.class, () -> new GhostCoordinator(new long[0], 3, 60, new SplittableRandom(1)));
+    }
+
+    // Tests the mode changes once the mode length has passed.
+    @Test
+    public void testCheckMode(){
+        testCoordinator.setTargetFrame(0);
+        testCoordinator.checkMode(119, testPlayer);
+        assertEquals(Mode.SCATTER, testCoordinator.getMode());
+        testCoordinator.checkMode(120, testPlayer);
+        assertEquals(Mode.CHASE, testCoordinator.getMode());
+        testCoordinator.checkMode(300, testPlayer);
+        assertEquals(Mode.SCATTER, testCoordinator.getMode());
+    }
+
+    // Tests the mode lengths are repeated for as long as the game runs.
+    @Test
+    public void testCheckModeRepeats(){
+        testCoordinator.setTargetFrame(0);
+        for (int frame = 1; frame <= 6000; frame++){
+            testCoordinator.checkMode(frame, testPlayer);
+        }
+        assertEquals(Mode.SCATTER, testCoordinator.getMode());
+        for (int frame = 6001; frame <= 6120; frame++){
+            testCoordinator.checkMode(frame, testPlayer);
+        }
+        assertEquals(Mode.CHASE, testCoordinator.getMode());
+    }
+
+    // Tests the ghosts become frightened after player eats a superfruit, and then recover.
+    @Test
+    public void testCheckFrightened(){
+        testCoordinator.setTargetFrame(0);
+        testPlayer.setLocation(424L, 280L);
+        testPlayer.eatFruit(testPlayer.getCurrentTiles()[0]);
+        testCoordinator.checkMode(10, testPlayer);
+        assertTrue(testCoordinator.isFrightened());
+        testCoordinator.checkMode(190, testPlayer);
+        assertFalse(testCoordinator.isFrightened());
+    }
+
+    // Tests ghosts sharing a coordinator share their mode and frightened state.
+    @Test
+    public void testSharedByGhosts(){
+        Chaser chaser = new Chaser(testMap, 1L, null, testPlayer, testCoordinator, 0, null);
+        Chaser other = new Chaser(testMap, 1L, null, testPlayer, testCoordinator, 0, null);
+        chaser.changeMode();
+        assertEquals(Mode.CHASE, other.getMode());
+        chaser.setFrightened(true);
+        assertTrue(other.isFrightened());
+        assertSame(testCoordinator, other.getCoordinator());
+    }
+
+    // Tests ghosts of different coordinators do not change each other's state.
+    @Test
+    public void testNotSharedBetweenCoordinators(){
+        GhostCoordinator otherCoordinator = new GhostCoordinator(testModeLengths, 3L);
+        Chaser chaser = new Chaser(testMap, 1L, null, testPlayer, testCoordinator, 0, null);
+        Chaser other = new Chaser(testMap, 1L, null, testPlayer, otherCoordinator, 0, null);
+        chaser.changeMode();
+        chaser.setFrightened(true);
+        assertEquals(Mode.SCATTER, other.getMode());
+        assertFalse(other.isFrightened());
+    }
+
+    // Tests a new ghost does not reset the state of existing ghosts.
+    @Test
+    public void testNewGhostKeepsState(){
+        Chaser chaser = new Chaser(testMap, 1L, testPlayer, testModeLengths, 0, 3L);
+        chaser.setFrightened(true);
+        new Chaser(testMap, 1L, testPlayer, testModeLengths, 0, 3L);
+        assertTrue(chaser.isFrightened());
+    }
+}
@@ -548,11 +548,31 @@ class IgnorantTest{
         assertFalse(actual);
     }
 
-    // Tests when a space key is pressed.
+    // Tests a tick of the ghost in Scatter and Chase mode does not allocate on the heap.
     @Test
-    public void spacePressed(){
-        testIgnorant.spaceNotPressed();
-        Boolean actual = testIgnorant.spaceIsPressed();
-        assertFalse(actual);
+    public void tickDoesNotAllocate(){
+        int[] frame = {0};
+        testIgnorant.setTargetFrame(0);
+        long actual = AllocationMeter.bytesPerRun(() -> {
+            frame[0]++;
+            testIgnorant.checkMode(frame[0]);
+            testIgnorant.tick(frame[0]);
+        }, 100000);
+        assertEquals(0L, actual);
     }
-}
\ No newline at end of file
+
+    // Tests a tick of the ghost while frightened does not allocate on the heap.
+    @Test
+    public void frightenedTickDoesNotAllocate(){
+        int[] frame = {0};
+        testIgnorant.setTargetFrame(0);
+        testIgnorant.setFrightened(true);
+        long actual = AllocationMeter.bytesPerRun(() -> {
+            frame[0]++;
+            testIgnorant.tick(frame[0]);
+        }, 100000);
+        assertEquals(0L, actual);
+        assertTrue(testIgnorant.isFrightened());
+    }
+
+}
@@ -0,0 +1,145 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+class MapCompilerTest{
+    private GameMap textMap;
+    private File compiledFile;
+
+    // Setting the objects, and compiling map.txt into a temporary file.
+    @BeforeEach
+    public void setUp() throws IOException{
+        textMap = new GameMap();
+        textMap.parseMap("map.txt");
+        compiledFile = File.createTempFile("map", ".bin");
+        MapCompiler.compile("map.txt", compiledFile);
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        compiledFile.delete();
+        textMap = null;
+        compiledFile = null;
+    }
+
+    // Checks if two maps have the same cells, starting positions and fruits.
+    private void assertSameMap(GameMap expected, GameMap actual){
+        assertEquals(expected.getRowNum(), actual.getRowNum());
+        assertEquals(expected.getColNum(), actual.getColNum());
+        assertEquals(expected.getGridHeight(), actual.getGridHeight());
+        assertEquals(expected.getTotalFruits(), actual.getTotalFruits());
+        for (int i = 0; i < expected.getRowNum()*expected.getColNum(); i++){
+            assertEquals(expected.getCell(i), actual.getCell(i));
+            assertEquals(expected.getOpenMoves(i), actual.getOpenMoves(i));
+        }
+
+        assertEquals(expected.getWakaStart(), actual.getWakaStart());
+        assertEquals(expected.getGhostList(), actual.getGhostList());
+        assertEquals(expected.getCountGhost(), actual.getCountGhost());
+        for (String type : new String[] {"a", "c", "i", "w"}){
+            assertEquals(expected.getGhostStart(type), actual.getGhostStart(type));
+        }
+    }
+
+    // Tests the compiled map starts with its header.
+    @Test
+    public void testCompile(){
+        ByteBuffer bytes = MapCompiler.compile(textMap);
+        assertTrue(MapCompiler.isCompiled(bytes));
+        assertEquals(MapCompiler.MAGIC, bytes.getInt(0));
+        assertEquals(MapCompiler.VERSION, bytes.getInt(4));
+        assertEquals(textMap.getRowNum(), bytes.getInt(8));
+        assertEquals(textMap.getColNum(), bytes.getInt(12));
+        assertEquals(textMap.getTotalFruitCount(), bytes.getInt(16));
+        assertEquals(textMap.getCountGhost() + 1, bytes.getInt(20));
+        assertEquals(24 + bytes.getInt(20)*4 + textMap.getRowNum()*textMap.getColNum()*2, bytes.limit());
+    }
+
+    // Tests a map txt file, and bytes that are too short or of another version, are not compiled maps.
+    @Test
+    public void testIsCompiled() throws IOException{
+        assertFalse(MapCompiler.isCompiled(ByteBuffer.wrap(Files.readAllBytes(new File("map.txt").toPath()))));
+        assertFalse(MapCompiler.isCompiled(ByteBuffer.allocate(4).putInt(0, MapCompiler.MAGIC)));
+
+        ByteBuffer otherVersion = MapCompiler.compile(textMap);
+        otherVersion.putInt(4, MapCompiler.VERSION + 1);
+        assertFalse(MapCompiler.isCompiled(otherVersion));
+    }
+
+    // Tests a compiled map file is loaded the same as the map txt file it was compiled from.
+    @Test
+    public void testLoadFile(){
+        GameMap compiledMap = new GameMap();
+        compiledMap.parseMap(compiledFile.getPath());
+        assertSameMap(textMap, compiledMap);
+    }
+
+    // Tests compiled bytes are loaded the same as the map they were compiled from.
+    @Test
+    public void testLoadBytes(){
+        GameMap compiledMap = new GameMap();
+        compiledMap.parseMap(MapCompiler.compile(textMap));
+        assertSameMap(textMap, compiledMap);
+    }
+
+    // Tests the cells of a loaded map can be changed without changing the compiled file.
+    @Test
+    public void testChangeLoadedMap() throws IOException{
+        byte[] before = Files.readAllBytes(compiledFile.toPath());
+        GameMap compiledMap = new GameMap();
+        compiledMap.parseMap(compiledFile.getPath());
+
+        int fruit = 4*compiledMap.getColNum() + 1;
+        assertEquals("7", compiledMap.getTile(4, 1).getValue());
+        compiledMap.getTile(4, 1).setValue("0");
+        assertEquals("0", compiledMap.getTile(4, 1).getValue());
+        assertEquals(1, compiledMap.getChangedCellCount());
+        assertEquals(fruit, compiledMap.getChangedCell(0));
+
+        // A new wall changes the open moves of its neighbours.
+        assertTrue((compiledMap.getOpenMoves(fruit + 1) & (1 << Direction.LEFT.getValue())) != 0);
+        compiledMap.getTile(4, 1).setValue("1");
+        assertEquals(0, compiledMap.getOpenMoves(fruit + 1) & (1 << Direction.LEFT.getValue()));
+
+        assertArrayEquals(before, Files.readAllBytes(compiledFile.toPath()));
+    }
+
+    // Tests a game played on a compiled map is the same as one played on its map txt file.
+    @Test
+    public void testSameGame(){
+        Game textGame = new Game(new ConfigReader());
+        textGame.setSeed(42);
+        Engine textEngine = new Engine(textGame, frameCount -> Direction.of(1 + (frameCount/60) % 4));
+        Game compiledGame = new Game(new ConfigReader());
+        compiledGame.setSeed(42);
+        compiledGame.setMapFile(compiledFile.getPath());
+        Engine compiledEngine = new Engine(compiledGame, frameCount -> Direction.of(1 + (frameCount/60) % 4));
+
+        textEngine.run(600);
+        compiledEngine.run(600);
+        assertEquals(textGame.getPlayer().getPixelX(), compiledGame.getPlayer().getPixelX());
+        assertEquals(textGame.getPlayer().getPixelY(), compiledGame.getPlayer().getPixelY());
+        for (int i = 0; i < textGame.getGhosts().size(); i++){
+            assertEquals(textGame.getGhosts().get(i).getPixelX(), compiledGame.getGhosts().get(i).getPixelX());
+            assertEquals(textGame.getGhosts().get(i).getPixelY(), compiledGame.getGhosts().get(i).getPixelY());
+        }
+    }
+
+    // Tests a map that cannot be played is not compiled.
+    @Test
+    public void testCompileBrokenMap() throws IOException{
+        File brokenFile = File.createTempFile("broken", ".bin");
+        brokenFile.delete();
+        assertThrows(IllegalArgumentException.class, () -> MapCompiler.compile("map copy.txt", brokenFile));
+        assertFalse(brokenFile.exists());
+    }
+}
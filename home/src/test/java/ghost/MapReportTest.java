@@ -0,0 +1,65 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+class MapReportTest{
+    private MapReport testReport;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testReport = new MapReport();
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testReport = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new MapReport());
+        assertTrue(testReport.isValid());
+        assertTrue(testReport.getErrors().isEmpty());
+        assertTrue(testReport.getWarnings().isEmpty());
+        assertEquals(0, testReport.getDeadEndCount());
+        assertEquals(0, testReport.getReachableCount());
+    }
+
+    // Tests a report with an error is not valid, but one with only warnings is.
+    @Test
+    public void testErrorsAndWarnings(){
+        testReport.addWarning("A warning");
+        assertTrue(testReport.isValid());
+        testReport.addError("An error");
+        assertFalse(testReport.isValid());
+        assertEquals("An error", testReport.getErrors().get(0));
+        assertEquals("A warning", testReport.getWarnings().get(0));
+    }
+
+    // Tests the dead ends are kept in order, however many there are.
+    @Test
+    public void testDeadEnds(){
+        for (int i = 0; i < 100; i++){
+            testReport.addDeadEnd(i*3);
+        }
+        assertEquals(100, testReport.getDeadEndCount());
+        assertEquals(0, testReport.getDeadEnd(0));
+        assertEquals(297, testReport.getDeadEnd(99));
+    }
+
+    // Tests the description of the report.
+    @Test
+    public void testToString(){
+        testReport.addError("An error");
+        testReport.addWarning("A warning");
+        testReport.addDeadEnd(5);
+        testReport.setReachableCount(40);
+        assertEquals("Error: An error\nWarning: A warning\n1 dead ends, 40 reachable cells", testReport.toString());
+    }
+}
@@ -0,0 +1,127 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+class ModeSchedulerTest{
+    private GhostCoordinator testCoordinator;
+    private ModeScheduler testScheduler;
+    private List<Long> testModeLengths;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testModeLengths = Arrays.asList(2L, 3L);
+        testCoordinator = new GhostCoordinator(testModeLengths, 3L);
+        testScheduler = testCoordinator.getScheduler();
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testModeLengths = null;
+        testCoordinator = null;
+        testScheduler = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(new ModeScheduler(testCoordinator, testModeLengths, 3));
+        assertEquals(Long.MAX_VALUE, testScheduler.getNextFrame());
+    }
+
+    // Tests mode lengths that would never change the mode are rejected.
+    @Test
+    public void testInvalidModeLengths(){
+        assertThrows(IllegalArgumentException.class, () -> new ModeScheduler(testCoordinator, new ArrayList<Long>(), 3));
+        assertThrows(IllegalArgumentException.class, () -> new ModeScheduler(testCoordinator, Arrays.asList(2L, 0L), 3));
+        assertThrows(IllegalArgumentException.class, () -> new ModeScheduler(testCoordinator, new long[] {-1}, 3, 60));
+        assertThrows(IllegalArgumentException.class, () -> new ModeScheduler(testCoordinator, new long[] {2}, 3, 0));
+    }
+
+    // Tests starting schedules the end of the first mode.
+    @Test
+    public void testStart(){
+        testScheduler.start(10);
+        assertEquals(130L, testScheduler.getNextFrame());
+    }
+
+    // Tests the mode and frightened lengths are counted in the ticks of a game with its own tick rate.
+    @Test
+    public void testTickRate(){
+        GhostCoordinator coordinator = new GhostCoordinator(new long[] {2, 3}, 3, 30, new SplittableRandom(1));
+        ModeScheduler scheduler = coordinator.getScheduler();
+        assertEquals(30, scheduler.getFramesPerSecond());
+        assertEquals(ModeScheduler.FRAMES_PER_SECOND, testScheduler.getFramesPerSecond());
+
+        scheduler.start(0);
+        assertEquals(60L, scheduler.getNextFrame());
+        scheduler.frighten(0);
+        assertEquals(90L, scheduler.getNextFrame());
+        scheduler.advance(90);
+        assertFalse(coordinator.isFrightened());
+        assertEquals(150L, scheduler.getNextFrame());
+    }
+
+    // Tests the mode changes once when its frame is reached, and the next change is scheduled.
+    @Test
+    public void testAdvance(){
+        testScheduler.start(0);
+        testScheduler.advance(119);
+        assertEquals(Mode.SCATTER, testCoordinator.getMode());
+        testScheduler.advance(120);
+        assertEquals(Mode.CHASE, testCoordinator.getMode());
+        testScheduler.advance(120);
+        assertEquals(Mode.CHASE, testCoordinator.getMode());
+        assertEquals(300L, testScheduler.getNextFrame());
+    }
+
+    // Tests the transitions that are skipped over all fire in order.
+    @Test
+    public void testAdvanceOverSeveral(){
+        testScheduler.start(0);
+        testScheduler.advance(420);
+        assertEquals(Mode.CHASE, testCoordinator.getMode());
+        assertEquals(600L, testScheduler.getNextFrame());
+    }
+
+    // Tests the mode lengths are repeated after the last one.
+    @Test
+    public void testModeLengthsRepeat(){
+        testScheduler.start(0);
+        for (int i = 0; i < 40; i++){
+            testScheduler.advance((int) testScheduler.getNextFrame());
+        }
+        assertEquals(Mode.SCATTER, testCoordinator.getMode());
+        assertEquals(6120L, testScheduler.getNextFrame());
+    }
+
+    // Tests frightening schedules its end and puts off the next change of mode.
+    @Test
+    public void testFrighten(){
+        testScheduler.start(0);
+        assertTrue(testScheduler.frighten(60));
+        assertTrue(testCoordinator.isFrightened());
+        assertEquals(240L, testScheduler.getNextFrame());
+
+        testScheduler.advance(240);
+        assertFalse(testCoordinator.isFrightened());
+        assertEquals(Mode.SCATTER, testCoordinator.getMode());
+        assertEquals(300L, testScheduler.getNextFrame());
+    }
+
+    // Tests frightening ghosts that are already frightened does nothing.
+    @Test
+    public void testFrightenTwice(){
+        testScheduler.start(0);
+        testScheduler.frighten(60);
+        assertFalse(testScheduler.frighten(100));
+        testScheduler.advance(240);
+        assertFalse(testCoordinator.isFrightened());
+    }
+}
@@ -0,0 +1,101 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+class SimulationThreadTest{
+    private Game testGame;
+    private SimulationThread testSimulation;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testGame = new Game(new ConfigReader());
+        testSimulation = new SimulationThread(testGame, 600);
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testSimulation.stop();
+        testGame = null;
+        testSimulation = null;
+    }
+
+    // Waits until the simulation has published a snapshot of a frame, or a few seconds have passed.
+    private WorldSnapshot waitForFrame(int frame) throws InterruptedException{
+        long deadline = System.currentTimeMillis() + 5000;
+        WorldSnapshot snapshot = testSimulation.getSnapshot();
+        while (snapshot.getFrame() < frame && System.currentTimeMillis() < deadline){
+            Thread.sleep(1);
+            snapshot = testSimulation.getSnapshot();
+        }
+        return snapshot;
+    }
+
+    // Tests the constructor sets up the game and publishes its first snapshot.
+    @Test
+    public void testConstructor(){
+        assertNotNull(testSimulation.getSnapshot());
+        assertEquals(0, testSimulation.getSnapshot().getFrame());
+        assertEquals(Status.PLAYING, testSimulation.getSnapshot().getStatus());
+        assertFalse(testSimulation.isRunning());
+    }
+
+    // Tests the game runs on its own thread and publishes newer snapshots.
+    @Test
+    public void testRun() throws InterruptedException{
+        WorldSnapshot first = testSimulation.getSnapshot();
+        testSimulation.start();
+        assertTrue(testSimulation.isRunning());
+        WorldSnapshot later = waitForFrame(60);
+
+        assertTrue(later.getFrame() >= 60);
+        assertNotSame(first, later);
+        assertEquals(0, first.getFrame());
+    }
+
+    // Tests stopping the game stops its thread and its snapshots.
+    @Test
+    public void testStop() throws InterruptedException{
+        testSimulation.start();
+        waitForFrame(10);
+        testSimulation.stop();
+        assertFalse(testSimulation.isRunning());
+
+        WorldSnapshot stopped = testSimulation.getSnapshot();
+        Thread.sleep(20);
+        assertSame(stopped, testSimulation.getSnapshot());
+    }
+
+    // Tests the key inputs and debug mode given by the drawing thread reach the game.
+    @Test
+    public void testInputs() throws InterruptedException{
+        testSimulation.start();
+        testSimulation.keyReleased(Direction.LEFT);
+        testSimulation.toggleDebug();
+        int frame = testSimulation.getSnapshot().getFrame();
+        waitForFrame(frame + 10);
+        testSimulation.stop();
+
+        assertTrue(testGame.getDebugOverlay().isEnabled());
+        assertEquals(Direction.LEFT, testGame.getPlayer().getMoveDirection());
+    }
+
+    // Tests the thread ends by itself when the game is lost, with the last snapshot showing it.
+    @Test
+    public void testGameLost() throws InterruptedException{
+        for (int i = 0; i < 4; i++){
+            testGame.getPlayer().loseLife();
+        }
+        testSimulation.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (testSimulation.isRunning() && System.currentTimeMillis() < deadline){
+            Thread.sleep(1);
+        }
+        assertFalse(testSimulation.isRunning());
+        assertEquals(Status.LOSE, testSimulation.getSnapshot().getStatus());
+    }
+}
@@ -0,0 +1,110 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import processing.core.PImage;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+class SpriteAtlasTest{
+    private SpriteAtlas testAtlas;
+
+    // Packs the sprites of the game into an atlas in memory.
+    private SpriteAtlas packResources() throws IOException{
+        AtlasPacker packer = new AtlasPacker();
+        packer.addDirectory(new File("src/main/resources"));
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        ImageIO.write(packer.pack(), "png", image);
+        String index = String.join("\n", packer.getIndex());
+        return new SpriteAtlas(new ByteArrayInputStream(image.toByteArray()), 
+                               new ByteArrayInputStream(index.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp() throws IOException{
+        testAtlas = packResources();
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testAtlas = null;
+    }
+
+    // Tests the constructor.
+    @Test
+    public void testConstructor(){
+        assertNotNull(testAtlas);
+        assertTrue(testAtlas.getNames().contains("horizontal"));
+        assertTrue(testAtlas.getNames().contains("gameover - Copy"));
+        assertNull(testAtlas.get("missing"));
+    }
+
+    // Tests every sprite is cut out of the atlas with the same pixels as its file.
+    @Test
+    public void testSpritesMatchFiles() throws IOException{
+        for (String name : testAtlas.getNames()){
+            BufferedImage file = ImageIO.read(new File("src/main/resources/" + name + ".png"));
+            PImage sprite = testAtlas.get(name);
+            assertEquals(file.getWidth(), sprite.width);
+            assertEquals(file.getHeight(), sprite.height);
+            for (int y = 0; y < file.getHeight(); y++){
+                for (int x = 0; x < file.getWidth(); x++){
+                    int expected = file.getRGB(x, y);
+                    int actual = sprite.pixels[y*sprite.width + x];
+                    // Fully transparent pixels can have any colour.
+                    if ((expected >>> 24) != 0 || (actual >>> 24) != 0){
+                        assertEquals(expected, actual, name + " at " + x + ", " + y);
+                    }
+                }
+            }
+        }
+    }
+
+    // Tests an index with a bad line cannot be read.
+    @Test
+    public void testBadIndex() throws IOException{
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB), "png", image);
+        assertThrows(IOException.class, () -> new SpriteAtlas(new ByteArrayInputStream(image.toByteArray()), 
+                                                              new ByteArrayInputStream("0 0 1".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    // Tests loading the atlas from the classpath, which is only there once it has been packed.
+    @Test
+    public void testLoad(){
+        if (SpriteAtlas.class.getClassLoader().getResource(SpriteAtlas.IMAGE) == null){
+            assertNull(SpriteAtlas.load());
+        }else{
+            assertNotNull(SpriteAtlas.load().get("horizontal"));
+        }
+    }
+
+    // Tests the sprites are found on the classpath whether or not the atlas has been packed.
+    @Test
+    public void testFromClasspath(){
+        SpriteAtlas atlas = SpriteAtlas.fromClasspath();
+        PImage sprite = atlas.get("horizontal");
+        assertNotNull(sprite);
+        assertSame(sprite, atlas.get("horizontal"));
+        assertNull(atlas.get("notExist"));
+    }
+
+    // Tests a sprite is loaded from its own png file on the classpath.
+    @Test
+    public void testLoadSprite(){
+        PImage sprite = SpriteAtlas.loadSprite("fruit");
+        assertNotNull(sprite);
+        assertTrue(sprite.width > 0 && sprite.height > 0);
+        assertNull(SpriteAtlas.loadSprite("notExist"));
+    }
+}
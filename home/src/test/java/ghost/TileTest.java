@@ -107,6 +107,38 @@ class TileTest{
         assertEquals(expected, actual);
     }
 
+    // Tests converting positions on and around the edge of a Tile into rows and columns.
+    @Test
+    public void tileToIndex(){
+        assertEquals(0, Tile.toIndex(0, 16));
+        assertEquals(0, Tile.toIndex(16, 16));
+        assertEquals(1, Tile.toIndex(17, 16));
+        assertEquals(1, Tile.toIndex(32, 16));
+        assertEquals(2, Tile.toIndex(33, 16));
+        assertEquals(0, Tile.toIndex(24, 0));
+    }
+
+    // Tests the type of the tile and its flags.
+    @Test
+    public void tileType(){
+        assertEquals(TileType.HORIZONTAL, testTile.getType());
+        testTile.setValue("8");
+        assertEquals(TileType.SUPERFRUIT, testTile.getType());
+        assertEquals(TileType.OTHER, TileType.fromValue("g"));
+        assertEquals(TileType.OTHER, TileType.fromValue(null));
+        assertEquals(TileType.WHIM, TileType.fromSymbol('w'));
+    }
+
+    // Tests the superfruit state is kept when the value of the tile changes.
+    @Test
+    public void tileSuperKeptOnSetValue(){
+        testTile.setValue("8");
+        testTile.setAsSuper(true);
+        testTile.setValue("0");
+        assertTrue(testTile.isSuperfruit());
+        assertFalse(testTile.hasFruit());
+    }
+
     // Tests checking if empty space is wall.
     @Test
     public void tileCheckWall0(){
@@ -587,4 +587,60 @@ class WakaTest{
 
     }
 
-}
\ No newline at end of file
+    // Tests the available moves are the bits of the directions of the surrounding tiles that are not walls.
+    @Test
+    public void testAvailableMoves(){
+        Tile[] currentTiles = testPlayer.getCurrentTiles();
+        int expected = 0;
+        for (int i = 1; i < currentTiles.length; i++){
+            if (!currentTiles[i].isWall()){
+                expected |= 1 << i;
+            }
+        }
+        assertEquals(expected, testPlayer.getAvailableMoves(currentTiles));
+        assertEquals(0, testPlayer.getAvailableMoves(null));
+    }
+
+    // Tests the movement and key input are checked against the bitmask of the available moves.
+    @Test
+    public void moveAndKeyValidMoves(){
+        int available = (1 << Direction.UP.getValue()) | (1 << Direction.RIGHT.getValue());
+        assertTrue(testPlayer.checkMoveIsValid(available));
+        assertFalse(testPlayer.checkMoveIsValid(1 << Direction.DOWN.getValue()));
+
+        testPlayer.setKeyQueue(Direction.UP);
+        assertTrue(testPlayer.checkKeyIsValid(available));
+        testPlayer.setKeyQueue(Direction.LEFT);
+        assertFalse(testPlayer.checkKeyIsValid(available));
+        testPlayer.setKeyQueue(Direction.NEUTRAL);
+        assertFalse(testPlayer.checkKeyIsValid(available));
+    }
+
+    // Tests a whole tick of Waka, moving it with key inputs and eating fruits, does not allocate on the heap.
+    @Test
+    public void tickDoesNotAllocate(){
+        testPlayer.setKeyIsReleased(true);
+        long actual = AllocationMeter.bytesPerRun(() -> {
+            testPlayer.setKeyQueue(Direction.LEFT);
+            testPlayer.tick(1);
+            testPlayer.setKeyQueue(Direction.RIGHT);
+            testPlayer.tick(2);
+            testPlayer.tick(3);
+        }, 100000);
+        assertEquals(0L, actual);
+    }
+
+    // Tests moving and checking if player has won do not allocate on the heap.
+    @Test
+    public void moveDoesNotAllocate(){
+        Tile current = testMap.getGrid().get(21).get(1);
+        long actual = AllocationMeter.bytesPerRun(() -> {
+            testPlayer.move(Direction.LEFT);
+            testPlayer.move(Direction.RIGHT);
+            testPlayer.isAtMidPoint(current);
+            testPlayer.checkPlayerHasWon();
+        }, 100000);
+        assertEquals(0L, actual);
+    }
+
+}
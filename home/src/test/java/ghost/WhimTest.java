@@ -627,12 +627,31 @@ class WhimTest{
         assertFalse(actual);
     }
 
-    // Tests when a space key is pressed.
+    // Tests a tick of the ghost in Scatter and Chase mode does not allocate on the heap.
     @Test
-    public void spacePressed(){
-        testWhim.spaceNotPressed();
-        Boolean actual = testWhim.spaceIsPressed();
-        assertFalse(actual);
+    public void tickDoesNotAllocate(){
+        int[] frame = {0};
+        testWhim.setTargetFrame(0);
+        long actual = AllocationMeter.bytesPerRun(() -> {
+            frame[0]++;
+            testWhim.checkMode(frame[0]);
+            testWhim.tick(frame[0]);
+        }, 100000);
+        assertEquals(0L, actual);
+    }
+
+    // Tests a tick of the ghost while frightened does not allocate on the heap.
+    @Test
+    public void frightenedTickDoesNotAllocate(){
+        int[] frame = {0};
+        testWhim.setTargetFrame(0);
+        testWhim.setFrightened(true);
+        long actual = AllocationMeter.bytesPerRun(() -> {
+            frame[0]++;
+            testWhim.tick(frame[0]);
+        }, 100000);
+        assertEquals(0L, actual);
+        assertTrue(testWhim.isFrightened());
     }
 
 }
@@ -0,0 +1,86 @@
+package ghost;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+class WorldSnapshotTest{
+    private Game testGame;
+    private Engine testEngine;
+
+    // Setting the objects.
+    @BeforeEach
+    public void setUp(){
+        testGame = new Game(new ConfigReader());
+        testEngine = new Engine(testGame, null);
+    }
+
+    // Tearing down the objects.
+    @AfterEach
+    public void tearDown(){
+        testGame = null;
+        testEngine = null;
+    }
+
+    // Tests the snapshot has the game as it is when it is taken.
+    @Test
+    public void testConstructor(){
+        testEngine.run(30);
+        WorldSnapshot snapshot = new WorldSnapshot(testGame, 30);
+        GameMap map = testGame.getMap();
+
+        assertEquals(30, snapshot.getFrame());
+        assertEquals(map.getRowNum(), snapshot.getRowNum());
+        assertEquals(map.getColNum(), snapshot.getColNum());
+        assertEquals(16, snapshot.getTileSize());
+        assertEquals(map.getCell(100), snapshot.getCell(100));
+        assertEquals(testGame.getPlayer().getPixelX(), snapshot.getPlayerX());
+        assertEquals(testGame.getPlayer().getPixelY(), snapshot.getPlayerY());
+        assertEquals(testGame.getPlayer().getFace(), snapshot.getPlayerFace());
+        assertEquals(3, snapshot.getLives());
+        assertEquals(4, snapshot.getGhostCount());
+        for (int i = 0; i < snapshot.getGhostCount(); i++){
+            assertEquals(testGame.getGhosts().get(i).getPixelX(), snapshot.getGhostX(i));
+            assertEquals(testGame.getGhosts().get(i).getPixelY(), snapshot.getGhostY(i));
+            assertFalse(snapshot.isGhostInvisible(i));
+        }
+        assertFalse(snapshot.isFrightened());
+    }
+
+    // Tests the type of each ghost is kept.
+    @Test
+    public void testGhostTypes(){
+        WorldSnapshot snapshot = new WorldSnapshot(testGame, 0);
+        String types = "";
+        for (int i = 0; i < snapshot.getGhostCount(); i++){
+            types += snapshot.getGhostType(i);
+        }
+        assertEquals(4, types.length());
+        assertTrue(types.contains("a") && types.contains("c") && types.contains("i") && types.contains("w"));
+    }
+
+    // Tests the snapshot does not change when the game keeps running.
+    @Test
+    public void testUnchangedByGame(){
+        WorldSnapshot snapshot = new WorldSnapshot(testGame, 0);
+        int ghostX = snapshot.getGhostX(0);
+        byte cell = snapshot.getCell(4*snapshot.getColNum() + 1);
+
+        testEngine.run(60);
+        testGame.getMap().getTile(4, 1).setValue("0");
+        testGame.getGhostState().setFrightened(true);
+
+        assertEquals(ghostX, snapshot.getGhostX(0));
+        assertEquals(cell, snapshot.getCell(4*snapshot.getColNum() + 1));
+        assertFalse(snapshot.isFrightened());
+    }
+
+    // Tests the snapshot keeps the mode of the ghosts and the status of the game.
+    @Test
+    public void testModeAndStatus(){
+        WorldSnapshot snapshot = new WorldSnapshot(testGame, 0);
+        assertEquals(testGame.getGhostState().getMode(), snapshot.getMode());
+        assertEquals(Status.PLAYING, snapshot.getStatus());
+    }
+}